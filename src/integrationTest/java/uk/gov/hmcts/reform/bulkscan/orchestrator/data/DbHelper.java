@@ -30,6 +30,9 @@ public class DbHelper {
 
     public void deleteAll() {
         jdbcTemplate.update("DELETE FROM callback_result", new MapSqlParameterSource());
+        jdbcTemplate.update("DELETE FROM envelope_processing_step", new MapSqlParameterSource());
+        jdbcTemplate.update("DELETE FROM processed_envelope_outbox", new MapSqlParameterSource());
+        jdbcTemplate.update("DELETE FROM document_hash", new MapSqlParameterSource());
     }
 
     public List<CallbackResult> getAllCallbackResults() {
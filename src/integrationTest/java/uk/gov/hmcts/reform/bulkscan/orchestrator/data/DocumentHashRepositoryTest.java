@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.config.IntegrationTest;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.documenthash.DocumentHashRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@ActiveProfiles({"nosb", "db-test"})
+@IntegrationTest
+public class DocumentHashRepositoryTest {
+
+    @Autowired private DocumentHashRepository repo;
+    @Autowired private DbHelper dbHelper;
+
+    @BeforeEach
+    void setUp() {
+        dbHelper.deleteAll();
+    }
+
+    @Test
+    void should_find_stored_hashes_of_documents() {
+        // given
+        repo.insert(Map.of("uuid1", "hash1", "uuid2", "hash2"));
+
+        // when
+        var hashes = repo.findByDocumentUuids(List.of("uuid1", "uuid3"));
+
+        // then
+        assertThat(hashes).containsOnly(entry("uuid1", "hash1"));
+    }
+
+    @Test
+    void should_keep_first_hash_when_document_is_stored_again() {
+        // given
+        repo.insert(Map.of("uuid1", "hash1"));
+
+        // when
+        repo.insert(Map.of("uuid1", "hash2"));
+
+        // then
+        assertThat(repo.findByDocumentUuids(List.of("uuid1"))).containsOnly(entry("uuid1", "hash1"));
+    }
+}
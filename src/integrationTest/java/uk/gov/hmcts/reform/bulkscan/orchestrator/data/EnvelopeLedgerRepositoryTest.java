@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.config.IntegrationTest;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.CASE_CREATED;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.PAYMENT_SENT;
+
+@ActiveProfiles({"nosb", "db-test"})
+@IntegrationTest
+public class EnvelopeLedgerRepositoryTest {
+
+    private static final String ENVELOPE_ID_1 = "ENVELOPE_ID_1";
+    private static final String ENVELOPE_ID_2 = "ENVELOPE_ID_2";
+
+    @Autowired private EnvelopeLedgerRepository repo;
+    @Autowired private DbHelper dbHelper;
+
+    @BeforeEach
+    void setUp() {
+        dbHelper.deleteAll();
+    }
+
+    @Test
+    void should_record_steps_of_envelope() {
+        // when
+        boolean caseCreatedInserted = repo.insert(ENVELOPE_ID_1, CASE_CREATED, 123L);
+        boolean paymentSentInserted = repo.insert(ENVELOPE_ID_1, PAYMENT_SENT, 123L);
+        repo.insert(ENVELOPE_ID_2, CASE_CREATED, 456L);
+
+        // then
+        assertThat(caseCreatedInserted).isTrue();
+        assertThat(paymentSentInserted).isTrue();
+        assertThat(repo.findByEnvelopeId(ENVELOPE_ID_1))
+            .extracting(entry -> tuple(entry.envelopeId, entry.step, entry.ccdId))
+            .containsExactlyInAnyOrder(
+                tuple(ENVELOPE_ID_1, CASE_CREATED, 123L),
+                tuple(ENVELOPE_ID_1, PAYMENT_SENT, 123L)
+            );
+    }
+
+    @Test
+    void should_keep_first_record_when_step_is_recorded_again() {
+        // given
+        repo.insert(ENVELOPE_ID_1, CASE_CREATED, 123L);
+
+        // when
+        boolean inserted = repo.insert(ENVELOPE_ID_1, CASE_CREATED, 456L);
+
+        // then
+        assertThat(inserted).isFalse();
+        assertThat(repo.findByEnvelopeId(ENVELOPE_ID_1))
+            .extracting(entry -> tuple(entry.step, entry.ccdId))
+            .containsExactly(tuple(CASE_CREATED, 123L));
+    }
+
+    @Test
+    void should_not_find_steps_of_unknown_envelope() {
+        // given
+        repo.insert(ENVELOPE_ID_1, CASE_CREATED, 123L);
+
+        // when
+        var entries = repo.findByEnvelopeId("WRONG_ENVELOPE_ID");
+
+        // then
+        assertThat(entries).isEmpty();
+    }
+}
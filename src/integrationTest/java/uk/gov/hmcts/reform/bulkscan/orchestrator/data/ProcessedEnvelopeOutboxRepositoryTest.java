@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.config.IntegrationTest;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.processedenvelopeoutbox.ProcessedEnvelopeOutboxRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction.AUTO_CREATED_CASE;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction.EXCEPTION_RECORD;
+
+@ActiveProfiles({"nosb", "db-test"})
+@IntegrationTest
+public class ProcessedEnvelopeOutboxRepositoryTest {
+
+    private static final String ENVELOPE_ID_1 = "ENVELOPE_ID_1";
+    private static final String ENVELOPE_ID_2 = "ENVELOPE_ID_2";
+
+    @Autowired private ProcessedEnvelopeOutboxRepository repo;
+    @Autowired private DbHelper dbHelper;
+
+    @BeforeEach
+    void setUp() {
+        dbHelper.deleteAll();
+    }
+
+    @Test
+    void should_store_one_notification_per_envelope() {
+        // when
+        boolean firstInserted = repo.insert(ENVELOPE_ID_1, 123L, AUTO_CREATED_CASE);
+        boolean secondInserted = repo.insert(ENVELOPE_ID_1, 456L, EXCEPTION_RECORD);
+
+        // then
+        assertThat(firstInserted).isTrue();
+        assertThat(secondInserted).isFalse();
+        assertThat(repo.findOldestForUpdate(10))
+            .extracting(entry -> tuple(entry.envelopeId, entry.ccdId, entry.envelopeCcdAction))
+            .containsExactly(tuple(ENVELOPE_ID_1, 123L, AUTO_CREATED_CASE));
+    }
+
+    @Test
+    void should_find_limited_number_of_notifications() {
+        // given
+        repo.insert(ENVELOPE_ID_1, 123L, AUTO_CREATED_CASE);
+        repo.insert(ENVELOPE_ID_2, 456L, EXCEPTION_RECORD);
+
+        // when
+        var entries = repo.findOldestForUpdate(1);
+
+        // then
+        assertThat(entries).hasSize(1);
+    }
+
+    @Test
+    void should_delete_given_notifications() {
+        // given
+        repo.insert(ENVELOPE_ID_1, 123L, AUTO_CREATED_CASE);
+        repo.insert(ENVELOPE_ID_2, 456L, EXCEPTION_RECORD);
+
+        // when
+        int deleted = repo.delete(List.of(ENVELOPE_ID_1));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repo.findOldestForUpdate(10))
+            .extracting(entry -> entry.envelopeId)
+            .containsExactly(ENVELOPE_ID_2);
+    }
+}
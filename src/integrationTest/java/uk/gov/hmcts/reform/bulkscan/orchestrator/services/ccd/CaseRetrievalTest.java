@@ -11,6 +11,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd.CcdSearchApi;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.config.IntegrationTest;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.config.ServiceConfigItem;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.CcdCallException;
@@ -18,6 +19,7 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.services.config.ServiceConfigPr
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 
+import java.time.Duration;
 import java.util.List;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
@@ -51,6 +53,9 @@ class CaseRetrievalTest {
     @Autowired
     private CoreCaseDataApi coreCaseDataApi;
 
+    @Autowired
+    private CcdSearchApi ccdSearchApi;
+
     @MockitoSpyBean
     private ServiceConfigProvider serviceConfigProvider;
 
@@ -66,7 +71,15 @@ class CaseRetrievalTest {
     @BeforeEach
     public void setUp() {
         WireMock.reset();
-        ccdApi = new CcdApi(coreCaseDataApi, authenticatorFactory, serviceConfigProvider);
+        ccdApi = new CcdApi(
+            coreCaseDataApi,
+            ccdSearchApi,
+            authenticatorFactory,
+            serviceConfigProvider,
+            new CcdCaseCache(false, Duration.ofSeconds(10), 100),
+            new CcdReadHedging(false, 0.95, Duration.ofMillis(50), 0.05, false),
+            new CcdConflictRetry(0, Duration.ZERO)
+        );
     }
 
     @Test
@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.config.FormFieldMapping;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.config.ServiceConfigItem;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.config.ServiceConfiguration;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.config.ServiceConfigProvider;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeParser;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Classification;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Document;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic envelopes and case data for benchmarks, sized by the number of documents and OCR fields.
+ *
+ * <p>Document with index i has control number {@code dcn-i} and UUID {@code uuid-i}, both in envelopes
+ * and in case data, so that they can be matched against each other.</p>
+ */
+public final class BenchmarkData {
+
+    public static final String SERVICE = "bulkscan";
+    public static final String JURISDICTION = "BULKSCAN";
+    public static final String FORM_TYPE = "PERSONAL";
+    public static final String SURNAME_OCR_FIELD = "last_name";
+    public static final String EXCEPTION_RECORD_ID = "1539007368674134";
+
+    private static final String SCANNED_AT = "2024-01-01T10:00:00.000Z";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BenchmarkData() {
+        // utility class
+    }
+
+    /**
+     * Envelope message with given number of documents and OCR fields, the surname field being the last one.
+     */
+    public static String envelopeJson(int documentCount, int ocrFieldCount, Classification classification) {
+        ObjectNode envelope = objectMapper.createObjectNode()
+            .put("id", "envelope-id")
+            .put("case_ref", EXCEPTION_RECORD_ID)
+            .put("po_box", "BULKSCAN PO BOX")
+            .put("jurisdiction", JURISDICTION)
+            .put("container", SERVICE)
+            .put("zip_file_name", "file.zip")
+            .put("form_type", FORM_TYPE)
+            .put("delivery_date", SCANNED_AT)
+            .put("opening_date", SCANNED_AT)
+            .put("classification", classification.name());
+
+        ArrayNode documents = envelope.putArray("documents");
+        for (int i = 0; i < documentCount; i++) {
+            documents.addObject()
+                .put("file_name", "file-" + i + ".pdf")
+                .put("control_number", "dcn-" + i)
+                .put("type", "other")
+                .put("subtype", "subtype")
+                .put("scanned_at", SCANNED_AT)
+                .put("uuid", "uuid-" + i);
+        }
+
+        ArrayNode ocrData = envelope.putArray("ocr_data");
+        for (int i = 0; i < ocrFieldCount; i++) {
+            ocrData.addObject()
+                .put("metadata_field_name", i == ocrFieldCount - 1 ? SURNAME_OCR_FIELD : "field_" + i)
+                .put("metadata_field_value", "value " + i);
+        }
+
+        envelope.putArray("ocr_data_validation_warnings").add("warning");
+        return envelope.toString();
+    }
+
+    public static Envelope envelope(int documentCount, int ocrFieldCount, Classification classification) {
+        return EnvelopeParser.parse(envelopeJson(documentCount, ocrFieldCount, classification));
+    }
+
+    public static List<Document> documents(int count) {
+        List<Document> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(new Document(
+                "file-" + i + ".pdf",
+                "dcn-" + i,
+                "other",
+                "subtype",
+                Instant.parse(SCANNED_AT),
+                "uuid-" + i,
+                Instant.parse(SCANNED_AT)
+            ));
+        }
+        return documents;
+    }
+
+    /**
+     * Scanned documents collection in the raw format read from CCD.
+     */
+    public static List<Map<String, Object>> scannedDocuments(int count, String exceptionRecordReference) {
+        List<Map<String, Object>> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> document = new HashMap<>();
+            document.put("fileName", "file-" + i + ".pdf");
+            document.put("controlNumber", "dcn-" + i);
+            document.put("type", "other");
+            document.put("subtype", "subtype");
+            document.put("scannedDate", "2024-01-01T10:00:00");
+            document.put("deliveryDate", "2024-01-01T10:00:00");
+            document.put("url", Map.of("document_url", "http://localhost/documents/uuid-" + i));
+            document.put("exceptionRecordReference", exceptionRecordReference);
+            documents.add(Map.of("value", document));
+        }
+        return documents;
+    }
+
+    /**
+     * Envelope references collection in the raw format read from CCD.
+     */
+    public static List<Map<String, Object>> envelopeReferences(int count) {
+        List<Map<String, Object>> references = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            references.add(Map.of("value", Map.of("id", "envelope-" + i, "action", "update")));
+        }
+        return references;
+    }
+
+    public static ServiceConfigProvider serviceConfigProvider() {
+        FormFieldMapping surnameMapping = new FormFieldMapping();
+        surnameMapping.setFormType(FORM_TYPE);
+        surnameMapping.setOcrFields(List.of(SURNAME_OCR_FIELD));
+
+        ServiceConfigItem service = new ServiceConfigItem();
+        service.setService(SERVICE);
+        service.setJurisdiction(JURISDICTION);
+        service.setCaseTypeIds(List.of("Bulk_Scanned"));
+        service.setCaseDefinitionHasEnvelopeIds(true);
+        service.setFormTypeToSurnameOcrFieldMappings(List.of(surnameMapping));
+
+        ServiceConfiguration serviceConfiguration = new ServiceConfiguration();
+        serviceConfiguration.setServices(List.of(service));
+        return new ServiceConfigProvider(serviceConfiguration);
+    }
+}
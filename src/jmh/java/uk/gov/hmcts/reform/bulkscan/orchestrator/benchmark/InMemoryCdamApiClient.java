@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark;
+
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.cdam.CdamApiClient;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Document;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Returns document hashes without calling CDAM, so that benchmarks measure the mapping only.
+ */
+public class InMemoryCdamApiClient extends CdamApiClient {
+
+    public InMemoryCdamApiClient() {
+        super(null, null, null, null, 1, false);
+    }
+
+    @Override
+    public Map<String, String> getDocumentHash(String jurisdiction, List<Document> documentList) {
+        Map<String, String> hashTokens = new HashMap<>();
+        for (Document document : documentList) {
+            if (document != null) {
+                hashTokens.put(document.uuid, hash(document.uuid));
+            }
+        }
+        return hashTokens;
+    }
+
+    @Override
+    public Map<String, String> getDocumentHashes(String jurisdiction, Collection<String> documentUuids) {
+        Map<String, String> hashTokens = new HashMap<>();
+        for (String uuid : documentUuids) {
+            hashTokens.put(uuid, hash(uuid));
+        }
+        return hashTokens;
+    }
+
+    @Override
+    public String getDocumentHash(String jurisdiction, String uuid) {
+        return hash(uuid);
+    }
+
+    private static String hash(String uuid) {
+        return "hash-" + uuid;
+    }
+}
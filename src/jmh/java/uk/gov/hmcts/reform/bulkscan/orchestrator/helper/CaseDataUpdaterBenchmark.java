@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark.BenchmarkData;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark.InMemoryCdamApiClient;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.CaseAction;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.EnvelopeReferenceHelper;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.definition.ExceptionRecordFields.SCANNED_DOCUMENTS;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.definition.ServiceCaseFields.BULK_SCAN_ENVELOPES;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Classification.NEW_APPLICATION;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CaseDataUpdaterBenchmark {
+
+    // number of documents in the envelope and the case, and number of envelope references in the case
+    @Param({"1", "50", "500", "2000"})
+    private int size;
+
+    private CaseDataUpdater caseDataUpdater;
+    private Envelope envelope;
+    private Map<String, Object> transformedCaseData;
+    private Map<String, Object> existingCaseData;
+
+    @Setup
+    public void setUp() {
+        caseDataUpdater = new CaseDataUpdater(
+            new EnvelopeReferenceHelper(new ObjectMapper(), BenchmarkData.serviceConfigProvider()),
+            new InMemoryCdamApiClient()
+        );
+        envelope = BenchmarkData.envelope(size, 0, NEW_APPLICATION);
+        transformedCaseData = Map.of(SCANNED_DOCUMENTS, BenchmarkData.scannedDocuments(size, null));
+        existingCaseData = Map.of(BULK_SCAN_ENVELOPES, BenchmarkData.envelopeReferences(size));
+    }
+
+    @Benchmark
+    public Map<String, Object> setDocumentHash() {
+        return caseDataUpdater.setDocumentHash(envelope, transformedCaseData);
+    }
+
+    @Benchmark
+    public Map<String, Object> updateEnvelopeReferences() {
+        return caseDataUpdater.updateEnvelopeReferences(
+            transformedCaseData,
+            envelope.id,
+            CaseAction.UPDATE,
+            existingCaseData
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.helper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark.BenchmarkData;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Document;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.definition.ExceptionRecordFields.SCANNED_DOCUMENTS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScannedDocumentsHelperBenchmark {
+
+    // number of documents in the case
+    @Param({"1", "50", "500", "2000"})
+    private int size;
+
+    private CaseDetails caseDetails;
+
+    @Setup
+    public void setUp() {
+        caseDetails = CaseDetails
+            .builder()
+            .data(Map.of(SCANNED_DOCUMENTS, BenchmarkData.scannedDocuments(size, BenchmarkData.EXCEPTION_RECORD_ID)))
+            .build();
+    }
+
+    @Benchmark
+    public List<Document> getDocuments() {
+        return ScannedDocumentsHelper.getDocuments(caseDetails);
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.mappers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark.BenchmarkData;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark.InMemoryCdamApiClient;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
+
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Classification.EXCEPTION;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExceptionRecordMapperBenchmark {
+
+    // number of documents and of OCR fields in the envelope
+    @Param({"1", "50", "500", "2000"})
+    private int size;
+
+    private ExceptionRecordMapper mapper;
+    private Envelope envelope;
+
+    @Setup
+    public void setUp() {
+        mapper = new ExceptionRecordMapper(
+            BenchmarkData.serviceConfigProvider(),
+            new DocMapper("http://localhost", "documents", new InMemoryCdamApiClient())
+        );
+        envelope = BenchmarkData.envelope(size, size, EXCEPTION);
+    }
+
+    @Benchmark
+    public ExceptionRecord mapEnvelope() {
+        return mapper.mapEnvelope(envelope);
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.mappers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark.BenchmarkData;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark.InMemoryCdamApiClient;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.SupplementaryEvidence;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.EnvelopeReferenceHelper;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Document;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Classification.SUPPLEMENTARY_EVIDENCE;
+
+/**
+ * Attaches an envelope to a case which already has the same number of other documents and envelope references.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SupplementaryEvidenceMapperBenchmark {
+
+    // number of documents in the envelope and in the case
+    @Param({"1", "50", "500", "2000"})
+    private int size;
+
+    private SupplementaryEvidenceMapper mapper;
+    private List<Document> existingDocuments;
+    private List<Map<String, Object>> existingEnvelopeReferences;
+    private Envelope envelope;
+
+    @Setup
+    public void setUp() {
+        mapper = new SupplementaryEvidenceMapper(
+            new EnvelopeReferenceHelper(new ObjectMapper(), BenchmarkData.serviceConfigProvider()),
+            new DocMapper("http://localhost", "documents", new InMemoryCdamApiClient())
+        );
+        // existing documents have different control numbers than the ones in the envelope
+        existingDocuments = BenchmarkData.documents(size * 2).subList(size, size * 2);
+        existingEnvelopeReferences = BenchmarkData.envelopeReferences(size);
+        envelope = BenchmarkData.envelope(size, 0, SUPPLEMENTARY_EVIDENCE);
+    }
+
+    @Benchmark
+    public SupplementaryEvidence map() {
+        return mapper.map(existingDocuments, existingEnvelopeReferences, envelope);
+    }
+}
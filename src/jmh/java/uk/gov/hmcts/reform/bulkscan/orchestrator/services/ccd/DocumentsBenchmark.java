@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark.BenchmarkData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removes documents of an exception record which are already attached to the target case.
+ * Half of the exception record documents are in the case, among the same number of other documents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DocumentsBenchmark {
+
+    // number of documents in the exception record
+    @Param({"1", "50", "500", "2000"})
+    private int size;
+
+    private List<Map<String, Object>> exceptionRecordDocuments;
+    private List<Map<String, Object>> targetCaseDocuments;
+
+    @Setup
+    public void setUp() {
+        exceptionRecordDocuments = BenchmarkData.scannedDocuments(size, null);
+
+        targetCaseDocuments = new ArrayList<>(
+            BenchmarkData.scannedDocuments(size / 2, BenchmarkData.EXCEPTION_RECORD_ID)
+        );
+        targetCaseDocuments.addAll(BenchmarkData.scannedDocuments(size, "1111222233334444"));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> removeAlreadyAttachedDocuments() {
+        return Documents.removeAlreadyAttachedDocuments(
+            exceptionRecordDocuments,
+            targetCaseDocuments,
+            BenchmarkData.EXCEPTION_RECORD_ID
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchQuery.matchPhrase;
+
+/**
+ * Builds the body of CCD search by envelope ID: formatted the way it used to be,
+ * written with JSON generator for each search and rendered from precompiled template.
+ * Case types are joined for each search in the formatted variant, as they used to be.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchRequestBenchmark {
+
+    private static final String QUERY_FORMAT =
+        "{ \"match_phrase\" : { \"data.bulkScanEnvelopes.value.id\" : \"%s\" }}";
+
+    private static final String SEARCH_FORMAT = "{\"_source\": [\"reference\"], \"size\": %d, \"query\": %s}";
+
+    private static final SearchTemplate TEMPLATE = SearchRequest
+        .of(matchPhrase("data.bulkScanEnvelopes.value.id", SearchTemplate.PARAMETER))
+        .withSource("reference")
+        .withSize(10)
+        .compile();
+
+    private final List<String> caseTypeIds = List.of("Bulk_Scanned", "Bulk_Scanned_Other");
+    private final String joinedCaseTypeIds = String.join(",", caseTypeIds);
+    private final String envelopeId = UUID.randomUUID().toString();
+
+    @Benchmark
+    public String[] format() {
+        return new String[] {
+            String.join(",", caseTypeIds),
+            String.format(SEARCH_FORMAT, 10, String.format(QUERY_FORMAT, envelopeId))
+        };
+    }
+
+    @Benchmark
+    public String[] generate() {
+        return new String[] {
+            joinedCaseTypeIds,
+            SearchRequest
+                .of(matchPhrase("data.bulkScanEnvelopes.value.id", envelopeId))
+                .withSource("reference")
+                .withSize(10)
+                .toJson()
+        };
+    }
+
+    @Benchmark
+    public String[] template() {
+        return new String[] {
+            joinedCaseTypeIds,
+            TEMPLATE.render(envelopeId)
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.benchmark.BenchmarkData;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Classification.NEW_APPLICATION;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnvelopeParserBenchmark {
+
+    // number of documents and of OCR fields in the envelope
+    @Param({"1", "50", "500", "2000"})
+    private int size;
+
+    private byte[] envelope;
+
+    @Setup
+    public void setUp() {
+        envelope = BenchmarkData.envelopeJson(size, size, NEW_APPLICATION).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Envelope parse() {
+        return EnvelopeParser.parse(envelope);
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.load;
+
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.givenThat;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+
+/**
+ * WireMock stand-ins of the services the orchestrator calls when processing envelopes.
+ *
+ * <p>Each service responds with a fixed delay, configured per service in {@link LoadTestSettings}.</p>
+ */
+final class DownstreamStandIns {
+
+    static final List<String> SERVICES =
+        List.of("s2s", "idam", "ccd", "cdam", "transformation", "case-update", "payment");
+
+    private DownstreamStandIns() {
+        // utility class
+    }
+
+    static void register() {
+        // drop the recorded mappings picked up from the test classpath
+        WireMock.reset();
+
+        stub("s2s", post(urlPathEqualTo("/lease")), aResponse().withStatus(200).withBody(s2sToken()));
+
+        stub("idam", post(urlPathEqualTo("/o/token")), okJson(
+            "{\"access_token\":\"idam-token\",\"token_type\":\"Bearer\",\"expires_in\":28800}"
+        ));
+        stub("idam", get(urlPathEqualTo("/o/userinfo")), okJson(resource("user-info.json")));
+
+        stub("ccd", post(urlPathMatching("/searchCases.*")), okJson("{\"total\":0,\"cases\":[]}"));
+        stub("ccd", get(urlPathMatching("/cases/\\d+")), okJson(resource("case.json")));
+        stub("ccd", get(urlPathMatching("/caseworkers/.*/event-triggers/.*/token")), okJson(
+            resource("start-event.json")
+        ));
+        stub("ccd", post(urlPathMatching("/caseworkers/.*/cases")), okJson(resource("case.json")));
+        stub("ccd", post(urlPathMatching("/caseworkers/.*/cases/\\d+/events")), okJson(resource("case.json")));
+
+        stub("cdam", get(urlPathMatching("/cases/documents/.*/token")), okJson("{\"hashToken\":\"hash-token\"}"));
+
+        stub("transformation", post(urlPathEqualTo("/transform-exception-record")), okJson(
+            resource("transformation.json")
+        ));
+        stub("case-update", post(urlPathEqualTo("/update-case")), okJson(resource("case-update.json")));
+
+        stub("payment", post(urlMatching("/payment/(create|update)")), aResponse().withStatus(200));
+    }
+
+    /**
+     * Name of the stand-in serving given request url.
+     */
+    static String serviceOf(String url) {
+        if (url.startsWith("/lease")) {
+            return "s2s";
+        } else if (url.startsWith("/o/")) {
+            return "idam";
+        } else if (url.startsWith("/cases/documents/")) {
+            return "cdam";
+        } else if (url.startsWith("/transform-exception-record")) {
+            return "transformation";
+        } else if (url.startsWith("/update-case")) {
+            return "case-update";
+        } else if (url.startsWith("/payment/")) {
+            return "payment";
+        } else {
+            return "ccd";
+        }
+    }
+
+    private static void stub(String service, MappingBuilder request, ResponseDefinitionBuilder response) {
+        givenThat(request.willReturn(response.withFixedDelay(LoadTestSettings.latencyMillis(service))));
+    }
+
+    // unsigned JWT expiring long after the test has finished, so that the cached token is not refreshed
+    private static String s2sToken() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(
+            String.format(
+                "{\"sub\":\"bulk_scan_orchestrator\",\"exp\":%d}",
+                Instant.now().plus(1, ChronoUnit.DAYS).getEpochSecond()
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        return header + "." + payload + ".signature";
+    }
+
+    private static String resource(String name) {
+        try (InputStream stream = DownstreamStandIns.class.getResourceAsStream("/standins/" + name)) {
+            return StreamUtils.copyToString(stream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.google.common.util.concurrent.RateLimiter;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.TextMessage;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jms.core.JmsTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replays the sample envelopes at a target rate against the application running in JMS mode
+ * and reports how quickly they get processed.
+ *
+ * <p>An envelope is finished when a processed envelope notification is sent for it,
+ * or when it ends up in the dead letter queue.</p>
+ */
+@SpringBootTest
+@AutoConfigureWireMock(port = 0)
+class EnvelopesLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EnvelopesLoadTest.class);
+
+    private static final String ENVELOPES_QUEUE = "envelopes";
+    private static final String PROCESSED_ENVELOPES_QUEUE = "processed-envelopes";
+    private static final Path REPORTS_DIR = Paths.get("build", "reports", "load-test");
+
+    @Autowired
+    private JmsTemplate jmsTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    private final Map<String, LoadReport.Sample> samples = new ConcurrentHashMap<>();
+    private final AtomicBoolean collecting = new AtomicBoolean(true);
+
+    @Test
+    void should_process_envelopes_at_target_rate() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        DownstreamStandIns.register();
+        List<ObjectNode> sampleEnvelopes = loadSampleEnvelopes();
+
+        ExecutorService collectors = Executors.newFixedThreadPool(2);
+        collectors.execute(() -> collect(PROCESSED_ENVELOPES_QUEUE, "envelope_id", false));
+        collectors.execute(() -> collect(environment.getProperty("jms.dead-letter-queue"), "id", true));
+
+        Instant start = Instant.now();
+        try {
+            send(settings, sampleEnvelopes);
+            awaitFinished(settings.timeout);
+        } finally {
+            collecting.set(false);
+            collectors.shutdown();
+            collectors.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        String report = LoadReport.create(
+            settings,
+            samples.values(),
+            Duration.between(start, Instant.now()),
+            WireMock.getAllServeEvents()
+        );
+        log.info("\n{}", report);
+
+        Files.createDirectories(REPORTS_DIR);
+        Files.writeString(REPORTS_DIR.resolve("report-" + start.toEpochMilli() + ".txt"), report);
+    }
+
+    private void send(LoadTestSettings settings, List<ObjectNode> sampleEnvelopes) {
+        RateLimiter rateLimiter = RateLimiter.create(settings.rate);
+
+        for (int i = 0; i < settings.envelopes; i++) {
+            ObjectNode envelope = sampleEnvelopes.get(i % sampleEnvelopes.size()).deepCopy();
+            String envelopeId = UUID.randomUUID().toString();
+            envelope.put("id", envelopeId);
+            envelope.put("zip_file_name", envelopeId + ".zip");
+
+            rateLimiter.acquire();
+            samples.put(
+                envelopeId,
+                new LoadReport.Sample(envelopeId, envelope.get("classification").asText(), System.nanoTime())
+            );
+            jmsTemplate.convertAndSend(ENVELOPES_QUEUE, envelope.toString());
+        }
+    }
+
+    private void awaitFinished(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline && !samples.values().stream().allMatch(LoadReport.Sample::isFinished)) {
+            TimeUnit.MILLISECONDS.sleep(200);
+        }
+    }
+
+    // records the time envelopes finished processing, based on the messages in the given queue
+    private void collect(String queue, String envelopeIdField, boolean deadLettered) {
+        while (collecting.get()) {
+            try {
+                Message message = jmsTemplate.receive(queue);
+                if (message instanceof TextMessage textMessage) {
+                    long finishedAt = System.nanoTime();
+                    String envelopeId = objectMapper.readTree(textMessage.getText()).path(envelopeIdField).asText();
+                    LoadReport.Sample sample = samples.get(envelopeId);
+                    if (sample != null) {
+                        sample.deadLettered = deadLettered;
+                        sample.finishedAtNanos = finishedAt;
+                    }
+                }
+            } catch (JMSException | IOException | RuntimeException e) {
+                log.error("Failed to read message from {} queue", queue, e);
+            }
+        }
+    }
+
+    // sample envelopes adjusted to the service configured for the load test
+    private List<ObjectNode> loadSampleEnvelopes() throws IOException {
+        List<ObjectNode> envelopes = new ArrayList<>();
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources("classpath*:envelopes/*.json");
+        for (Resource resource : resources) {
+            try (InputStream stream = resource.getInputStream()) {
+                JsonNode envelope = objectMapper.readTree(stream);
+                ((ObjectNode) envelope).put("container", "bulkscan");
+                ((ObjectNode) envelope).put("jurisdiction", "BULKSCAN");
+                envelopes.add((ObjectNode) envelope);
+            }
+        }
+        return envelopes;
+    }
+}
@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.load;
+
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+
+/**
+ * Summary of a load test run: throughput, latency percentiles per classification
+ * and number of downstream calls per envelope.
+ */
+final class LoadReport {
+
+    /**
+     * Single envelope sent during the run.
+     */
+    static final class Sample {
+        final String envelopeId;
+        final String classification;
+        final long sentAtNanos;
+        volatile long finishedAtNanos;
+        volatile boolean deadLettered;
+
+        Sample(String envelopeId, String classification, long sentAtNanos) {
+            this.envelopeId = envelopeId;
+            this.classification = classification;
+            this.sentAtNanos = sentAtNanos;
+        }
+
+        boolean isFinished() {
+            return finishedAtNanos != 0;
+        }
+
+        long latencyMillis() {
+            return Duration.ofNanos(finishedAtNanos - sentAtNanos).toMillis();
+        }
+    }
+
+    private LoadReport() {
+        // utility class
+    }
+
+    static String create(
+        LoadTestSettings settings,
+        Collection<Sample> samples,
+        Duration elapsed,
+        List<ServeEvent> downstreamCalls
+    ) {
+        List<Sample> finished = samples.stream().filter(Sample::isFinished).toList();
+        long deadLettered = finished.stream().filter(sample -> sample.deadLettered).count();
+
+        StringBuilder report = new StringBuilder()
+            .append("Envelope processing load test\n")
+            .append(String.format(
+                "Target rate: %.1f/s, sent: %d, processed: %d, dead lettered: %d, unfinished: %d%n",
+                settings.rate,
+                samples.size(),
+                finished.size() - deadLettered,
+                deadLettered,
+                samples.size() - finished.size()
+            ))
+            .append(String.format(
+                "Elapsed: %d ms, throughput: %.1f envelopes/s%n%n",
+                elapsed.toMillis(),
+                finished.size() * 1000.0 / Math.max(elapsed.toMillis(), 1)
+            ));
+
+        report.append(String.format(
+            "%-32s %8s %8s %8s %8s %8s%n",
+            "Latency (ms)", "count", "p50", "p90", "p99", "max"
+        ));
+        appendLatency(report, "ALL", finished);
+        new TreeMap<>(finished.stream().collect(Collectors.groupingBy(sample -> sample.classification)))
+            .forEach((classification, group) -> appendLatency(report, classification, group));
+
+        report.append(String.format("%nDownstream calls per envelope%n"));
+        Map<String, Long> callCounts = downstreamCalls
+            .stream()
+            .collect(Collectors.groupingBy(
+                event -> DownstreamStandIns.serviceOf(event.getRequest().getUrl()),
+                TreeMap::new,
+                Collectors.counting()
+            ));
+        for (String service : DownstreamStandIns.SERVICES) {
+            long count = callCounts.getOrDefault(service, 0L);
+            report.append(String.format(
+                "%-32s %8d %8.2f%n",
+                service,
+                count,
+                count / (double) Math.max(samples.size(), 1)
+            ));
+        }
+
+        return report.toString();
+    }
+
+    private static void appendLatency(StringBuilder report, String label, List<Sample> samples) {
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        List<Long> latencies = new ArrayList<>(samples.stream().map(Sample::latencyMillis).toList());
+        latencies.sort(null);
+
+        report.append(String.format(
+            "%-32s %8d %8d %8d %8d %8d%n",
+            label,
+            latencies.size(),
+            percentile(latencies, 50),
+            percentile(latencies, 90),
+            percentile(latencies, 99),
+            latencies.get(latencies.size() - 1)
+        ));
+    }
+
+    // nearest rank percentile of sorted values
+    private static long percentile(List<Long> sortedValues, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.size());
+        return sortedValues.get(Math.max(rank, 1) - 1);
+    }
+}
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.load;
+
+import java.time.Duration;
+
+/**
+ * Load test parameters, passed from gradle as {@code -Pload.<name>=<value>}.
+ */
+final class LoadTestSettings {
+
+    private static final long DEFAULT_LATENCY_MILLIS = 50;
+
+    // number of envelopes to send
+    final int envelopes;
+    // envelopes sent per second
+    final double rate;
+    // how long to wait for all envelopes to be processed once sent
+    final Duration timeout;
+
+    private LoadTestSettings(int envelopes, double rate, Duration timeout) {
+        this.envelopes = envelopes;
+        this.rate = rate;
+        this.timeout = timeout;
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Integer.getInteger("load.envelopes", 500),
+            Double.parseDouble(System.getProperty("load.rate", "20")),
+            Duration.parse(System.getProperty("load.timeout", "PT10M"))
+        );
+    }
+
+    /**
+     * Fixed delay of responses of the given downstream stand-in, e.g. {@code -Pload.latency.ccd=120}.
+     */
+    static int latencyMillis(String service) {
+        return Integer.getInteger("load.latency." + service, (int) DEFAULT_LATENCY_MILLIS);
+    }
+}
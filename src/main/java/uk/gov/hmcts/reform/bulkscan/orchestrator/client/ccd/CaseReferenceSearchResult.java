@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+/**
+ * CCD search result with the references of the cases found and the case fields requested in search source.
+ * Other case fields are skipped when parsing.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CaseReferenceSearchResult {
+
+    public final int total;
+
+    public final List<CaseReference> cases;
+
+    public CaseReferenceSearchResult(
+        @JsonProperty("total") int total,
+        @JsonProperty("cases") List<CaseReference> cases
+    ) {
+        this.total = total;
+        this.cases = cases == null ? emptyList() : cases;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CaseReference {
+
+        public final Long id;
+
+        // only the case fields listed in search request source, if any
+        public final Map<String, Object> data;
+
+        public CaseReference(Long id) {
+            this(id, null);
+        }
+
+        @JsonCreator
+        public CaseReference(
+            @JsonProperty("id") Long id,
+            @JsonProperty("case_data") Map<String, Object> data
+        ) {
+            this.id = id;
+            this.data = data == null ? emptyMap() : data;
+        }
+    }
+}
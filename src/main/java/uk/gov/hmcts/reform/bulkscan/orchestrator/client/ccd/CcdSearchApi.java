@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * CCD case search which reads only the references of the cases found.
+ *
+ * <p>Same endpoint as {@code CoreCaseDataApi.searchCases}, but the rest of each case in the response is skipped
+ * instead of being deserialised into {@code CaseDetails}.</p>
+ */
+@FeignClient(name = "ccd-search-api", url = "${core_case_data.api.url}")
+public interface CcdSearchApi {
+
+    String SERVICE_AUTHORIZATION = "ServiceAuthorization";
+
+    @PostMapping(value = "/searchCases", consumes = APPLICATION_JSON_VALUE)
+    CaseReferenceSearchResult searchCaseReferences(
+        @RequestHeader(AUTHORIZATION) String authorisation,
+        @RequestHeader(SERVICE_AUTHORIZATION) String serviceAuthorization,
+        @RequestParam("ctid") String caseType,
+        @RequestBody String searchString
+    );
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.bulkscan.orchestrator.client.cdam;
 
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,12 +9,28 @@ import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam.cache.IdamCachedClient;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Document;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.emptyMap;
-
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Retrieves document hashes from CDAM.
+ *
+ * <p>Hashes of several documents are retrieved at the same time, up to the configured number of
+ * concurrent requests per call, with a single s2s token and IDAM credentials lookup.
+ * Hashes which have already been retrieved are taken from {@link DocumentHashCache}.</p>
+ */
 @Component
 public class CdamApiClient {
 
@@ -22,7 +39,9 @@ public class CdamApiClient {
     private final CdamApi cdamApi;
     private final AuthTokenGenerator s2sTokenGenerator;
     private final IdamCachedClient idamCachedClient;
-
+    private final DocumentHashCache documentHashCache;
+    private final int maxConcurrentRequests;
+    private final ExecutorService executor;
 
     @Value("${cdam.api.enabled}")
     private boolean cdamEnabled;
@@ -30,11 +49,19 @@ public class CdamApiClient {
     public CdamApiClient(
         CdamApi cdamApi,
         AuthTokenGenerator s2sTokenGenerator,
-        IdamCachedClient idamCachedClient
+        IdamCachedClient idamCachedClient,
+        DocumentHashCache documentHashCache,
+        @Value("${cdam.api.max-concurrent-requests}") int maxConcurrentRequests,
+        @Value("${spring.threads.virtual.enabled}") boolean virtualThreads
     ) {
         this.cdamApi = cdamApi;
         this.s2sTokenGenerator = s2sTokenGenerator;
         this.idamCachedClient = idamCachedClient;
+        this.documentHashCache = documentHashCache;
+        this.maxConcurrentRequests = Math.max(maxConcurrentRequests, 1);
+        this.executor = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cdam-", 0).factory())
+            : Executors.newCachedThreadPool(Thread.ofPlatform().name("cdam-", 0).daemon().factory());
     }
 
     public Map<String, String> getDocumentHash(
@@ -46,17 +73,39 @@ public class CdamApiClient {
             log.info("CDAM not enabled returning empty Map, get by doc list");
             return emptyMap();
         }
-        var s2sToken = s2sTokenGenerator.generate();
-        var idamCredential = idamCachedClient.getIdamCredentials(jurisdiction);
 
-        Map<String, String> hashTokenMap = new HashMap<>();
-        for (Document document : documentList) {
-            if (document != null) {
-                String docHashToken = cdamApi.getDocumentHash(s2sToken, idamCredential.accessToken, document.uuid);
-                hashTokenMap.put(document.uuid, docHashToken);
-            }
+        return getDocumentHashes(
+            jurisdiction,
+            documentList.stream().filter(Objects::nonNull).map(document -> document.uuid).collect(toList())
+        );
+    }
+
+    /**
+     * Retrieves hashes of all given documents.
+     *
+     * <p>If retrieving any of the hashes fails, the remaining ones are still retrieved and cached, failed documents
+     * are logged and the exception of the first failed document is thrown, with exceptions of other failed documents
+     * added as suppressed.</p>
+     *
+     * @return document hashes by document UUID, empty if CDAM is not enabled
+     */
+    public Map<String, String> getDocumentHashes(String jurisdiction, Collection<String> documentUuids) {
+        if (!cdamEnabled) {
+            log.info("CDAM not enabled returning empty Map, get by UUIDs");
+            return emptyMap();
+        }
+
+        List<String> uuids = documentUuids.stream().filter(Objects::nonNull).distinct().collect(toList());
+        if (uuids.isEmpty()) {
+            return emptyMap();
+        }
+
+        try {
+            return documentHashCache.getAll(uuids, missingUuids -> retrieveDocumentHashes(jurisdiction, missingUuids));
+        } catch (DocumentHashRetrievalException ex) {
+            // retrieved hashes have been cached already
+            throw ex.getCause();
         }
-        return hashTokenMap;
     }
 
     public String getDocumentHash(
@@ -68,13 +117,71 @@ public class CdamApiClient {
             return null;
         }
 
-        var s2sToken = s2sTokenGenerator.generate();
-        var idamCredential = idamCachedClient.getIdamCredentials(jurisdiction);
+        return getDocumentHashes(jurisdiction, singletonList(uuid)).get(uuid);
+    }
 
-        return cdamApi.getDocumentHash(s2sToken, idamCredential.accessToken, uuid);
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
     }
 
     public void setCdamEnabled(boolean cdamEnabled) {
         this.cdamEnabled = cdamEnabled;
     }
+
+    private Map<String, String> retrieveDocumentHashes(String jurisdiction, List<String> uuids) {
+        var s2sToken = s2sTokenGenerator.generate();
+        var idamCredential = idamCachedClient.getIdamCredentials(jurisdiction);
+
+        String[] hashes = new String[uuids.size()];
+        RuntimeException[] failures = new RuntimeException[uuids.size()];
+        AtomicInteger next = new AtomicInteger();
+
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < uuids.size(); i = next.getAndIncrement()) {
+                try {
+                    hashes[i] = cdamApi.getDocumentHash(s2sToken, idamCredential.accessToken, uuids.get(i));
+                } catch (RuntimeException ex) {
+                    failures[i] = ex;
+                }
+            }
+        };
+
+        // calling thread is one of the workers
+        List<CompletableFuture<Void>> otherWorkers = new ArrayList<>();
+        for (int i = 1; i < Math.min(maxConcurrentRequests, uuids.size()); i++) {
+            otherWorkers.add(CompletableFuture.runAsync(worker, executor));
+        }
+        worker.run();
+        otherWorkers.forEach(CompletableFuture::join);
+
+        Map<String, String> hashTokenMap = new HashMap<>();
+        List<String> failedUuids = new ArrayList<>();
+        RuntimeException failure = null;
+        for (int i = 0; i < uuids.size(); i++) {
+            if (failures[i] == null) {
+                hashTokenMap.put(uuids.get(i), hashes[i]);
+            } else {
+                failedUuids.add(uuids.get(i));
+                if (failure == null) {
+                    failure = failures[i];
+                } else if (failures[i] != failure) {
+                    failure.addSuppressed(failures[i]);
+                }
+            }
+        }
+
+        if (failure != null) {
+            log.error(
+                "Failed to get hashes of {} out of {} documents from CDAM. Jurisdiction: {}, failed UUIDs: {}",
+                failedUuids.size(),
+                uuids.size(),
+                jurisdiction,
+                failedUuids
+            );
+            throw new DocumentHashRetrievalException(failure, hashTokenMap);
+        }
+
+        return hashTokenMap;
+    }
 }
@@ -0,0 +1,157 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.client.cdam;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.documenthash.DocumentHashRepository;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.DocumentHashCacheStatistics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Cache of CDAM document hashes by document UUID. Hash of a document never changes, so the same document
+ * does not need to be hashed again when the exception record, case or supplementary evidence is created from it.
+ *
+ * <p>Hashes are kept in memory and, optionally, in the database, so that they are shared by all instances
+ * of the application and survive restarts. Failing to read or write the database is logged and hashes are
+ * retrieved from CDAM instead.</p>
+ */
+@Component
+public class DocumentHashCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentHashCache.class);
+
+    private final boolean enabled;
+    private final boolean databaseEnabled;
+    private final DocumentHashRepository documentHashRepository;
+    private final Cache<String, String> cache;
+
+    private final LongAdder databaseHitCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+
+    public DocumentHashCache(
+        @Value("${cdam.hash-cache.enabled}") boolean enabled,
+        @Value("${cdam.hash-cache.max-size}") long maxSize,
+        @Value("${cdam.hash-cache.database-enabled}") boolean databaseEnabled,
+        DocumentHashRepository documentHashRepository
+    ) {
+        this.enabled = enabled;
+        this.databaseEnabled = databaseEnabled;
+        this.documentHashRepository = documentHashRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns hashes of the given documents. Hashes which are not cached are retrieved with the loader,
+     * which is called at most once, with UUIDs of the missing documents only. If the loader fails with
+     * {@link DocumentHashRetrievalException}, hashes it did retrieve are cached before the exception is rethrown.
+     *
+     * @return hashes by document UUID
+     */
+    public Map<String, String> getAll(
+        Collection<String> documentUuids,
+        Function<List<String>, Map<String, String>> loader
+    ) {
+        if (!enabled) {
+            return loader.apply(List.copyOf(documentUuids));
+        }
+
+        Map<String, String> hashes = new HashMap<>(cache.getAllPresent(documentUuids));
+
+        List<String> missing = missing(documentUuids, hashes);
+        if (!missing.isEmpty() && databaseEnabled) {
+            Map<String, String> stored = findInDatabase(missing);
+            databaseHitCount.add(stored.size());
+            cache.putAll(stored);
+            hashes.putAll(stored);
+            missing = missing(missing, stored);
+        }
+
+        if (!missing.isEmpty()) {
+            loadCount.add(missing.size());
+            Map<String, String> loaded;
+            try {
+                loaded = loader.apply(missing);
+            } catch (DocumentHashRetrievalException ex) {
+                // hashes which were retrieved before the failure don't need to be retrieved again
+                store(ex.getRetrievedHashes());
+                throw ex;
+            }
+            hashes.putAll(store(loaded));
+        }
+
+        return hashes;
+    }
+
+    public DocumentHashCacheStatistics getStatistics() {
+        CacheStats stats = cache.stats();
+        long databaseHits = databaseHitCount.sum();
+        long loads = loadCount.sum();
+        long saved = stats.hitCount() + databaseHits;
+
+        return new DocumentHashCacheStatistics(
+            enabled,
+            databaseEnabled,
+            cache.estimatedSize(),
+            stats.hitCount(),
+            databaseHits,
+            loads,
+            saved + loads == 0 ? 0 : (double) saved / (saved + loads),
+            saved
+        );
+    }
+
+    private Map<String, String> store(Map<String, String> loaded) {
+        Map<String, String> hashes = withoutNullValues(loaded);
+        cache.putAll(hashes);
+        if (databaseEnabled) {
+            saveInDatabase(hashes);
+        }
+        return hashes;
+    }
+
+    private Map<String, String> findInDatabase(List<String> documentUuids) {
+        try {
+            return documentHashRepository.findByDocumentUuids(documentUuids);
+        } catch (Exception ex) {
+            log.error("Failed to read document hashes from database", ex);
+            return Map.of();
+        }
+    }
+
+    private void saveInDatabase(Map<String, String> hashes) {
+        try {
+            documentHashRepository.insert(hashes);
+        } catch (Exception ex) {
+            log.error("Failed to save document hashes in database", ex);
+        }
+    }
+
+    private static List<String> missing(Collection<String> documentUuids, Map<String, String> found) {
+        return documentUuids.stream().filter(uuid -> !found.containsKey(uuid)).collect(toList());
+    }
+
+    private static Map<String, String> withoutNullValues(Map<String, String> hashes) {
+        Map<String, String> result = new HashMap<>();
+        hashes.forEach((uuid, hash) -> {
+            if (hash != null) {
+                result.put(uuid, hash);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.client.cdam;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Thrown when hashes of some of the documents could not be retrieved. Carries the hashes which were retrieved,
+ * so that they can be cached before the failure of the first failed document (the cause) is rethrown.
+ */
+public class DocumentHashRetrievalException extends RuntimeException {
+
+    private final transient Map<String, String> retrievedHashes;
+
+    public DocumentHashRetrievalException(RuntimeException cause, Map<String, String> retrievedHashes) {
+        super(cause.getMessage(), cause);
+        this.retrievedHashes = unmodifiableMap(new HashMap<>(retrievedHashes));
+    }
+
+    public Map<String, String> getRetrievedHashes() {
+        return retrievedHashes;
+    }
+
+    @Override
+    public synchronized RuntimeException getCause() {
+        return (RuntimeException) super.getCause();
+    }
+}
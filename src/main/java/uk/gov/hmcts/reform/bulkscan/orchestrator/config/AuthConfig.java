@@ -6,22 +6,38 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import uk.gov.hmcts.reform.authorisation.ServiceAuthorisationApi;
-import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
-import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGeneratorFactory;
+import uk.gov.hmcts.reform.authorisation.generators.AutorefreshingJwtAuthTokenGenerator;
+import uk.gov.hmcts.reform.authorisation.generators.ServiceAuthTokenGenerator;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.s2s.CachedS2sTokenGenerator;
 import uk.gov.hmcts.reform.idam.client.IdamApi;
 
+import java.time.Duration;
+
 
 @Configuration
 @EnableFeignClients(clients = IdamApi.class)
 public class AuthConfig {
 
+    // token is cached by the library generator, wrapper adds background refresh and statistics
     @Bean
     @Primary
-    public AuthTokenGenerator authTokenGenerator(
+    public CachedS2sTokenGenerator authTokenGenerator(
         @Value("${idam.s2s-auth.secret}") String secret,
         @Value("${idam.s2s-auth.name}") String name,
+        @Value("${idam.s2s-auth.cache.refresh-before-expire-in-sec}") long refreshBeforeExpiry,
+        @Value("${idam.s2s-auth.cache.refresh-jitter-in-sec}") long refreshJitter,
+        @Value("${idam.s2s-auth.cache.background-refresh-enabled}") boolean backgroundRefreshEnabled,
         ServiceAuthorisationApi serviceAuthorisationApi
     ) {
-        return AuthTokenGeneratorFactory.createDefaultGenerator(secret, name, serviceAuthorisationApi);
+        ServiceAuthTokenGenerator serviceAuthTokenGenerator =
+            new ServiceAuthTokenGenerator(secret, name, serviceAuthorisationApi);
+        Duration refreshTimeDelta = Duration.ofSeconds(refreshBeforeExpiry);
+
+        return new CachedS2sTokenGenerator(
+            () -> new AutorefreshingJwtAuthTokenGenerator(serviceAuthTokenGenerator, refreshTimeDelta),
+            refreshTimeDelta,
+            Duration.ofSeconds(refreshJitter),
+            backgroundRefreshEnabled
+        );
     }
 }
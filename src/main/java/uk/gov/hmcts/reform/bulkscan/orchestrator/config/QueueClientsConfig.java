@@ -10,6 +10,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Profile;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeMessageProcessor;
 
@@ -40,11 +41,28 @@ public class QueueClientsConfig {
             .queueName(queueProperties.getQueueName())
             .receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
             .disableAutoComplete()
+            .maxConcurrentCalls(queueProperties.getMaxConcurrentCalls())
+            .prefetchCount(queueProperties.getPrefetchCount())
             .processMessage(messageHandler::processMessage)
             .processError(messageHandler::processException)
             .buildProcessorClient();
     }
 
+    @Bean("envelopes-retry-queue-config")
+    @ConfigurationProperties(prefix = "azure.servicebus.envelopes-retry")
+    protected QueueConfigurationProperties envelopesRetryQueueConfig() {
+        return new QueueConfigurationProperties();
+    }
+
+    // sends rescheduled copies of failed envelopes back to the envelopes queue, needs send access
+    @Bean("envelopes-retry")
+    @Lazy
+    public ServiceBusSenderClient envelopesRetryQueueClient(
+        @Qualifier("envelopes-retry-queue-config") QueueConfigurationProperties queueProperties
+    ) {
+        return createSendClient(queueProperties);
+    }
+
     @Bean("processed-envelopes-queue-config")
     @ConfigurationProperties(prefix = "azure.servicebus.processed-envelopes")
     protected QueueConfigurationProperties processedEnvelopesQueueConfig() {
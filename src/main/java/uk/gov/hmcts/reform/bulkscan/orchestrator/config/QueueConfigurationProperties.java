@@ -5,6 +5,8 @@ public class QueueConfigurationProperties {
     private String accessKey;
     private String accessKeyName;
     private String queueName;
+    private int maxConcurrentCalls = 1;
+    private int prefetchCount = 0;
 
     public String getAccessKey() {
         return accessKey;
@@ -18,6 +20,14 @@ public class QueueConfigurationProperties {
         return queueName;
     }
 
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getPrefetchCount() {
+        return prefetchCount;
+    }
+
     public void setAccessKey(String accessKey) {
         this.accessKey = accessKey;
     }
@@ -29,4 +39,12 @@ public class QueueConfigurationProperties {
     public void setQueueName(String queueName) {
         this.queueName = queueName;
     }
+
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public void setPrefetchCount(int prefetchCount) {
+        this.prefetchCount = prefetchCount;
+    }
 }
@@ -4,6 +4,7 @@ import com.microsoft.applicationinsights.web.internal.RequestTelemetryContext;
 import com.microsoft.applicationinsights.web.internal.ThreadContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
@@ -34,6 +35,9 @@ public class SchedulerConfig implements SchedulingConfigurer {
     private static final Supplier<RequestTelemetryContext> REQUEST_CONTEXT_SUPPLIER = () ->
         new RequestTelemetryContext(CURRENT_MILLIS_SUPPLIER.get(), null);
 
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         taskRegistrar.setTaskScheduler(orchestratorTaskScheduler());
@@ -44,6 +48,8 @@ public class SchedulerConfig implements SchedulingConfigurer {
         ThreadPoolTaskScheduler scheduler = new OrchestratorTaskScheduler();
         scheduler.setPoolSize(POOL_SIZE);
         scheduler.setThreadNamePrefix("BSO-");
+        // tasks are still wrapped, so telemetry context is set on the virtual thread running them
+        scheduler.setVirtualThreads(virtualThreads);
         scheduler.setErrorHandler(t -> {
             log.error("Unhandled exception during task. {}: {}", t.getClass(), t.getMessage(), t);
             errorCount.incrementAndGet();
@@ -41,6 +41,10 @@ public class ServiceConfigItem {
     private boolean autoCaseUpdateEnabled = false;
     private boolean caseDefinitionHasEnvelopeIds = false;
     private boolean searchCasesByEnvelopeId = false;
+    /**
+     * Search cases by exception record ID and by envelope ID in a single CCD search, instead of one after another.
+     */
+    private boolean combinedCaseSearch = false;
     private boolean supplementaryDataEnabled = false;
 
     // region getters & setters
@@ -155,6 +159,14 @@ public class ServiceConfigItem {
         this.searchCasesByEnvelopeId = value;
     }
 
+    public boolean getCombinedCaseSearch() {
+        return combinedCaseSearch;
+    }
+
+    public void setCombinedCaseSearch(boolean combinedCaseSearch) {
+        this.combinedCaseSearch = combinedCaseSearch;
+    }
+
     public boolean getSupplementaryDataEnabled() {
         return supplementaryDataEnabled;
     }
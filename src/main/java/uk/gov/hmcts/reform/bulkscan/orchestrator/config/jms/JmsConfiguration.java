@@ -5,11 +5,13 @@ import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.Session;
 import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.ActiveMQPrefetchPolicy;
 import org.apache.activemq.RedeliveryPolicy;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.jms.annotation.EnableJms;
 import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
 import org.springframework.jms.config.JmsListenerContainerFactory;
@@ -42,6 +44,17 @@ public class JmsConfiguration {
     @Value("${jms.idleTimeout}")
     private Long idleTimeout;
 
+    // number of concurrent consumers, e.g. "1-4" for a minimum of 1 and up to 4 under load
+    @Value("${jms.concurrency}")
+    private String concurrency;
+
+    // number of messages pushed to each consumer ahead of processing
+    @Value("${jms.prefetch}")
+    private int prefetch;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
     @Value("${jms.amqp-connection-string-template}")
     public String amqpConnectionStringTemplate;
 
@@ -56,6 +69,9 @@ public class JmsConfiguration {
         RedeliveryPolicy redeliveryPolicy = new RedeliveryPolicy();
         redeliveryPolicy.setMaximumRedeliveries(3);
         activeMQConnectionFactory.setRedeliveryPolicy(redeliveryPolicy);
+        ActiveMQPrefetchPolicy prefetchPolicy = new ActiveMQPrefetchPolicy();
+        prefetchPolicy.setQueuePrefetch(prefetch);
+        activeMQConnectionFactory.setPrefetchPolicy(prefetchPolicy);
         activeMQConnectionFactory.setClientID(clientId);
         return new CachingConnectionFactory(activeMQConnectionFactory);
     }
@@ -79,6 +95,10 @@ public class JmsConfiguration {
         factory.setSessionTransacted(Boolean.TRUE);
         factory.setSessionAcknowledgeMode(Session.SESSION_TRANSACTED);
         factory.setMessageConverter(new CustomMessageConverter());
+        factory.setConcurrency(concurrency);
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("jms-listener-"));
+        }
         return factory;
     }
 
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.NotFoundException;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.in.DlqReplayRequest;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.DlqReplayResponse;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.DlqReplayService;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RestController
+@Tag(name = "Envelopes DLQ replay - API for sending dead lettered envelopes back to the queue")
+@RequestMapping(path = "/envelopes-dlq/replay", produces = APPLICATION_JSON_VALUE)
+@Profile("!nosb") // do not register for the nosb (test) profile
+@ConditionalOnExpression("!${jms.enabled} && ${dlq-replay.enabled}")
+public class DlqReplayController {
+
+    private final DlqReplayService dlqReplayService;
+
+    public DlqReplayController(DlqReplayService dlqReplayService) {
+        this.dlqReplayService = dlqReplayService;
+    }
+
+    @PostMapping
+    @ApiResponse(responseCode = "202", description = "Replay started, returns its status")
+    @ApiResponse(responseCode = "400", description = "Invalid replay criteria")
+    @ApiResponse(responseCode = "409", description = "Another replay is in progress")
+    @Operation(summary = "Starts replaying envelopes dead letter queue messages matching given criteria")
+    public ResponseEntity<DlqReplayResponse> startReplay(@RequestBody DlqReplayRequest request) {
+        return ResponseEntity.accepted().body(new DlqReplayResponse(dlqReplayService.startReplay(request)));
+    }
+
+    @GetMapping
+    @ApiResponse(responseCode = "200", description = "Status of the last replay returned")
+    @ApiResponse(responseCode = "404", description = "No replay has been started")
+    @Operation(summary = "Returns status of the last envelopes dead letter queue replay")
+    public ResponseEntity<DlqReplayResponse> getLastReplay() {
+        return dlqReplayService
+            .getLastReplay()
+            .map(job -> ResponseEntity.ok(new DlqReplayResponse(job)))
+            .orElseThrow(() -> new NotFoundException("No envelopes dlq replay has been started"));
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data.documenthash;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+public class DocumentHashRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public DocumentHashRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Finds hashes of given documents.
+     *
+     * @return hashes by document UUID, only of the documents which have been found
+     */
+    public Map<String, String> findByDocumentUuids(Collection<String> documentUuids) {
+        Map<String, String> hashes = new HashMap<>();
+        if (documentUuids.isEmpty()) {
+            return hashes;
+        }
+
+        jdbcTemplate.query(
+            "SELECT document_uuid, hash_token FROM document_hash WHERE document_uuid IN (:documentUuids)",
+            new MapSqlParameterSource("documentUuids", documentUuids),
+            rs -> {
+                hashes.put(rs.getString("document_uuid"), rs.getString("hash_token"));
+            }
+        );
+        return hashes;
+    }
+
+    /**
+     * Stores hashes of documents. Hashes which have already been stored are left unchanged.
+     */
+    public void insert(Map<String, String> hashesByDocumentUuid) {
+        if (hashesByDocumentUuid.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO document_hash (document_uuid, hash_token, created_at) "
+                + "VALUES (:documentUuid, :hashToken, CURRENT_TIMESTAMP) "
+                + "ON CONFLICT (document_uuid) DO NOTHING",
+            hashesByDocumentUuid
+                .entrySet()
+                .stream()
+                .map(entry -> new MapSqlParameterSource()
+                    .addValue("documentUuid", entry.getKey())
+                    .addValue("hashToken", entry.getValue())
+                )
+                .toArray(MapSqlParameterSource[]::new)
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger;
+
+import java.time.Instant;
+
+public class EnvelopeLedgerEntry {
+    public final String envelopeId;
+    public final EnvelopeProcessingStep step;
+    public final Long ccdId;
+    public final Instant createdAt;
+
+    public EnvelopeLedgerEntry(
+        String envelopeId,
+        EnvelopeProcessingStep step,
+        Long ccdId,
+        Instant createdAt
+    ) {
+        this.envelopeId = envelopeId;
+        this.step = step;
+        this.ccdId = ccdId;
+        this.createdAt = createdAt;
+    }
+}
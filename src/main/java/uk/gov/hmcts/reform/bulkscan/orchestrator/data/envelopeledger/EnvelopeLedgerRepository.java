@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class EnvelopeLedgerRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EnvelopeLedgerRowMapper envelopeLedgerRowMapper;
+
+    public EnvelopeLedgerRepository(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        EnvelopeLedgerRowMapper envelopeLedgerRowMapper
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.envelopeLedgerRowMapper = envelopeLedgerRowMapper;
+    }
+
+    /**
+     * Records completed step. Step that has already been recorded for the envelope is left unchanged.
+     *
+     * @return true if the step has been recorded, false if it already existed
+     */
+    public boolean insert(String envelopeId, EnvelopeProcessingStep step, Long ccdId) {
+        int inserted = jdbcTemplate.update(
+            "INSERT INTO envelope_processing_step (envelope_id, step, ccd_id, created_at) "
+                + "VALUES (:envelopeId, :step, :ccdId, CURRENT_TIMESTAMP) "
+                + "ON CONFLICT (envelope_id, step) DO NOTHING",
+            new MapSqlParameterSource()
+                .addValue("envelopeId", envelopeId)
+                .addValue("step", step.name())
+                .addValue("ccdId", ccdId)
+        );
+        return inserted > 0;
+    }
+
+    public List<EnvelopeLedgerEntry> findByEnvelopeId(String envelopeId) {
+        return jdbcTemplate.query(
+            "SELECT * FROM envelope_processing_step WHERE envelope_id = :envelopeId ORDER BY created_at",
+            new MapSqlParameterSource("envelopeId", envelopeId),
+            envelopeLedgerRowMapper
+        );
+    }
+}
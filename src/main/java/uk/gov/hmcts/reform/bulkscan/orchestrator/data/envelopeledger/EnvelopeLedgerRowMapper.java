@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@Component
+public class EnvelopeLedgerRowMapper implements RowMapper<EnvelopeLedgerEntry> {
+
+    @Override
+    public EnvelopeLedgerEntry mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new EnvelopeLedgerEntry(
+            rs.getString("envelope_id"),
+            EnvelopeProcessingStep.valueOf(rs.getString("step")),
+            rs.getObject("ccd_id", Long.class),
+            rs.getTimestamp("created_at").toInstant()
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger;
+
+public enum EnvelopeProcessingStep {
+    CASE_CREATED,
+    EXCEPTION_RECORD_CREATED,
+    PAYMENT_SENT,
+    NOTIFICATION_SENT
+}
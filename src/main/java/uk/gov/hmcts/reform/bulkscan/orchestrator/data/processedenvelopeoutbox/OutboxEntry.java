@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data.processedenvelopeoutbox;
+
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction;
+
+import java.time.Instant;
+
+public class OutboxEntry {
+    public final String envelopeId;
+    public final Long ccdId;
+    public final EnvelopeCcdAction envelopeCcdAction;
+    public final Instant createdAt;
+
+    public OutboxEntry(
+        String envelopeId,
+        Long ccdId,
+        EnvelopeCcdAction envelopeCcdAction,
+        Instant createdAt
+    ) {
+        this.envelopeId = envelopeId;
+        this.ccdId = ccdId;
+        this.envelopeCcdAction = envelopeCcdAction;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data.processedenvelopeoutbox;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@Component
+public class OutboxEntryRowMapper implements RowMapper<OutboxEntry> {
+
+    @Override
+    public OutboxEntry mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new OutboxEntry(
+            rs.getString("envelope_id"),
+            rs.getObject("ccd_id", Long.class),
+            EnvelopeCcdAction.valueOf(rs.getString("envelope_ccd_action")),
+            rs.getTimestamp("created_at").toInstant()
+        );
+    }
+}
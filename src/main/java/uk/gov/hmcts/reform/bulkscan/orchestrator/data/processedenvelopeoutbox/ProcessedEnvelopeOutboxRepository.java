@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.data.processedenvelopeoutbox;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class ProcessedEnvelopeOutboxRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OutboxEntryRowMapper outboxEntryRowMapper;
+
+    public ProcessedEnvelopeOutboxRepository(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        OutboxEntryRowMapper outboxEntryRowMapper
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxEntryRowMapper = outboxEntryRowMapper;
+    }
+
+    /**
+     * Adds notification to the outbox. Only one notification is kept per envelope.
+     *
+     * @return true if the notification has been added, false if there already was one for the envelope
+     */
+    public boolean insert(String envelopeId, Long ccdId, EnvelopeCcdAction envelopeCcdAction) {
+        int inserted = jdbcTemplate.update(
+            "INSERT INTO processed_envelope_outbox (envelope_id, ccd_id, envelope_ccd_action, created_at) "
+                + "VALUES (:envelopeId, :ccdId, :envelopeCcdAction, CURRENT_TIMESTAMP) "
+                + "ON CONFLICT (envelope_id) DO NOTHING",
+            new MapSqlParameterSource()
+                .addValue("envelopeId", envelopeId)
+                .addValue("ccdId", ccdId)
+                .addValue("envelopeCcdAction", envelopeCcdAction.name())
+        );
+        return inserted > 0;
+    }
+
+    /**
+     * Finds the oldest notifications and locks them until the end of current transaction.
+     * Notifications locked by other transactions are skipped, so that concurrent relays don't send the same ones.
+     */
+    public List<OutboxEntry> findOldestForUpdate(int limit) {
+        return jdbcTemplate.query(
+            "SELECT * FROM processed_envelope_outbox ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            new MapSqlParameterSource("limit", limit),
+            outboxEntryRowMapper
+        );
+    }
+
+    public int delete(Collection<String> envelopeIds) {
+        if (envelopeIds.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(
+            "DELETE FROM processed_envelope_outbox WHERE envelope_id IN (:envelopeIds)",
+            new MapSqlParameterSource("envelopeIds", envelopeIds)
+        );
+    }
+}
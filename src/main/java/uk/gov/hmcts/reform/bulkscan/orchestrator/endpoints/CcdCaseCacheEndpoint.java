@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.endpoints;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.CaseCacheStatistics;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdCaseCache;
+
+@Component
+@Endpoint(id = "ccd-case-cache")
+public class CcdCaseCacheEndpoint {
+
+    private final CcdCaseCache ccdCaseCache;
+
+    public CcdCaseCacheEndpoint(CcdCaseCache ccdCaseCache) {
+        this.ccdCaseCache = ccdCaseCache;
+    }
+
+    @ReadOperation
+    public CaseCacheStatistics statistics() {
+        return ccdCaseCache.getStatistics();
+    }
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.endpoints;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.cdam.DocumentHashCache;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.DocumentHashCacheStatistics;
+
+@Component
+@Endpoint(id = "document-hash-cache")
+public class DocumentHashCacheEndpoint {
+
+    private final DocumentHashCache documentHashCache;
+
+    public DocumentHashCacheEndpoint(DocumentHashCache documentHashCache) {
+        this.documentHashCache = documentHashCache;
+    }
+
+    @ReadOperation
+    public DocumentHashCacheStatistics statistics() {
+        return documentHashCache.getStatistics();
+    }
+}
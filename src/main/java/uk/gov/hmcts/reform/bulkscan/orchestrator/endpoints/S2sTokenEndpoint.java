@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.endpoints;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.S2sTokenStatistics;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.s2s.CachedS2sTokenGenerator;
+
+@Component
+@Endpoint(id = "s2s-token")
+public class S2sTokenEndpoint {
+
+    // not available when the shared generator is replaced, e.g. by a mock
+    private final ObjectProvider<CachedS2sTokenGenerator> s2sTokenGenerator;
+
+    public S2sTokenEndpoint(ObjectProvider<CachedS2sTokenGenerator> s2sTokenGenerator) {
+        this.s2sTokenGenerator = s2sTokenGenerator;
+    }
+
+    @ReadOperation
+    public S2sTokenStatistics statistics() {
+        CachedS2sTokenGenerator generator = s2sTokenGenerator.getIfAvailable();
+        return generator == null ? null : generator.getStatistics();
+    }
+}
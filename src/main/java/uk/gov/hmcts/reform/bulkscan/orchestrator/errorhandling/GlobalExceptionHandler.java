@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.DlqReplayInProgressException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.InvalidRequestException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.PaymentReprocessFailedException;
@@ -14,6 +15,7 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.Unproc
 import java.time.LocalDateTime;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
@@ -55,6 +57,13 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(UNPROCESSABLE_ENTITY).body(generateExceptionResponse(ex.getMessage()));
     }
 
+    @ExceptionHandler(DlqReplayInProgressException.class)
+    protected ResponseEntity<ExceptionResponse> handle(DlqReplayInProgressException ex) {
+        log.error(ex.getMessage(), ex);
+
+        return ResponseEntity.status(CONFLICT).body(generateExceptionResponse(ex.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ExceptionResponse> handle(Exception ex) {
         log.error(ex.getMessage(), ex);
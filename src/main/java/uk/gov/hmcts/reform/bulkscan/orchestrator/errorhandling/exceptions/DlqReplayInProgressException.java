@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions;
+
+public class DlqReplayInProgressException extends RuntimeException {
+    public DlqReplayInProgressException(String message) {
+        super(message);
+    }
+}
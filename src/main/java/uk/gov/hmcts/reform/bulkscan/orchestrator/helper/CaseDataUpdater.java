@@ -16,6 +16,7 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.env
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 import static com.google.common.collect.Lists.newArrayList;
@@ -54,16 +55,25 @@ public class CaseDataUpdater {
                 .stream()
                 .map(doc -> doc.controlNumber)
                 .collect(toList());
+        List<ScannedDocument> scannedDocuments = getScannedDocuments(caseData);
+        Map<String, String> documentHashes = cdamApiClient.getDocumentHashes(
+            exceptionRecord.poBoxJurisdiction,
+            scannedDocuments
+                .stream()
+                .filter(doc -> exceptionRecordDcns.contains(doc.controlNumber))
+                .map(doc -> getDocumentUuid(doc.url.documentUrl))
+                .collect(toList())
+        );
+
         List<Map<String, ScannedDocument>> updatedScannedDocuments =
-            getScannedDocuments(caseData)
+            scannedDocuments
                 .stream()
                 .map(doc -> {
                     if (exceptionRecordDcns.contains(doc.controlNumber)) {
                         // set exceptionReference if the document received with the exception record
                         return getScannedDocumentWithDocumentHash(
                             doc,
-                            exceptionRecord.poBoxJurisdiction,
-                            getDocumentUuid(doc.url.documentUrl),
+                            documentHashes.get(getDocumentUuid(doc.url.documentUrl)),
                             exceptionRecord.id
                         );
                     } else {
@@ -90,8 +100,19 @@ public class CaseDataUpdater {
                 .stream()
                 .collect(toMap(doc -> doc.controlNumber, Function.identity()));
 
+        List<ScannedDocument> scannedDocuments = getScannedDocuments(transformedCaseData);
+        Map<String, String> documentHashes = cdamApiClient.getDocumentHashes(
+            envelope.jurisdiction,
+            scannedDocuments
+                .stream()
+                .map(doc -> envelopeDocs.get(doc.controlNumber))
+                .filter(Objects::nonNull)
+                .map(document -> document.uuid)
+                .collect(toList())
+        );
+
         List<Map<String, ScannedDocument>> updatedScannedDocuments =
-            getScannedDocuments(transformedCaseData)
+            scannedDocuments
                 .stream()
                 .map(doc -> {
                     Document document = envelopeDocs.get(doc.controlNumber);
@@ -100,8 +121,7 @@ public class CaseDataUpdater {
                         log.info("Set document hash for DCN {}", document.controlNumber);
                         return getScannedDocumentWithDocumentHash(
                             doc,
-                            envelope.jurisdiction,
-                            document.uuid,
+                            documentHashes.get(document.uuid),
                             null
                         );
                     } else {
@@ -143,8 +163,7 @@ public class CaseDataUpdater {
 
     private Map<String, ScannedDocument> getScannedDocumentWithDocumentHash(
         ScannedDocument doc,
-        String poBoxJurisdiction,
-        String documentUuid,
+        String documentHash,
         String exceptionRecordId
     ) {
         return Map.of("value", new ScannedDocument(
@@ -153,13 +172,7 @@ public class CaseDataUpdater {
             doc.type,
             doc.subtype,
             doc.scannedDate,
-            new CcdDocument(
-                doc.url.documentUrl,
-                cdamApiClient.getDocumentHash(
-                    poBoxJurisdiction,
-                    documentUuid
-                )
-            ),
+            new CcdDocument(doc.url.documentUrl, documentHash),
             doc.deliveryDate,
             exceptionRecordId
         ));
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.model.in;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * Selects envelopes dead letter queue messages to replay. Criteria which are not set match all messages.
+ */
+public class DlqReplayRequest {
+
+    public final String deadLetterReason;
+    public final String jurisdiction;
+    public final Instant deadLetteredFrom;
+    public final Instant deadLetteredTo;
+    public final Integer maxMessages;
+
+    public DlqReplayRequest(
+        @JsonProperty("dead_letter_reason") String deadLetterReason,
+        @JsonProperty("jurisdiction") String jurisdiction,
+        @JsonProperty("dead_lettered_from") Instant deadLetteredFrom,
+        @JsonProperty("dead_lettered_to") Instant deadLetteredTo,
+        @JsonProperty("max_messages") Integer maxMessages
+    ) {
+        this.deadLetterReason = deadLetterReason;
+        this.jurisdiction = jurisdiction;
+        this.deadLetteredFrom = deadLetteredFrom;
+        this.deadLetteredTo = deadLetteredTo;
+        this.maxMessages = maxMessages;
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class CaseCacheStatistics {
+
+    public final boolean enabled;
+
+    public final long size;
+
+    @JsonProperty("hit_count")
+    public final long hitCount;
+
+    @JsonProperty("miss_count")
+    public final long missCount;
+
+    @JsonProperty("hit_rate")
+    public final double hitRate;
+
+    @JsonProperty("eviction_count")
+    public final long evictionCount;
+
+    public CaseCacheStatistics(
+        boolean enabled,
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount
+    ) {
+        this.enabled = enabled;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+    }
+}
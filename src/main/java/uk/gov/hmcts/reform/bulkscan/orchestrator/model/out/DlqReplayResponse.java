@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.DlqReplayJob;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class DlqReplayResponse {
+    @JsonProperty("id")
+    public final UUID id;
+
+    @JsonProperty("status")
+    public final DlqReplayJob.Status status;
+
+    @JsonProperty("started_at")
+    public final Instant startedAt;
+
+    @JsonProperty("finished_at")
+    public final Instant finishedAt;
+
+    @JsonProperty("scanned_count")
+    public final int scannedCount;
+
+    @JsonProperty("selected_count")
+    public final int selectedCount;
+
+    @JsonProperty("replayed_count")
+    public final int replayedCount;
+
+    @JsonProperty("not_replayed_count")
+    public final int notReplayedCount;
+
+    @JsonProperty("error")
+    public final String error;
+
+    public DlqReplayResponse(DlqReplayJob job) {
+        this.id = job.id;
+        this.status = job.getStatus();
+        this.startedAt = job.startedAt;
+        this.finishedAt = job.getFinishedAt();
+        this.scannedCount = job.getScannedCount();
+        this.selectedCount = job.getSelectedCount();
+        this.replayedCount = job.getReplayedCount();
+        this.notReplayedCount = job.getNotReplayedCount();
+        this.error = job.getError();
+    }
+}
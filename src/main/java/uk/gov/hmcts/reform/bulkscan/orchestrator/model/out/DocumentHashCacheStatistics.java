@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class DocumentHashCacheStatistics {
+
+    public final boolean enabled;
+
+    @JsonProperty("database_enabled")
+    public final boolean databaseEnabled;
+
+    public final long size;
+
+    @JsonProperty("hit_count")
+    public final long hitCount;
+
+    @JsonProperty("database_hit_count")
+    public final long databaseHitCount;
+
+    @JsonProperty("cdam_call_count")
+    public final long cdamCallCount;
+
+    @JsonProperty("hit_rate")
+    public final double hitRate;
+
+    @JsonProperty("cdam_calls_saved")
+    public final long cdamCallsSaved;
+
+    public DocumentHashCacheStatistics(
+        boolean enabled,
+        boolean databaseEnabled,
+        long size,
+        long hitCount,
+        long databaseHitCount,
+        long cdamCallCount,
+        double hitRate,
+        long cdamCallsSaved
+    ) {
+        this.enabled = enabled;
+        this.databaseEnabled = databaseEnabled;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.databaseHitCount = databaseHitCount;
+        this.cdamCallCount = cdamCallCount;
+        this.hitRate = hitRate;
+        this.cdamCallsSaved = cdamCallsSaved;
+    }
+}
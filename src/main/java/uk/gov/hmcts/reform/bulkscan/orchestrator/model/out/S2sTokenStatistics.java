@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public class S2sTokenStatistics {
+
+    @JsonProperty("background_refresh_enabled")
+    public final boolean backgroundRefreshEnabled;
+
+    @JsonProperty("fetched_at")
+    public final Instant fetchedAt;
+
+    @JsonProperty("expires_at")
+    public final Instant expiresAt;
+
+    @JsonProperty("generate_count")
+    public final long generateCount;
+
+    @JsonProperty("fetch_count")
+    public final long fetchCount;
+
+    @JsonProperty("failed_fetch_count")
+    public final long failedFetchCount;
+
+    @JsonProperty("background_refresh_count")
+    public final long backgroundRefreshCount;
+
+    public S2sTokenStatistics(
+        boolean backgroundRefreshEnabled,
+        Instant fetchedAt,
+        Instant expiresAt,
+        long generateCount,
+        long fetchCount,
+        long failedFetchCount,
+        long backgroundRefreshCount
+    ) {
+        this.backgroundRefreshEnabled = backgroundRefreshEnabled;
+        this.fetchedAt = fetchedAt;
+        this.expiresAt = expiresAt;
+        this.generateCount = generateCount;
+        this.fetchCount = fetchCount;
+        this.failedFetchCount = failedFetchCount;
+        this.backgroundRefreshCount = backgroundRefreshCount;
+    }
+}
@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerEntry;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerRepository;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep;
+
+import java.util.Optional;
+
+/**
+ * Keeps track of the envelope processing steps that have been completed, so that a redelivered envelope
+ * can carry on from the last completed step, instead of searching CCD for what has already been done.
+ *
+ * <p>The ledger is an optimisation only - failing to read or write it is logged and processing carries on
+ * as if nothing had been recorded.</p>
+ */
+@Service
+public class EnvelopeLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(EnvelopeLedger.class);
+
+    private final EnvelopeLedgerRepository envelopeLedgerRepository;
+    private final boolean enabled;
+
+    public EnvelopeLedger(
+        EnvelopeLedgerRepository envelopeLedgerRepository,
+        @Value("${envelope-ledger.enabled}") boolean enabled
+    ) {
+        this.envelopeLedgerRepository = envelopeLedgerRepository;
+        this.enabled = enabled;
+    }
+
+    public Optional<EnvelopeLedgerEntry> findCompletedStep(String envelopeId, EnvelopeProcessingStep step) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            return envelopeLedgerRepository
+                .findByEnvelopeId(envelopeId)
+                .stream()
+                .filter(entry -> entry.step == step)
+                .findFirst();
+        } catch (Exception ex) {
+            log.error("Failed to read processing step {} of envelope {} from ledger", step, envelopeId, ex);
+            return Optional.empty();
+        }
+    }
+
+    public void recordCompletedStep(String envelopeId, EnvelopeProcessingStep step, Long ccdId) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (envelopeLedgerRepository.insert(envelopeId, step, ccdId)) {
+                log.info("Recorded processing step {} of envelope {}. CCD ID: {}", step, envelopeId, ccdId);
+            }
+        } catch (Exception ex) {
+            log.error("Failed to record processing step {} of envelope {} in ledger", step, envelopeId, ex);
+        }
+    }
+}
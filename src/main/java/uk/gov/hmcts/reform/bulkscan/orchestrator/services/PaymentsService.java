@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.PAYMENT_SENT;
+
 @Service
 @Slf4j
 public class PaymentsService {
@@ -28,12 +30,14 @@ public class PaymentsService {
     private final PaymentProcessorClient paymentProcessorClient;
     private final PaymentsRepository paymentsRepository;
     private final UpdatePaymentsRepository updatePaymentsRepository;
+    private final EnvelopeLedger envelopeLedger;
 
     public PaymentsService(PaymentProcessorClient paymentProcessorClient, PaymentsRepository paymentsRepository,
-                           UpdatePaymentsRepository updatePaymentsRepository) {
+                           UpdatePaymentsRepository updatePaymentsRepository, EnvelopeLedger envelopeLedger) {
         this.paymentProcessorClient = paymentProcessorClient;
         this.paymentsRepository = paymentsRepository;
         this.updatePaymentsRepository = updatePaymentsRepository;
+        this.envelopeLedger = envelopeLedger;
     }
 
     /**
@@ -44,7 +48,9 @@ public class PaymentsService {
      * @param isExceptionRecord boolean for if the envelope being processed is an exception record.
      */
     public void createNewPayment(Envelope envelope, Long caseId, boolean isExceptionRecord) {
-        if (envelope.payments != null && !envelope.payments.isEmpty()) {
+        if (envelopeLedger.findCompletedStep(envelope.id, PAYMENT_SENT).isPresent()) {
+            log.info("Payment already sent for envelope, not sending create command. Envelope id: {}", envelope.id);
+        } else if (envelope.payments != null && !envelope.payments.isEmpty()) {
             CreatePaymentDTO paymentToCreate = new CreatePaymentDTO(
                 envelope.id,
                 Long.toString(caseId),
@@ -71,6 +77,8 @@ public class PaymentsService {
                 );
             }
             paymentsRepository.save(payment);
+            // failed payments are stored and can be reprocessed, they should not be sent again with the envelope
+            envelopeLedger.recordCompletedStep(envelope.id, PAYMENT_SENT, caseId);
         } else {
             log.info(
                 "Envelope has no payments, not sending create command. Envelope id: {}. Case reference {}",
@@ -26,6 +26,17 @@ public class CaseFinder {
     }
 
     public List<Long> findCases(ExceptionRecord exceptionRecord, ServiceConfigItem serviceConfig) {
+        if (serviceConfig.getCombinedCaseSearch() && serviceConfig.getSearchCasesByEnvelopeId()) {
+            log.info(
+                "Searching for existing service cases (by exception record ID or envelope id) for exception record {}",
+                exceptionRecord.id
+            );
+            return ccdApi.getCaseRefsByBulkScanCaseReferenceOrEnvelopeId(
+                exceptionRecord.id,
+                exceptionRecord.envelopeId,
+                serviceConfig.getService()
+            );
+        }
 
         log.info(
             "Searching for existing service cases (by exception record ID) for exception record {}",
@@ -142,9 +153,10 @@ public class CaseFinder {
         }
     }
 
+    // found case is updated from its own data, so it must not be taken from the case cache
     private Optional<CaseDetails> getCaseByCcdId(String ccdCaseRef, String jurisdiction) {
         try {
-            return Optional.of(ccdApi.getCase(ccdCaseRef, jurisdiction));
+            return Optional.of(ccdApi.getUncachedCase(ccdCaseRef, jurisdiction));
         } catch (CaseNotFoundException e) {
             log.info("Case wasn't found by CCD ID {}", ccdCaseRef);
             return Optional.empty();
@@ -5,11 +5,15 @@ import jakarta.annotation.Nonnull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd.CaseReferenceSearchResult.CaseReference;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd.CcdSearchApi;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.config.ServiceConfigItem;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.CaseNotFoundException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.CcdCallException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.internal.ExceptionRecord;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.envelopehandlers.UnableToAttachDocumentsException;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchRequest;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchTemplate;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.config.ServiceConfigProvider;
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
@@ -17,18 +21,32 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.Event;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static java.lang.String.format;
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.logging.FeignExceptionLogger.debugCcdException;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchQuery.anyOf;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchQuery.matchPhrase;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchQuery.terms;
 
 /**
  * This class is intended to be a wrapper/adaptor/facade for the orchestrator -> CcdApi.
@@ -40,27 +58,52 @@ public class CcdApi {
 
     public static final Logger log = LoggerFactory.getLogger(CcdApi.class);
 
-    private static final String SEARCH_BY_LEGACY_ID_QUERY_FORMAT =
-        "{\"query\": { \"match_phrase\" : { \"alias.previousServiceCaseReference\" : \"%s\" }}}";
+    // same as Elasticsearch default - callers only need to know whether there is more than one case found
+    private static final int MAX_SEARCH_RESULTS = 10;
 
-    private static final String SEARCH_BY_ENVELOPE_ID_QUERY_FORMAT =
-        "{\"query\": { \"match_phrase\" : { \"data.envelopeId\" : \"%s\" }}}";
+    private static final SearchTemplate SEARCH_BY_LEGACY_ID =
+        caseReferenceSearch("alias.previousServiceCaseReference");
 
-    private static final String SEARCH_BY_BULK_SCAN_CASE_REFERENCE_QUERY_FORMAT =
-        "{\"query\": { \"match_phrase\" : { \"data.bulkScanCaseReference\" : \"%s\" }}}";
+    private static final SearchTemplate SEARCH_BY_ENVELOPE_ID =
+        caseReferenceSearch("data.envelopeId");
+
+    private static final String BULK_SCAN_CASE_REFERENCE_FIELD = "data.bulkScanCaseReference";
+
+    private static final String BULK_SCAN_ENVELOPE_ID_FIELD = "data.bulkScanEnvelopes.value.id";
+
+    private static final SearchTemplate SEARCH_BY_BULK_SCAN_CASE_REFERENCE =
+        caseReferenceSearch(BULK_SCAN_CASE_REFERENCE_FIELD);
+
+    private static final SearchTemplate SEARCH_BY_BULK_SCAN_ENVELOPE_ID =
+        caseReferenceSearch(BULK_SCAN_ENVELOPE_ID_FIELD);
 
     private final CoreCaseDataApi feignCcdApi;
+    private final CcdSearchApi ccdSearchApi;
     private final CcdAuthenticatorFactory authenticatorFactory;
     private final ServiceConfigProvider serviceConfigProvider;
+    private final CcdCaseCache caseCache;
+    private final CcdReadHedging readHedging;
+    private final CcdConflictRetry conflictRetry;
+
+    // comma separated case type IDs to search, by service
+    private final Map<String, String> searchCaseTypes = new ConcurrentHashMap<>();
 
     public CcdApi(
         CoreCaseDataApi feignCcdApi,
+        CcdSearchApi ccdSearchApi,
         CcdAuthenticatorFactory authenticator,
-        ServiceConfigProvider serviceConfigProvider
+        ServiceConfigProvider serviceConfigProvider,
+        CcdCaseCache caseCache,
+        CcdReadHedging readHedging,
+        CcdConflictRetry conflictRetry
     ) {
         this.feignCcdApi = feignCcdApi;
+        this.ccdSearchApi = ccdSearchApi;
         this.authenticatorFactory = authenticator;
         this.serviceConfigProvider = serviceConfigProvider;
+        this.caseCache = caseCache;
+        this.readHedging = readHedging;
+        this.conflictRetry = conflictRetry;
     }
 
     @Nonnull
@@ -110,14 +153,31 @@ public class CcdApi {
 
     @Nonnull
     public CaseDetails getCase(String caseRef, String jurisdiction) {
+        return caseCache.get(caseRef, jurisdiction, () -> retrieveCase(caseRef, jurisdiction));
+    }
+
+    /**
+     * Retrieves the case from CCD, bypassing the case cache. To be used for checks which must not rely on
+     * a case state that may have been changed in CCD by someone else, and whenever case data built from
+     * the retrieved case is submitted back to CCD, so that changes made by others are not overwritten.
+     */
+    @Nonnull
+    public CaseDetails getUncachedCase(String caseRef, String jurisdiction) {
+        return retrieveCase(caseRef, jurisdiction);
+    }
+
+    private CaseDetails retrieveCase(String caseRef, String jurisdiction) {
         CcdAuthenticator authenticator =
             authenticatorFactory.createForJurisdiction(jurisdiction);
 
         try {
-            return feignCcdApi.getCase(
-                authenticator.getUserToken(),
-                authenticator.getServiceToken(),
-                caseRef
+            return readHedging.execute(
+                "getCase",
+                () -> feignCcdApi.getCase(
+                    authenticator.getUserToken(),
+                    authenticator.getServiceToken(),
+                    caseRef
+                )
             );
         } catch (FeignException e) {
             debugCcdException(log, e, "Failed to call 'getCase'");
@@ -151,8 +211,8 @@ public class CcdApi {
         } else {
             return searchCases(
                 serviceConfig.getJurisdiction(),
-                String.join(",", serviceConfig.getCaseTypeIds()),
-                format(SEARCH_BY_LEGACY_ID_QUERY_FORMAT, legacyId)
+                searchCaseTypes(service, serviceConfig),
+                SEARCH_BY_LEGACY_ID.render(legacyId)
             );
         }
     }
@@ -164,7 +224,7 @@ public class CcdApi {
         return searchCases(
             serviceConfigProvider.getConfig(service).getJurisdiction(),
             format("%s_ExceptionRecord", service.toUpperCase()),
-            format(SEARCH_BY_ENVELOPE_ID_QUERY_FORMAT, envelopeId)
+            SEARCH_BY_ENVELOPE_ID.render(envelopeId)
         );
     }
 
@@ -175,8 +235,8 @@ public class CcdApi {
 
         return searchCases(
             serviceConfig.getJurisdiction(),
-            String.join(",", serviceConfig.getCaseTypeIds()),
-            format(SEARCH_BY_BULK_SCAN_CASE_REFERENCE_QUERY_FORMAT, bulkScanCaseReference)
+            searchCaseTypes(service, serviceConfig),
+            SEARCH_BY_BULK_SCAN_CASE_REFERENCE.render(bulkScanCaseReference)
         );
     }
 
@@ -184,17 +244,76 @@ public class CcdApi {
         ServiceConfigItem serviceConfig = serviceConfigProvider.getConfig(service);
         return searchCases(
             serviceConfig.getJurisdiction(),
-            String.join(",", serviceConfig.getCaseTypeIds()),
-            "      {"
-                + "  \"query\": {"
-                + "    \"match_phrase\" : {"
-                + "      \"data.bulkScanEnvelopes.value.id\" : \"" + envelopeId + "\""
-                + "    }"
-                + "  }"
-                + "}"
+            searchCaseTypes(service, serviceConfig),
+            SEARCH_BY_BULK_SCAN_ENVELOPE_ID.render(envelopeId)
         );
     }
 
+    /**
+     * Searches cases by several envelope IDs at once.
+     *
+     * @return IDs of the cases found, by envelope ID. Envelope IDs without cases are left out.
+     */
+    public Map<String, List<Long>> getCaseRefsByEnvelopeIds(Collection<String> envelopeIds, String service) {
+        ServiceConfigItem serviceConfig = serviceConfigProvider.getConfig(service);
+
+        // terms query needs exact values, which CCD keeps in keyword sub-field of text fields
+        String searchRequest = SearchRequest
+            .of(terms(BULK_SCAN_ENVELOPE_ID_FIELD + ".keyword", List.copyOf(envelopeIds)))
+            .withSource("reference", "data.bulkScanEnvelopes")
+            .withSize(envelopeIds.size() * MAX_SEARCH_RESULTS)
+            .toJson();
+
+        Map<String, List<Long>> caseRefsByEnvelopeId = new HashMap<>();
+        for (CaseReference caseReference : searchCaseReferences(
+            serviceConfig.getJurisdiction(),
+            searchCaseTypes(service, serviceConfig),
+            searchRequest
+        )) {
+            for (String envelopeId : getBulkScanEnvelopeIds(caseReference)) {
+                if (envelopeIds.contains(envelopeId)) {
+                    caseRefsByEnvelopeId.computeIfAbsent(envelopeId, id -> new ArrayList<>()).add(caseReference.id);
+                }
+            }
+        }
+        return caseRefsByEnvelopeId;
+    }
+
+    /**
+     * Searches cases by bulk scan case reference and by envelope ID at once.
+     * Same as searching by envelope ID only when nothing is found by bulk scan case reference.
+     */
+    public List<Long> getCaseRefsByBulkScanCaseReferenceOrEnvelopeId(
+        String bulkScanCaseReference,
+        String envelopeId,
+        String service
+    ) {
+        ServiceConfigItem serviceConfig = serviceConfigProvider.getConfig(service);
+
+        String searchRequest = SearchRequest
+            .of(anyOf(List.of(
+                matchPhrase(BULK_SCAN_CASE_REFERENCE_FIELD, bulkScanCaseReference),
+                matchPhrase(BULK_SCAN_ENVELOPE_ID_FIELD, envelopeId)
+            )))
+            .withSource("reference", BULK_SCAN_CASE_REFERENCE_FIELD)
+            .withSize(MAX_SEARCH_RESULTS)
+            .toJson();
+
+        // cases which don't have the bulk scan case reference must have been found by envelope ID
+        Map<Boolean, List<Long>> caseRefsByMatch = searchCaseReferences(
+            serviceConfig.getJurisdiction(),
+            searchCaseTypes(service, serviceConfig),
+            searchRequest
+        )
+            .stream()
+            .collect(partitioningBy(
+                caseReference -> bulkScanCaseReference.equals(caseReference.data.get("bulkScanCaseReference")),
+                mapping(caseReference -> caseReference.id, toList())
+            ));
+
+        return caseRefsByMatch.get(true).isEmpty() ? caseRefsByMatch.get(false) : caseRefsByMatch.get(true);
+    }
+
     void attachExceptionRecord(
         CaseDetails theCase,
         String idamToken,
@@ -234,6 +353,8 @@ public class CcdApi {
                 ),
                 e
             );
+        } finally {
+            caseCache.invalidate(caseRef);
         }
     }
 
@@ -296,30 +417,33 @@ public class CcdApi {
         String logContext
     ) {
         try {
-            StartEventResponse eventResponse = feignCcdApi.startEventForCaseWorker(
-                authenticator.getUserToken(),
-                authenticator.getServiceToken(),
-                authenticator.getUserId(),
-                jurisdiction,
-                caseTypeId,
-                caseRef,
-                eventTypeId
-            );
+            // case data is built from the case returned by start event, so it's safe to repeat on conflict
+            conflictRetry.run(logContext, () -> {
+                StartEventResponse eventResponse = feignCcdApi.startEventForCaseWorker(
+                    authenticator.getUserToken(),
+                    authenticator.getServiceToken(),
+                    authenticator.getUserId(),
+                    jurisdiction,
+                    caseTypeId,
+                    caseRef,
+                    eventTypeId
+                );
 
-            log.info("Started event in CCD. Event: {}, case type: {}. {}", eventTypeId, caseTypeId, logContext);
+                log.info("Started event in CCD. Event: {}, case type: {}. {}", eventTypeId, caseTypeId, logContext);
 
-            CaseDataContent caseData = caseDataContentBuilder.apply(eventResponse);
+                CaseDataContent caseData = caseDataContentBuilder.apply(eventResponse);
 
-            feignCcdApi.submitEventForCaseWorker(
-                authenticator.getUserToken(),
-                authenticator.getServiceToken(),
-                authenticator.getUserId(),
-                jurisdiction,
-                caseTypeId,
-                caseRef,
-                true,
-                caseData
-            );
+                feignCcdApi.submitEventForCaseWorker(
+                    authenticator.getUserToken(),
+                    authenticator.getServiceToken(),
+                    authenticator.getUserId(),
+                    jurisdiction,
+                    caseTypeId,
+                    caseRef,
+                    true,
+                    caseData
+                );
+            });
         } catch (FeignException.UnprocessableEntity e) {
             throw new UnableToAttachDocumentsException(
                 String.format(
@@ -352,6 +476,8 @@ public class CcdApi {
                 ),
                 e
             );
+        } finally {
+            caseCache.invalidate(caseRef);
         }
     }
 
@@ -362,15 +488,8 @@ public class CcdApi {
         Function<StartEventResponse, CaseDataContent> caseDataContentBuilder,
         String logContext
     ) {
-        CcdAuthenticator ccdAuthenticator =
-            authenticatorFactory.createForJurisdiction(jurisdiction);
-
         return createCase(
-            new CcdRequestCredentials(
-                ccdAuthenticator.getUserToken(),
-                ccdAuthenticator.getServiceToken(),
-                ccdAuthenticator.getUserId()
-            ),
+            getCredentials(jurisdiction),
             jurisdiction,
             caseTypeId,
             eventId,
@@ -379,6 +498,69 @@ public class CcdApi {
         );
     }
 
+    /**
+     * Starts case creation event on its own, for callers which build case data at the same time.
+     * The event is completed with {@link #submitCaseCreation(String, String, CaseDataContent)}.
+     */
+    public StartEventResponse startCaseCreation(String jurisdiction, String caseTypeId, String eventId) {
+        try {
+            return startCaseCreation(getCredentials(jurisdiction), jurisdiction, caseTypeId, eventId);
+        } catch (FeignException exception) {
+            debugCcdException(log, exception, "Failed to call 'startCaseCreation'");
+            removeFromIdamCacheIfAuthProblem(exception.status(), jurisdiction);
+
+            throw exception;
+        }
+    }
+
+    public CaseDetails submitCaseCreation(String jurisdiction, String caseTypeId, CaseDataContent caseDataContent) {
+        try {
+            return submitCaseCreation(getCredentials(jurisdiction), jurisdiction, caseTypeId, caseDataContent);
+        } catch (FeignException exception) {
+            debugCcdException(log, exception, "Failed to call 'submitCaseCreation'");
+            removeFromIdamCacheIfAuthProblem(exception.status(), jurisdiction);
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Starts an event for an existing case on its own. The event is completed with
+     * {@link #submitEvent(String, String, String, CaseDataContent)}.
+     */
+    public StartEventResponse startEvent(String jurisdiction, String caseTypeId, String caseId, String eventId) {
+        try {
+            return startEventForCaseWorker(getCredentials(jurisdiction), jurisdiction, caseTypeId, caseId, eventId);
+        } catch (FeignException exception) {
+            debugCcdException(log, exception, "Failed to call 'startEvent'");
+            removeFromIdamCacheIfAuthProblem(exception.status(), jurisdiction);
+
+            throw toEventException(exception, "start", caseId);
+        }
+    }
+
+    public CaseDetails submitEvent(
+        String jurisdiction,
+        String caseTypeId,
+        String caseId,
+        CaseDataContent caseDataContent
+    ) {
+        try {
+            return submitEventForCaseWorker(
+                getCredentials(jurisdiction),
+                jurisdiction,
+                caseTypeId,
+                caseId,
+                caseDataContent
+            );
+        } catch (FeignException exception) {
+            debugCcdException(log, exception, "Failed to call 'submitEvent'");
+            removeFromIdamCacheIfAuthProblem(exception.status(), jurisdiction);
+
+            throw toEventException(exception, "submit", caseId);
+        }
+    }
+
     long createCase(
         CcdRequestCredentials ccdRequestCredentials,
         String jurisdiction,
@@ -388,14 +570,8 @@ public class CcdApi {
         String logContext
     ) {
         try {
-            StartEventResponse eventResponse = feignCcdApi.startForCaseworker(
-                ccdRequestCredentials.idamToken,
-                ccdRequestCredentials.s2sToken,
-                ccdRequestCredentials.userId,
-                jurisdiction,
-                caseTypeId,
-                eventId
-            );
+            StartEventResponse eventResponse =
+                startCaseCreation(ccdRequestCredentials, jurisdiction, caseTypeId, eventId);
 
             log.info(
                 "Started case-creation event in CCD. Event: {}, case type: {}. {}",
@@ -404,13 +580,10 @@ public class CcdApi {
                 logContext
             );
 
-            long caseId = feignCcdApi.submitForCaseworker(
-                ccdRequestCredentials.idamToken,
-                ccdRequestCredentials.s2sToken,
-                ccdRequestCredentials.userId,
+            long caseId = submitCaseCreation(
+                ccdRequestCredentials,
                 jurisdiction,
                 caseTypeId,
-                true,
                 caseDataContentBuilder.apply(eventResponse)
             )
                 .getId();
@@ -486,9 +659,44 @@ public class CcdApi {
             debugCcdException(log, exception, "Failed to call 'updateCase'");
 
             throw exception;
+        } finally {
+            caseCache.invalidate(caseId);
         }
     }
 
+    StartEventResponse startCaseCreation(
+        CcdRequestCredentials ccdRequestCredentials,
+        String jurisdiction,
+        String caseTypeId,
+        String eventId
+    ) {
+        return feignCcdApi.startForCaseworker(
+            ccdRequestCredentials.idamToken,
+            ccdRequestCredentials.s2sToken,
+            ccdRequestCredentials.userId,
+            jurisdiction,
+            caseTypeId,
+            eventId
+        );
+    }
+
+    CaseDetails submitCaseCreation(
+        CcdRequestCredentials ccdRequestCredentials,
+        String jurisdiction,
+        String caseTypeId,
+        CaseDataContent caseDataContent
+    ) {
+        return feignCcdApi.submitForCaseworker(
+            ccdRequestCredentials.idamToken,
+            ccdRequestCredentials.s2sToken,
+            ccdRequestCredentials.userId,
+            jurisdiction,
+            caseTypeId,
+            true,
+            caseDataContent
+        );
+    }
+
     StartEventResponse startEventForCaseWorker(
         CcdRequestCredentials ccdRequestCredentials,
         String jurisdiction,
@@ -507,6 +715,29 @@ public class CcdApi {
         );
     }
 
+    private CaseDetails submitEventForCaseWorker(
+        CcdRequestCredentials ccdRequestCredentials,
+        String jurisdiction,
+        String caseTypeId,
+        String caseId,
+        CaseDataContent caseDataContent
+    ) {
+        try {
+            return feignCcdApi.submitEventForCaseWorker(
+                ccdRequestCredentials.idamToken,
+                ccdRequestCredentials.s2sToken,
+                ccdRequestCredentials.userId,
+                jurisdiction,
+                caseTypeId,
+                caseId,
+                true,
+                caseDataContent
+            );
+        } finally {
+            caseCache.invalidate(caseId);
+        }
+    }
+
     CaseDetails updateCaseInCcd(
         boolean ignoreWarnings,
         CcdRequestCredentials ccdRequestCredentials,
@@ -557,29 +788,41 @@ public class CcdApi {
             );
 
             throw new CcdCallException(msg, exception);
+        } finally {
+            caseCache.invalidate(String.valueOf(existingCase.getId()));
         }
     }
 
     private List<Long> searchCases(
         String jurisdiction,
         String caseType,
-        String searchString
+        String searchRequest
+    ) {
+        return searchCaseReferences(jurisdiction, caseType, searchRequest)
+            .stream()
+            .map(caseReference -> caseReference.id)
+            .collect(toList());
+    }
+
+    private List<CaseReference> searchCaseReferences(
+        String jurisdiction,
+        String caseType,
+        String searchRequest
     ) {
         CcdAuthenticator authenticator =
             authenticatorFactory.createForJurisdiction(jurisdiction);
         try {
-            var searchResult = feignCcdApi.searchCases(
-                authenticator.getUserToken(),
-                authenticator.getServiceToken(),
-                caseType,
-                searchString
+            var searchResult = readHedging.execute(
+                "searchCases",
+                () -> ccdSearchApi.searchCaseReferences(
+                    authenticator.getUserToken(),
+                    authenticator.getServiceToken(),
+                    caseType,
+                    searchRequest
+                )
             );
 
-            return searchResult
-                .getCases()
-                .stream()
-                .map(CaseDetails::getId)
-                .collect(toList());
+            return searchResult.cases;
 
         } catch (FeignException ex) {
             debugCcdException(log, ex, "Failed to call 'searchCases'");
@@ -588,6 +831,60 @@ public class CcdApi {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static Set<String> getBulkScanEnvelopeIds(CaseReference caseReference) {
+        var bulkScanEnvelopes = (List<Map<String, Object>>) caseReference.data.get("bulkScanEnvelopes");
+        if (bulkScanEnvelopes == null) {
+            return emptySet();
+        }
+
+        return bulkScanEnvelopes
+            .stream()
+            .map(element -> (Map<String, Object>) element.get("value"))
+            .filter(Objects::nonNull)
+            .map(envelope -> (String) envelope.get("id"))
+            .filter(Objects::nonNull)
+            .collect(toSet());
+    }
+
+    private String searchCaseTypes(String service, ServiceConfigItem serviceConfig) {
+        return searchCaseTypes.computeIfAbsent(service, s -> String.join(",", serviceConfig.getCaseTypeIds()));
+    }
+
+    private static SearchTemplate caseReferenceSearch(String field) {
+        // only case references are read from search results, so CCD is asked not to send the case data
+        return SearchRequest
+            .of(matchPhrase(field, SearchTemplate.PARAMETER))
+            .withSource("reference")
+            .withSize(MAX_SEARCH_RESULTS)
+            .compile();
+    }
+
+    private CcdRequestCredentials getCredentials(String jurisdiction) {
+        CcdAuthenticator ccdAuthenticator = authenticatorFactory.createForJurisdiction(jurisdiction);
+
+        return new CcdRequestCredentials(
+            ccdAuthenticator.getUserToken(),
+            ccdAuthenticator.getServiceToken(),
+            ccdAuthenticator.getUserId()
+        );
+    }
+
+    // conflict is left as it is, so that the update can be repeated
+    private static RuntimeException toEventException(FeignException exception, String call, String caseId) {
+        switch (exception.status()) {
+            case HTTP_NOT_FOUND:
+                return new CaseNotFoundException("Could not find case: " + caseId, exception);
+            case HTTP_CONFLICT:
+                return exception;
+            default:
+                return new CcdCallException(
+                    format("Internal Error: %s event call failed case: %s Error: %s", call, caseId, exception.status()),
+                    exception
+                );
+        }
+    }
+
     private void removeFromIdamCacheIfAuthProblem(int status, String jurisdiction) {
         if (status == HTTP_FORBIDDEN || status == HTTP_UNAUTHORIZED) {
             authenticatorFactory.removeFromCache(jurisdiction);
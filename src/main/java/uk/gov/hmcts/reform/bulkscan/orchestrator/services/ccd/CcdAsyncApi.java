@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking facade over {@link CcdApi}, so that independent CCD calls can be made at the same time
+ * and composed with {@link CompletableFuture} instead of one after another.
+ *
+ * <p>Every call is delegated to {@link CcdApi}, so it goes through the same Feign client, caches and error
+ * mapping - futures complete exceptionally with the exceptions {@link CcdApi} throws. Calls run on virtual
+ * threads when they are enabled, in which case a call waiting for CCD does not hold a platform thread.
+ * Otherwise they share a bounded pool of platform threads and wait for a free one.</p>
+ */
+@Component
+public class CcdAsyncApi {
+
+    private final CcdApi ccdApi;
+    private final ExecutorService executor;
+
+    public CcdAsyncApi(
+        CcdApi ccdApi,
+        @Value("${spring.threads.virtual.enabled}") boolean virtualThreads,
+        @Value("${ccd.async-api.max-platform-threads}") int maxPlatformThreads
+    ) {
+        this.ccdApi = ccdApi;
+        this.executor = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ccd-async-", 0).factory())
+            : Executors.newFixedThreadPool(
+                maxPlatformThreads,
+                Thread.ofPlatform().name("ccd-async-", 0).daemon().factory()
+            );
+    }
+
+    public CompletableFuture<CaseDetails> getCase(String caseRef, String jurisdiction) {
+        return async(() -> ccdApi.getCase(caseRef, jurisdiction));
+    }
+
+    public CompletableFuture<List<Long>> getCaseRefsByEnvelopeId(String envelopeId, String service) {
+        return async(() -> ccdApi.getCaseRefsByEnvelopeId(envelopeId, service));
+    }
+
+    public CompletableFuture<List<Long>> getCaseRefsByBulkScanCaseReference(
+        String bulkScanCaseReference,
+        String service
+    ) {
+        return async(() -> ccdApi.getCaseRefsByBulkScanCaseReference(bulkScanCaseReference, service));
+    }
+
+    public CompletableFuture<List<Long>> getCaseRefsByLegacyId(String legacyId, String service) {
+        return async(() -> ccdApi.getCaseRefsByLegacyId(legacyId, service));
+    }
+
+    public CompletableFuture<List<Long>> getExceptionRecordRefsByEnvelopeId(String envelopeId, String service) {
+        return async(() -> ccdApi.getExceptionRecordRefsByEnvelopeId(envelopeId, service));
+    }
+
+    public CompletableFuture<StartEventResponse> startCaseCreation(
+        String jurisdiction,
+        String caseTypeId,
+        String eventId
+    ) {
+        return async(() -> ccdApi.startCaseCreation(jurisdiction, caseTypeId, eventId));
+    }
+
+    public CompletableFuture<CaseDetails> submitCaseCreation(
+        String jurisdiction,
+        String caseTypeId,
+        CaseDataContent caseDataContent
+    ) {
+        return async(() -> ccdApi.submitCaseCreation(jurisdiction, caseTypeId, caseDataContent));
+    }
+
+    public CompletableFuture<StartEventResponse> startEvent(
+        String jurisdiction,
+        String caseTypeId,
+        String caseId,
+        String eventId
+    ) {
+        return async(() -> ccdApi.startEvent(jurisdiction, caseTypeId, caseId, eventId));
+    }
+
+    public CompletableFuture<CaseDetails> submitEvent(
+        String jurisdiction,
+        String caseTypeId,
+        String caseId,
+        CaseDataContent caseDataContent
+    ) {
+        return async(() -> ccdApi.submitEvent(jurisdiction, caseTypeId, caseId, caseDataContent));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.CaseCacheStatistics;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Short lived cache of cases retrieved from CCD, so that the same case is not retrieved
+ * several times while processing a single envelope or callback.
+ *
+ * <p>Cached case is invalidated whenever this application submits an event for it, whether the submission
+ * succeeds or not. Changes made by other services are visible once the entry expires, so cached cases are only
+ * used for read-only checks, never as the base of case data submitted to CCD.</p>
+ */
+@Component
+public class CcdCaseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CcdCaseCache.class);
+
+    private final boolean enabled;
+    // keyed by case reference only, so that invalidation waits for the case being loaded
+    private final Cache<String, CachedCase> cache;
+
+    public CcdCaseCache(
+        @Value("${ccd.case-cache.enabled}") boolean enabled,
+        @Value("${ccd.case-cache.ttl}") Duration ttl,
+        @Value("${ccd.case-cache.max-size}") long maxSize
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached case or retrieves it with the given loader. Failures to retrieve the case are not cached.
+     */
+    public CaseDetails get(String caseRef, String jurisdiction, Supplier<CaseDetails> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CachedCase cachedCase = cache.get(caseRef, key -> new CachedCase(jurisdiction, loader.get()));
+        if (cachedCase.jurisdiction.equalsIgnoreCase(jurisdiction)) {
+            return cachedCase.caseDetails;
+        }
+
+        // case was cached for another jurisdiction, i.e. with another user's access
+        return loader.get();
+    }
+
+    public void invalidate(String caseRef) {
+        if (enabled && cache.asMap().remove(caseRef) != null) {
+            log.info("Removed case {} from cache", caseRef);
+        }
+    }
+
+    public CaseCacheStatistics getStatistics() {
+        CacheStats stats = cache.stats();
+        return new CaseCacheStatistics(
+            enabled,
+            cache.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount()
+        );
+    }
+
+    private static class CachedCase {
+        final String jurisdiction;
+        final CaseDetails caseDetails;
+
+        CachedCase(String jurisdiction, CaseDetails caseDetails) {
+            this.jurisdiction = jurisdiction;
+            this.caseDetails = caseDetails;
+        }
+    }
+}
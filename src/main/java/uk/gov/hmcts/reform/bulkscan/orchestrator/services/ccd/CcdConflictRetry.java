@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Repeats a case update when CCD rejects its submission with 409 Conflict, because the case has been changed
+ * since the event was started.
+ *
+ * <p>The update must start the event and build the case data from the case returned by the start event again
+ * each time, otherwise the changes made in the meantime would be overwritten. Repeated updates are spread out
+ * with a short random delay.</p>
+ */
+@Component
+public class CcdConflictRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(CcdConflictRetry.class);
+
+    private final int maxRetries;
+    private final long backoffMillis;
+
+    public CcdConflictRetry(
+        @Value("${ccd.conflict-retry.max-retries}") int maxRetries,
+        @Value("${ccd.conflict-retry.backoff}") Duration backoff
+    ) {
+        this.maxRetries = maxRetries;
+        this.backoffMillis = backoff.toMillis();
+    }
+
+    public <T> T call(String logContext, Supplier<T> update) {
+        for (int retry = 1; ; retry++) {
+            try {
+                return update.get();
+            } catch (RuntimeException e) {
+                if (retry > maxRetries || !isConflict(e)) {
+                    throw e;
+                }
+
+                log.warn(
+                    "Case has been changed in CCD while being updated. Updating again, retry {} of {}. {}",
+                    retry,
+                    maxRetries,
+                    logContext
+                );
+                backOff(retry, e);
+            }
+        }
+    }
+
+    public void run(String logContext, Runnable update) {
+        call(
+            logContext,
+            () -> {
+                update.run();
+                return null;
+            }
+        );
+    }
+
+    private void backOff(int retry, RuntimeException conflict) {
+        if (backoffMillis > 0) {
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * retry + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw conflict;
+            }
+        }
+    }
+
+    // conflict may have been wrapped in an application exception
+    private static boolean isConflict(Throwable exception) {
+        for (Throwable e = exception; e != null; e = e.getCause() == e ? null : e.getCause()) {
+            if (e instanceof FeignException.Conflict) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
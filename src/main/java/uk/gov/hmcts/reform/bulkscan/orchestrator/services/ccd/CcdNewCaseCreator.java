@@ -34,6 +34,7 @@ import java.util.Map;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.definition.ServiceCaseFields.BULK_SCAN_CASE_REFERENCE;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.definition.ServiceCaseFields.BULK_SCAN_ENVELOPES;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.util.Util.getDocumentUuid;
@@ -284,20 +285,25 @@ public class CcdNewCaseCreator {
 
         if (scannedDocuments != null) {
             ArrayList modifiedDocs = new ArrayList();
+            List<Map<String, String>> urls = new ArrayList<>();
             for (Object scannedDocumentValue : scannedDocuments) {
                 Map<String, Object> scannedDocument = new HashMap((Map) ((Map) scannedDocumentValue).get("value"));
                 Map<String, String> url = new HashMap((Map) scannedDocument.get("url"));
-
-                String documentUrl =  url.get("document_url");
-                String documentUuid = getDocumentUuid(documentUrl);
-                String documentHash = cdamApiClient.getDocumentHash(jurisdiction, documentUuid);
-                url.put("document_hash", documentHash);
+                urls.add(url);
 
                 scannedDocument.put("url", url);
                 Map<String, Object> modScannedDocumentValue = new HashMap((Map) scannedDocumentValue);
                 modScannedDocumentValue.put("value", scannedDocument);
                 modifiedDocs.add(modScannedDocumentValue);
             }
+
+            Map<String, String> documentHashes = cdamApiClient.getDocumentHashes(
+                jurisdiction,
+                urls.stream().map(url -> getDocumentUuid(url.get("document_url"))).collect(toList())
+            );
+            for (Map<String, String> url : urls) {
+                url.put("document_hash", documentHashes.get(getDocumentUuid(url.get("document_url"))));
+            }
             caseData.put("scannedDocuments", modifiedDocs);
         }
 
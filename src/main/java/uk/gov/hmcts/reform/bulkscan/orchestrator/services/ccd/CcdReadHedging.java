@@ -0,0 +1,188 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Hedges read only CCD calls: when a call takes longer than most calls of the same operation, the same call
+ * is made again and whichever answers first is used.
+ *
+ * <p>The hedge delay is a percentile of recent latencies of the operation. Calls are not hedged until enough
+ * latencies have been recorded. The number of hedges is kept under a fraction of all calls.</p>
+ *
+ * <p>Only idempotent reads may go through here - never start event or submit calls.</p>
+ */
+@Component
+public class CcdReadHedging {
+
+    private static final Logger log = LoggerFactory.getLogger(CcdReadHedging.class);
+
+    // number of recent latencies the hedge delay is calculated from
+    private static final int LATENCY_SAMPLES = 1000;
+    // number of latencies recorded before the hedge delay is calculated again
+    private static final int RECALCULATION_INTERVAL = 100;
+    // unused hedge budget is kept up to this number of hedges
+    private static final double MAX_BUDGET = 10;
+
+    private final boolean enabled;
+    private final double latencyPercentile;
+    private final long minDelayNanos;
+    private final double maxHedgeRatio;
+    private final ExecutorService executor;
+
+    private final Map<String, Latencies> latenciesByOperation = new ConcurrentHashMap<>();
+    private double budget;
+
+    public CcdReadHedging(
+        @Value("${ccd.hedging.enabled}") boolean enabled,
+        @Value("${ccd.hedging.latency-percentile}") double latencyPercentile,
+        @Value("${ccd.hedging.min-delay}") Duration minDelay,
+        @Value("${ccd.hedging.max-hedge-ratio}") double maxHedgeRatio,
+        @Value("${spring.threads.virtual.enabled}") boolean virtualThreads
+    ) {
+        this.enabled = enabled;
+        this.latencyPercentile = latencyPercentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxHedgeRatio = maxHedgeRatio;
+        this.executor = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ccd-read-", 0).factory())
+            : Executors.newCachedThreadPool(Thread.ofPlatform().name("ccd-read-", 0).daemon().factory());
+    }
+
+    /**
+     * Makes the call, hedging it if it's slow.
+     *
+     * @param operation name of the CCD operation, latencies are tracked per operation
+     * @param call read only CCD call
+     * @return result of the call which answered first
+     */
+    public <T> T execute(String operation, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        Latencies latencies = latenciesByOperation.computeIfAbsent(operation, op -> new Latencies());
+        addBudget();
+
+        Attempts<T> attempts = new Attempts<>();
+        start(call, latencies, attempts);
+
+        long hedgeDelayNanos = latencies.getHedgeDelayNanos();
+        if (hedgeDelayNanos > 0) {
+            try {
+                return attempts.result.get(hedgeDelayNanos, NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (takeBudget()) {
+                    log.info("Hedging slow CCD call {}. Delay: {} ms", operation, hedgeDelayNanos / 1_000_000);
+                    start(call, latencies, attempts);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                // rethrown below
+            }
+        }
+
+        return await(attempts.result, operation);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> void start(Supplier<T> call, Latencies latencies, Attempts<T> attempts) {
+        attempts.pending.incrementAndGet();
+        long start = System.nanoTime();
+
+        CompletableFuture.supplyAsync(call, executor).whenComplete((value, failure) -> {
+            if (failure == null) {
+                latencies.record(System.nanoTime() - start);
+                attempts.result.complete(value);
+            } else if (attempts.pending.decrementAndGet() == 0) {
+                // all attempts failed
+                attempts.result.completeExceptionally(
+                    failure instanceof CompletionException ? failure.getCause() : failure
+                );
+            }
+        });
+    }
+
+    private synchronized void addBudget() {
+        budget = Math.min(budget + maxHedgeRatio, MAX_BUDGET);
+    }
+
+    private synchronized boolean takeBudget() {
+        if (budget >= 1) {
+            budget--;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    // rethrows the same exception as the call would
+    private static <T> T await(CompletableFuture<T> result, String operation) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for CCD call " + operation, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            } else {
+                throw new IllegalStateException("CCD call " + operation + " failed", e.getCause());
+            }
+        }
+    }
+
+    private static class Attempts<T> {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        // attempts which haven't finished yet
+        final AtomicInteger pending = new AtomicInteger();
+    }
+
+    private class Latencies {
+        private final long[] samples = new long[LATENCY_SAMPLES];
+        private long count;
+        private volatile long hedgeDelayNanos;
+
+        synchronized void record(long latencyNanos) {
+            samples[(int) (count % LATENCY_SAMPLES)] = latencyNanos;
+            count++;
+
+            if (count % RECALCULATION_INTERVAL == 0) {
+                long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, LATENCY_SAMPLES));
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(latencyPercentile * sorted.length) - 1;
+                hedgeDelayNanos = Math.max(sorted[Math.max(index, 0)], minDelayNanos);
+            }
+        }
+
+        // 0 until enough latencies have been recorded
+        long getHedgeDelayNanos() {
+            return hedgeDelayNanos;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Finds cases created from envelopes, by envelope ID.
+ *
+ * <p>When batching is enabled, lookups for the same service made at about the same time are gathered
+ * and sent to CCD as a single search. The first lookup of a batch waits for others for the gather window,
+ * unless the batch fills up before, and then sends the search. Results are handed back to all the lookups
+ * in the batch.</p>
+ */
+@Component
+public class EnvelopeCaseRefsLookup {
+
+    private static final Logger log = LoggerFactory.getLogger(EnvelopeCaseRefsLookup.class);
+
+    private final CcdApi ccdApi;
+    private final boolean batchingEnabled;
+    private final Duration gatherWindow;
+    private final int maxBatchSize;
+
+    // batches which haven't been sent yet, by service
+    private final Map<String, Batch> pendingBatches = new HashMap<>();
+
+    public EnvelopeCaseRefsLookup(
+        CcdApi ccdApi,
+        @Value("${ccd.envelope-id-lookup.batching-enabled}") boolean batchingEnabled,
+        @Value("${ccd.envelope-id-lookup.gather-window}") Duration gatherWindow,
+        @Value("${ccd.envelope-id-lookup.max-batch-size}") int maxBatchSize
+    ) {
+        this.ccdApi = ccdApi;
+        this.batchingEnabled = batchingEnabled;
+        this.gatherWindow = gatherWindow;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public List<Long> getCaseRefsByEnvelopeId(String envelopeId, String service) {
+        if (!batchingEnabled) {
+            return ccdApi.getCaseRefsByEnvelopeId(envelopeId, service);
+        }
+
+        Batch batch;
+        boolean firstInBatch;
+        boolean batchFull;
+        CompletableFuture<List<Long>> result;
+
+        synchronized (pendingBatches) {
+            batch = pendingBatches.get(service);
+            firstInBatch = batch == null;
+            if (firstInBatch) {
+                batch = new Batch(service);
+                pendingBatches.put(service, batch);
+            }
+
+            result = batch.add(envelopeId);
+            batchFull = batch.size() >= maxBatchSize;
+        }
+
+        if (batchFull) {
+            send(batch);
+        } else if (firstInBatch) {
+            awaitGatherWindow(result);
+            send(batch);
+        }
+
+        return await(result);
+    }
+
+    private void awaitGatherWindow(CompletableFuture<List<Long>> result) {
+        try {
+            result.get(gatherWindow.toNanos(), NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // gather window is over or the batch has been sent already
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // sends the batch, unless someone else has done it already
+    private void send(Batch batch) {
+        synchronized (pendingBatches) {
+            if (!pendingBatches.remove(batch.service, batch)) {
+                return;
+            }
+        }
+
+        try {
+            Map<String, List<Long>> caseRefs = search(batch);
+            batch.lookups.forEach(
+                (envelopeId, lookup) -> lookup.complete(caseRefs.getOrDefault(envelopeId, emptyList()))
+            );
+        } catch (RuntimeException e) {
+            batch.lookups.values().forEach(lookup -> lookup.completeExceptionally(e));
+        }
+    }
+
+    private Map<String, List<Long>> search(Batch batch) {
+        if (batch.size() == 1) {
+            // nobody else searched in the meantime
+            String envelopeId = batch.lookups.keySet().iterator().next();
+            return Map.of(envelopeId, ccdApi.getCaseRefsByEnvelopeId(envelopeId, batch.service));
+        }
+
+        log.info("Searching cases by {} envelope IDs at once. Service: {}", batch.size(), batch.service);
+        return ccdApi.getCaseRefsByEnvelopeIds(batch.lookups.keySet(), batch.service);
+    }
+
+    // rethrows the same exception as searching by single envelope ID would
+    private static List<Long> await(CompletableFuture<List<Long>> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching cases by envelope ID", e);
+        }
+    }
+
+    private static class Batch {
+        final String service;
+        // lookups of the same envelope ID share the result
+        final Map<String, CompletableFuture<List<Long>>> lookups = new LinkedHashMap<>();
+
+        Batch(String service) {
+            this.service = service;
+        }
+
+        CompletableFuture<List<Long>> add(String envelopeId) {
+            return lookups.computeIfAbsent(envelopeId, id -> new CompletableFuture<>());
+        }
+
+        int size() {
+            return lookups.size();
+        }
+    }
+}
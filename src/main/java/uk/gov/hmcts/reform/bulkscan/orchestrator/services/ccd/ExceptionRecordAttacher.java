@@ -122,7 +122,8 @@ public class ExceptionRecordAttacher {
         String exceptionRecordJurisdiction,
         Long exceptionRecordReference
     ) {
-        CaseDetails fetchedExceptionRecord = ccdApi.getCase(
+        // attachToCaseReference is set by CCD from callback response, so cached exception record may be stale
+        CaseDetails fetchedExceptionRecord = ccdApi.getUncachedCase(
             exceptionRecordReference.toString(),
             exceptionRecordJurisdiction
         );
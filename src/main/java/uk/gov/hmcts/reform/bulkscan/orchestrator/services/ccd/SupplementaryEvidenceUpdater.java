@@ -26,21 +26,36 @@ public class SupplementaryEvidenceUpdater {
     private final CcdApi ccdApi;
     private final AttachScannedDocumentsValidator scannedDocumentsValidator;
     private final CdamApiClient cdamApiClient;
+    private final CcdConflictRetry conflictRetry;
 
     public SupplementaryEvidenceUpdater(
         CcdApi ccdApi,
         AttachScannedDocumentsValidator scannedDocumentsValidator,
-        CdamApiClient cdamApiClient
+        CdamApiClient cdamApiClient,
+        CcdConflictRetry conflictRetry
     ) {
         this.ccdApi = ccdApi;
         this.scannedDocumentsValidator = scannedDocumentsValidator;
         this.cdamApiClient = cdamApiClient;
+        this.conflictRetry = conflictRetry;
     }
 
     public boolean updateSupplementaryEvidence(
         AttachToCaseEventData callBackEvent,
         CaseDetails targetCase,
         String targetCaseCcdRef
+    ) {
+        // documents to attach are worked out from the case returned by start event, so it's safe to repeat
+        return conflictRetry.call(
+            String.format("ER ID: %s. Case ID: %s", callBackEvent.exceptionRecordId, targetCaseCcdRef),
+            () -> attachExceptionRecord(callBackEvent, targetCase, targetCaseCcdRef)
+        );
+    }
+
+    private boolean attachExceptionRecord(
+        AttachToCaseEventData callBackEvent,
+        CaseDetails targetCase,
+        String targetCaseCcdRef
     ) {
         StartEventResponse ccdStartEvent =
             ccdApi.startAttachScannedDocs(targetCase, callBackEvent.idamToken, callBackEvent.userId);
@@ -122,6 +137,15 @@ public class SupplementaryEvidenceUpdater {
             exceptionDocumentsDcns
         );
 
+        Map<String, String> documentHashes = cdamApiClient.getDocumentHashes(
+            jurisdiction,
+            exceptionDocuments
+                .stream()
+                .map(document -> (Map) ((Map) document.get("value")).get("url"))
+                .map(url -> getDocumentUuid((String) url.get("document_url")))
+                .collect(toList())
+        );
+
         return exceptionDocuments
             .stream()
             .map(document -> {
@@ -142,8 +166,7 @@ public class SupplementaryEvidenceUpdater {
                     exceptionRecordReference,
                     documentUuid
                 );
-                String documentHash = cdamApiClient.getDocumentHash(jurisdiction, documentUuid);
-                url.put("document_hash", documentHash);
+                url.put("document_hash", documentHashes.get(documentUuid));
                 copiedDocumentContent.put("url", url);
                 return Map.<String, Object>of("value", copiedDocumentContent);
             })
@@ -8,6 +8,7 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.CaseAction;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.caseupdatedetails.CaseUpdateDetailsService;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CaseFinder;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdApi;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdConflictRetry;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.EventIds;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
 
@@ -32,6 +33,7 @@ public class AutoCaseUpdater {
     private final CaseDataContentBuilderProvider caseDataBuilderProvider;
 
     private final CaseDataUpdater caseDataUpdater;
+    private final CcdConflictRetry conflictRetry;
     // region constructor
 
     public AutoCaseUpdater(
@@ -39,57 +41,23 @@ public class AutoCaseUpdater {
         CaseFinder caseFinder,
         CcdApi ccdApi,
         CaseDataContentBuilderProvider caseDataBuilderProvider,
-        CaseDataUpdater caseDataUpdater
+        CaseDataUpdater caseDataUpdater,
+        CcdConflictRetry conflictRetry
     ) {
         this.caseUpdateDataService = caseUpdateDataService;
         this.caseFinder = caseFinder;
         this.ccdApi = ccdApi;
         this.caseDataBuilderProvider = caseDataBuilderProvider;
         this.caseDataUpdater = caseDataUpdater;
+        this.conflictRetry = conflictRetry;
     }
 
     // endregion
 
     public AutoCaseUpdateResult updateCase(Envelope envelope) {
         try {
-            return caseFinder
-                .findCase(envelope)
-                .map(
-                    existingCase -> {
-                        var caseUpdateResult =
-                            caseUpdateDataService
-                                .getCaseUpdateData(
-                                    envelope.container,
-                                    existingCase,
-                                    envelope
-                                );
-
-                        Map<String, Object>  updatedCaseData = caseDataUpdater
-                            .updateEnvelopeReferences(
-                                caseUpdateResult.caseDetails.caseData,
-                                envelope.id,
-                                CaseAction.UPDATE,
-                                existingCase.getData()
-                            );
-
-                        updatedCaseData = caseDataUpdater.setDocumentHash(envelope, updatedCaseData);
-
-                        ccdApi.updateCase(
-                            existingCase.getJurisdiction(),
-                            existingCase.getCaseTypeId(),
-                            EventIds.ATTACH_SCANNED_DOCS_WITH_OCR,
-                            existingCase.getId().toString(),
-                            caseDataBuilderProvider.getBuilder(updatedCaseData, envelope.id),
-                            getLoggingInfo(envelope)
-                        );
-
-                        return new AutoCaseUpdateResult(OK, existingCase.getId());
-                    }
-                )
-                .orElseGet(() -> {
-                    log.warn("Auto case update abandoned - case not found for envelope. {}", getLoggingInfo(envelope));
-                    return new AutoCaseUpdateResult(ABANDONED, null);
-                });
+            // case is read and its update worked out again when repeating, so no changes made in between are lost
+            return conflictRetry.call(getLoggingInfo(envelope), () -> findAndUpdateCase(envelope));
         } catch (Exception exc) {
             log.error(
                 "Error while trying to automatically update a case. {}",
@@ -101,6 +69,47 @@ public class AutoCaseUpdater {
         }
     }
 
+    private AutoCaseUpdateResult findAndUpdateCase(Envelope envelope) {
+        return caseFinder
+            .findCase(envelope)
+            .map(
+                existingCase -> {
+                    var caseUpdateResult =
+                        caseUpdateDataService
+                            .getCaseUpdateData(
+                                envelope.container,
+                                existingCase,
+                                envelope
+                            );
+
+                    Map<String, Object>  updatedCaseData = caseDataUpdater
+                        .updateEnvelopeReferences(
+                            caseUpdateResult.caseDetails.caseData,
+                            envelope.id,
+                            CaseAction.UPDATE,
+                            existingCase.getData()
+                        );
+
+                    updatedCaseData = caseDataUpdater.setDocumentHash(envelope, updatedCaseData);
+
+                    ccdApi.updateCase(
+                        existingCase.getJurisdiction(),
+                        existingCase.getCaseTypeId(),
+                        EventIds.ATTACH_SCANNED_DOCS_WITH_OCR,
+                        existingCase.getId().toString(),
+                        caseDataBuilderProvider.getBuilder(updatedCaseData, envelope.id),
+                        getLoggingInfo(envelope)
+                    );
+
+                    return new AutoCaseUpdateResult(OK, existingCase.getId());
+                }
+            )
+            .orElseGet(() -> {
+                log.warn("Auto case update abandoned - case not found for envelope. {}", getLoggingInfo(envelope));
+                return new AutoCaseUpdateResult(ABANDONED, null);
+            });
+    }
+
     private String getLoggingInfo(Envelope envelope) {
         return format(
             "Envelope ID: %s. File name: %s. Service: %s. Case ref: %s. Legacy case ref: %s.",
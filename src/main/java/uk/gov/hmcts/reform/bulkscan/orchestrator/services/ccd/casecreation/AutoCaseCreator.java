@@ -4,25 +4,39 @@ import feign.FeignException;
 import org.apache.logging.log4j.util.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.client.cdam.CdamApiClient;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.client.transformation.EnvelopeTransformer;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.client.transformation.model.response.CaseCreationDetails;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerEntry;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.CaseAction;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.CcdCollectionElement;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.EnvelopeReference;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.EnvelopeLedger;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdApi;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdAsyncApi;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.EnvelopeCaseRefsLookup;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.config.ServiceConfigProvider;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.Event;
+import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.CASE_CREATED;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.util.Util.getDocumentUuid;
 
 @Service
@@ -34,17 +48,32 @@ public class AutoCaseCreator {
     private final CcdApi ccdApi;
     private final ServiceConfigProvider serviceConfigProvider;
     private final CdamApiClient cdamApiClient;
+    private final EnvelopeLedger envelopeLedger;
+    private final EnvelopeCaseRefsLookup envelopeCaseRefsLookup;
+    private final CcdAsyncApi ccdAsyncApi;
+    private final boolean earlyStartEventEnabled;
+
+    // case creation event last used for each service, the next case is likely to be created with the same one
+    private final Map<String, CaseCreationEvent> lastCaseCreationEvents = new ConcurrentHashMap<>();
 
     public AutoCaseCreator(
             EnvelopeTransformer envelopeTransformer,
             CcdApi ccdApi,
             ServiceConfigProvider serviceConfigProvider,
-            CdamApiClient cdamApiClient
+            CdamApiClient cdamApiClient,
+            EnvelopeLedger envelopeLedger,
+            EnvelopeCaseRefsLookup envelopeCaseRefsLookup,
+            CcdAsyncApi ccdAsyncApi,
+            @Value("${ccd.auto-case-creation.early-start-event-enabled}") boolean earlyStartEventEnabled
     ) {
         this.envelopeTransformer = envelopeTransformer;
         this.ccdApi = ccdApi;
         this.serviceConfigProvider = serviceConfigProvider;
         this.cdamApiClient = cdamApiClient;
+        this.envelopeLedger = envelopeLedger;
+        this.envelopeCaseRefsLookup = envelopeCaseRefsLookup;
+        this.ccdAsyncApi = ccdAsyncApi;
+        this.earlyStartEventEnabled = earlyStartEventEnabled;
     }
 
     public CaseCreationResult createCase(Envelope envelope) {
@@ -60,7 +89,14 @@ public class AutoCaseCreator {
     }
 
     private CaseCreationResult createCaseIfDoesNotExist(Envelope envelope, String loggingContext) {
-        List<Long> caseIds = ccdApi.getCaseRefsByEnvelopeId(envelope.id, envelope.container);
+        Optional<EnvelopeLedgerEntry> caseCreated = envelopeLedger.findCompletedStep(envelope.id, CASE_CREATED);
+        if (caseCreated.isPresent()) {
+            long caseId = caseCreated.get().ccdId;
+            log.info("Case already created for envelope - skipping creation. Case ID: {}. {}", caseId, loggingContext);
+            return CaseCreationResult.caseAlreadyExists(caseId);
+        }
+
+        List<Long> caseIds = envelopeCaseRefsLookup.getCaseRefsByEnvelopeId(envelope.id, envelope.container);
 
         if (caseIds.isEmpty()) {
             return transformAndCreateCase(envelope, loggingContext);
@@ -80,6 +116,10 @@ public class AutoCaseCreator {
     }
 
     private CaseCreationResult transformAndCreateCase(Envelope envelope, String loggingContext) {
+        if (earlyStartEventEnabled) {
+            return transformAndCreateCaseWithEarlyStart(envelope, loggingContext);
+        }
+
         return envelopeTransformer.transformEnvelope(envelope)
             .map(resp -> resp.caseCreationDetails)
             .map(caseCreationDetails -> updateDocumentHash(envelope.jurisdiction, caseCreationDetails))
@@ -93,6 +133,64 @@ public class AutoCaseCreator {
             );
     }
 
+    /**
+     * Starts case creation event in CCD while the envelope is being transformed, using the case type and event
+     * the previous case of the service was created with. The started event is used only if transformation
+     * returns the same case type and event - otherwise it's left unused and a new one is started.
+     * Document hashes are retrieved from CDAM while CCD is starting the event.
+     */
+    private CaseCreationResult transformAndCreateCaseWithEarlyStart(Envelope envelope, String loggingContext) {
+        CaseCreationEvent expectedEvent = lastCaseCreationEvents.get(envelope.container);
+        CompletableFuture<StartEventResponse> earlyStart = expectedEvent == null
+            ? null
+            : ccdAsyncApi.startCaseCreation(envelope.jurisdiction, expectedEvent.caseTypeId, expectedEvent.eventId);
+
+        return envelopeTransformer.transformEnvelope(envelope)
+            .map(resp -> resp.caseCreationDetails)
+            .map(caseCreationDetails -> {
+                CaseCreationEvent event = new CaseCreationEvent(caseCreationDetails);
+                lastCaseCreationEvents.put(envelope.container, event);
+
+                CompletableFuture<StartEventResponse> startEvent;
+                if (event.equals(expectedEvent)) {
+                    // start again if early start failed, so that its failure is handled like any other
+                    startEvent = earlyStart.exceptionallyCompose(
+                        ex -> ccdAsyncApi.startCaseCreation(envelope.jurisdiction, event.caseTypeId, event.eventId)
+                    );
+                } else {
+                    discardEarlyStart(earlyStart, loggingContext);
+                    startEvent = ccdAsyncApi.startCaseCreation(envelope.jurisdiction, event.caseTypeId, event.eventId);
+                }
+
+                try {
+                    updateDocumentHash(envelope.jurisdiction, caseCreationDetails);
+                } catch (RuntimeException ex) {
+                    discardEarlyStart(startEvent, loggingContext);
+                    throw ex;
+                }
+                return createCaseInCcd(caseCreationDetails, envelope, startEvent, loggingContext);
+            })
+            .getOrElseGet(failureType -> {
+                    discardEarlyStart(earlyStart, loggingContext);
+                    log.warn("Failed to auto create case, failure type {}, {}", failureType, loggingContext);
+                    return failureType == EnvelopeTransformer.TransformationFailureType.UNRECOVERABLE
+                        ? CaseCreationResult.unrecoverableFailure()
+                        : CaseCreationResult.potentiallyRecoverableFailure();
+                }
+            );
+    }
+
+    // CCD lets unused event tokens expire, so an event started in vain only needs to be ignored
+    private void discardEarlyStart(CompletableFuture<StartEventResponse> startEvent, String loggingContext) {
+        if (startEvent != null) {
+            startEvent.whenComplete((response, ex) -> log.info(
+                "Case creation event started early was not used. Start failed: {}. {}",
+                ex != null,
+                loggingContext
+            ));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private CaseCreationDetails updateDocumentHash(
             String jurisdiction,
@@ -102,13 +200,18 @@ public class AutoCaseCreator {
                 (List<?>)caseCreationDetails.caseData.get("scannedDocuments");
 
         if (scannedDocuments != null) {
-            for (Object scannedDocumentValue : scannedDocuments) {
-                Map scannedDocument = (Map)((Map) scannedDocumentValue).get("value");
-                Map url = (Map)scannedDocument.get("url");
-                String documentUrl = (String) url.get("document_url");
-                String documentUuid = getDocumentUuid(documentUrl);
-                String documentHash = cdamApiClient.getDocumentHash(jurisdiction, documentUuid);
-                url.put("document_hash", documentHash);
+            List<Map> urls = scannedDocuments
+                .stream()
+                .map(scannedDocumentValue -> (Map) ((Map) ((Map) scannedDocumentValue).get("value")).get("url"))
+                .collect(toList());
+
+            Map<String, String> documentHashes = cdamApiClient.getDocumentHashes(
+                jurisdiction,
+                urls.stream().map(url -> getDocumentUuid((String) url.get("document_url"))).collect(toList())
+            );
+
+            for (Map url : urls) {
+                url.put("document_hash", documentHashes.get(getDocumentUuid((String) url.get("document_url"))));
             }
         }
 
@@ -119,11 +222,26 @@ public class AutoCaseCreator {
         CaseCreationDetails caseCreationDetails,
         Envelope envelope,
         String loggingContext
+    ) {
+        return createCaseInCcd(
+            caseCreationDetails,
+            envelope,
+            loggingContext,
+            () -> callCcdApiToCreateCase(caseCreationDetails, envelope, loggingContext)
+        );
+    }
+
+    private CaseCreationResult createCaseInCcd(
+        CaseCreationDetails caseCreationDetails,
+        Envelope envelope,
+        String loggingContext,
+        Supplier<Long> ccdCall
     ) {
         try {
             log.info("About to auto create a case in CCD from envelope. {}", loggingContext);
-            long caseId = callCcdApiToCreateCase(caseCreationDetails, envelope, loggingContext);
+            long caseId = ccdCall.get();
             log.info("Auto created a case in CCD from envelope. Case Id: {}. {}", caseId, loggingContext);
+            envelopeLedger.recordCompletedStep(envelope.id, CASE_CREATED, caseId);
 
             return CaseCreationResult.caseCreated(caseId);
         } catch (FeignException.UnprocessableEntity | FeignException.BadRequest ex) {
@@ -146,6 +264,43 @@ public class AutoCaseCreator {
         }
     }
 
+    private CaseCreationResult createCaseInCcd(
+        CaseCreationDetails caseCreationDetails,
+        Envelope envelope,
+        CompletableFuture<StartEventResponse> startEvent,
+        String loggingContext
+    ) {
+        return createCaseInCcd(
+            caseCreationDetails,
+            envelope,
+            loggingContext,
+            () -> {
+                StartEventResponse startEventResponse = join(startEvent);
+                return ccdApi
+                    .submitCaseCreation(
+                        envelope.jurisdiction,
+                        caseCreationDetails.caseTypeId,
+                        getCaseDataContent(
+                            caseCreationDetails.caseData,
+                            envelope.id,
+                            startEventResponse.getEventId(),
+                            startEventResponse.getToken()
+                        )
+                    )
+                    .getId();
+            }
+        );
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            // CCD call exceptions are handled by their type
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+        }
+    }
+
     private long callCcdApiToCreateCase(
         CaseCreationDetails caseCreationDetails,
         Envelope envelope,
@@ -193,6 +348,33 @@ public class AutoCaseCreator {
             .build();
     }
 
+    private static class CaseCreationEvent {
+        final String caseTypeId;
+        final String eventId;
+
+        CaseCreationEvent(CaseCreationDetails caseCreationDetails) {
+            this.caseTypeId = caseCreationDetails.caseTypeId;
+            this.eventId = caseCreationDetails.eventId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CaseCreationEvent)) {
+                return false;
+            }
+            CaseCreationEvent that = (CaseCreationEvent) o;
+            return Objects.equals(caseTypeId, that.caseTypeId) && Objects.equals(eventId, that.eventId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(caseTypeId, eventId);
+        }
+    }
+
     private String getLoggingContext(Envelope envelope) {
         return format(
             "Envelope ID: %s. File name: %s. Service: %s.",
@@ -4,7 +4,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerEntry;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.mappers.ExceptionRecordMapper;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.EnvelopeLedger;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdApi;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdAuthenticator;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.EventIds;
@@ -17,6 +19,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.EXCEPTION_RECORD_CREATED;
+
 @Component
 public class CreateExceptionRecord {
 
@@ -27,13 +31,16 @@ public class CreateExceptionRecord {
 
     private final ExceptionRecordMapper mapper;
     private final CcdApi ccdApi;
+    private final EnvelopeLedger envelopeLedger;
 
     public CreateExceptionRecord(
         ExceptionRecordMapper mapper,
-        CcdApi ccdApi
+        CcdApi ccdApi,
+        EnvelopeLedger envelopeLedger
     ) {
         this.mapper = mapper;
         this.ccdApi = ccdApi;
+        this.envelopeLedger = envelopeLedger;
     }
 
     /**
@@ -43,6 +50,18 @@ public class CreateExceptionRecord {
      * @return ccdReference of the created or already existing exception record
      */
     public Long tryCreateFrom(Envelope envelope) {
+        Optional<EnvelopeLedgerEntry> exceptionRecordCreated =
+            envelopeLedger.findCompletedStep(envelope.id, EXCEPTION_RECORD_CREATED);
+
+        if (exceptionRecordCreated.isPresent()) {
+            log.info(
+                "Exception record already created for envelope {}: {}",
+                envelope.id,
+                exceptionRecordCreated.get().ccdId
+            );
+            return exceptionRecordCreated.get().ccdId;
+        }
+
         log.info("Checking for existing exception records for envelope {}", envelope.id);
 
         List<Long> existingExceptionRecords =
@@ -90,6 +109,8 @@ public class CreateExceptionRecord {
             loggingContext
         );
 
+        envelopeLedger.recordCompletedStep(envelope.id, EXCEPTION_RECORD_CREATED, caseDetails.getId());
+
         return caseDetails.getId();
     }
 
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Elasticsearch query, as used in the body of CCD case search. Values are escaped when the query is written.
+ */
+public abstract class SearchQuery {
+
+    abstract void write(JsonGenerator generator) throws IOException;
+
+    /**
+     * Matches cases whose field contains the exact phrase.
+     */
+    public static SearchQuery matchPhrase(String field, String value) {
+        return new MatchPhrase(field, value);
+    }
+
+    /**
+     * Matches cases whose field has any of the given values.
+     */
+    public static SearchQuery terms(String field, List<String> values) {
+        return new Terms(field, List.copyOf(values));
+    }
+
+    /**
+     * Matches cases matching at least one of the given queries (bool query with should clauses).
+     */
+    public static SearchQuery anyOf(List<SearchQuery> queries) {
+        return new AnyOf(List.copyOf(queries));
+    }
+
+    private static final class MatchPhrase extends SearchQuery {
+        private final String field;
+        private final String value;
+
+        private MatchPhrase(String field, String value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        @Override
+        void write(JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("match_phrase");
+            generator.writeStringField(field, value);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private static final class Terms extends SearchQuery {
+        private final String field;
+        private final List<String> values;
+
+        private Terms(String field, List<String> values) {
+            this.field = field;
+            this.values = values;
+        }
+
+        @Override
+        void write(JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("terms");
+            generator.writeArrayFieldStart(field);
+            for (String value : values) {
+                generator.writeString(value);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private static final class AnyOf extends SearchQuery {
+        private final List<SearchQuery> queries;
+
+        private AnyOf(List<SearchQuery> queries) {
+            this.queries = queries;
+        }
+
+        @Override
+        void write(JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("bool");
+            generator.writeArrayFieldStart("should");
+            for (SearchQuery query : queries) {
+                query.write(generator);
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("minimum_should_match", 1);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+}
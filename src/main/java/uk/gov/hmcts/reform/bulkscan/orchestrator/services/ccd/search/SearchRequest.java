@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Body of CCD case search request: the query, the case fields to return and the maximum number of cases.
+ */
+public final class SearchRequest {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final SearchQuery query;
+    private final List<String> sourceFields;
+    private final Integer size;
+
+    private SearchRequest(SearchQuery query, List<String> sourceFields, Integer size) {
+        this.query = query;
+        this.sourceFields = sourceFields;
+        this.size = size;
+    }
+
+    public static SearchRequest of(SearchQuery query) {
+        return new SearchRequest(query, emptyList(), null);
+    }
+
+    /**
+     * Limits the fields of each case returned, e.g. to {@code reference} when only case IDs are needed.
+     */
+    public SearchRequest withSource(String... fields) {
+        return new SearchRequest(query, List.of(fields), size);
+    }
+
+    public SearchRequest withSize(int size) {
+        return new SearchRequest(query, sourceFields, size);
+    }
+
+    public String toJson() {
+        StringWriter writer = new StringWriter(128);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.writeStartObject();
+            if (!sourceFields.isEmpty()) {
+                generator.writeArrayFieldStart("_source");
+                for (String field : sourceFields) {
+                    generator.writeString(field);
+                }
+                generator.writeEndArray();
+            }
+            if (size != null) {
+                generator.writeNumberField("size", size);
+            }
+            generator.writeFieldName("query");
+            query.write(generator);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            // not expected when writing to a string
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes the request once, so that it only needs the parameter value to be filled in for each search.
+     * The query must use {@link SearchTemplate#PARAMETER} as the value of exactly one of its fields.
+     */
+    public SearchTemplate compile() {
+        return SearchTemplate.of(toJson());
+    }
+}
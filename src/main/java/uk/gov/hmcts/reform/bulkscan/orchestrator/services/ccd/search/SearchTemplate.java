@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * Search request written in advance, with a single parameter to fill in.
+ */
+public final class SearchTemplate {
+
+    public static final String PARAMETER = "${parameter}";
+
+    private static final String QUOTED_PARAMETER = "\"" + PARAMETER + "\"";
+
+    // request up to and including the opening quote of the parameter value
+    private final String prefix;
+    // request from the closing quote of the parameter value
+    private final String suffix;
+
+    private SearchTemplate(String prefix, String suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    static SearchTemplate of(String json) {
+        int parameterIndex = json.indexOf(QUOTED_PARAMETER);
+        if (parameterIndex < 0 || parameterIndex != json.lastIndexOf(QUOTED_PARAMETER)) {
+            throw new IllegalArgumentException("Search request must have exactly one parameter: " + json);
+        }
+
+        return new SearchTemplate(
+            json.substring(0, parameterIndex + 1),
+            json.substring(parameterIndex + QUOTED_PARAMETER.length() - 1)
+        );
+    }
+
+    public String render(String value) {
+        char[] escapedValue = JsonStringEncoder.getInstance().quoteAsString(value);
+        return new StringBuilder(prefix.length() + escapedValue.length + suffix.length())
+            .append(prefix)
+            .append(escapedValue)
+            .append(suffix)
+            .toString();
+    }
+}
@@ -1,16 +1,34 @@
 package uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam;
 
 import feign.FeignException;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.JurisdictionConfigurationStatus;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam.cache.IdamCachedClient;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Checks if users of configured jurisdictions can sign in to IDAM.
+ *
+ * <p>Jurisdictions are checked at the same time, each one for no longer than the configured timeout.
+ * Result of checking all jurisdictions is reused for the check validity duration when all of them
+ * succeeded, so that repeated status and readiness checks don't log in to IDAM every time. Failures are
+ * not reused, so that a jurisdiction which can sign in again is reported as soon as it's checked.</p>
+ */
 @Service
 @EnableConfigurationProperties(JurisdictionToUserMapping.class)
 public class AuthenticationChecker {
@@ -19,21 +37,61 @@ public class AuthenticationChecker {
 
     private final JurisdictionToUserMapping jurisdictionMapping;
     private final IdamCachedClient idamClient;
+    private final Duration checkValidityDuration;
+    private final Duration checkTimeout;
+    private final ExecutorService executor;
+
+    private final Object checkLock = new Object();
+    private volatile SignInCheck lastCheck;
 
     public AuthenticationChecker(
         JurisdictionToUserMapping jurisdictionMapping,
-        IdamCachedClient idamClient
+        IdamCachedClient idamClient,
+        @Value("${task.check-jurisdiction-log-in.check-validity-duration}") Duration checkValidityDuration,
+        @Value("${task.check-jurisdiction-log-in.timeout}") Duration checkTimeout,
+        @Value("${spring.threads.virtual.enabled}") boolean virtualThreads
     ) {
         this.jurisdictionMapping = jurisdictionMapping;
         this.idamClient = idamClient;
+        this.checkValidityDuration = checkValidityDuration;
+        this.checkTimeout = checkTimeout;
+        this.executor = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("idam-check-", 0).factory())
+            : Executors.newCachedThreadPool(Thread.ofPlatform().name("idam-check-", 0).daemon().factory());
     }
 
+    /**
+     * Checks sign in for all configured jurisdictions, unless all of them have signed in successfully
+     * within the check validity duration, in which case the last result is returned.
+     */
     public List<JurisdictionConfigurationStatus> checkSignInForAllJurisdictions() {
-        return jurisdictionMapping.getUsers()
-            .entrySet()
-            .stream()
-            .map(entry -> checkSignIn(entry.getKey(), entry.getValue()))
-            .collect(Collectors.toList());
+        SignInCheck check = lastCheck;
+        if (check != null && check.isValid()) {
+            return check.statuses;
+        }
+
+        synchronized (checkLock) {
+            check = lastCheck;
+            if (check == null || !check.isValid()) {
+                List<JurisdictionConfigurationStatus> statuses = checkSignInConcurrently();
+                Instant checkedAt = Instant.now();
+                boolean allCorrect = statuses.stream().allMatch(status -> status.isCorrect);
+                check = new SignInCheck(
+                    statuses,
+                    checkedAt,
+                    allCorrect ? checkedAt.plus(checkValidityDuration) : checkedAt
+                );
+                lastCheck = check;
+            }
+            return check.statuses;
+        }
+    }
+
+    /**
+     * Result of the last check of all jurisdictions, without checking them again.
+     */
+    public Optional<SignInCheck> getLastSignInCheck() {
+        return Optional.ofNullable(lastCheck);
     }
 
     public JurisdictionConfigurationStatus checkSignInForJurisdiction(String jurisdiction) {
@@ -44,6 +102,34 @@ public class AuthenticationChecker {
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<JurisdictionConfigurationStatus> checkSignInConcurrently() {
+        List<CompletableFuture<JurisdictionConfigurationStatus>> checks = jurisdictionMapping.getUsers()
+            .entrySet()
+            .stream()
+            .map(entry -> CompletableFuture
+                .supplyAsync(() -> checkSignIn(entry.getKey(), entry.getValue()), executor)
+                // sign in carries on in the background and its credentials are cached if it succeeds
+                .completeOnTimeout(timedOut(entry.getKey()), checkTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            )
+            .collect(toList());
+
+        return checks.stream().map(CompletableFuture::join).toList();
+    }
+
+    private JurisdictionConfigurationStatus timedOut(String jurisdiction) {
+        return new JurisdictionConfigurationStatus(
+            jurisdiction,
+            false,
+            String.format("Sign in did not complete within %s", checkTimeout),
+            null
+        );
+    }
+
     private JurisdictionConfigurationStatus checkSignIn(String jurisdiction, Credential credential) {
         try {
             idamClient.getIdamCredentials(jurisdiction);
@@ -73,4 +159,20 @@ public class AuthenticationChecker {
             return new JurisdictionConfigurationStatus(jurisdiction, false, e.getMessage(), null);
         }
     }
+
+    public static class SignInCheck {
+        public final List<JurisdictionConfigurationStatus> statuses;
+        public final Instant checkedAt;
+        public final Instant validUntil;
+
+        SignInCheck(List<JurisdictionConfigurationStatus> statuses, Instant checkedAt, Instant validUntil) {
+            this.statuses = statuses;
+            this.checkedAt = checkedAt;
+            this.validUntil = validUntil;
+        }
+
+        boolean isValid() {
+            return Instant.now().isBefore(validUntil);
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.JurisdictionConfigurationStatus;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Reports the result of the last check of jurisdictions' sign in to IDAM. Never signs in itself.
+ *
+ * <p>Health is down when IDAM rejects any jurisdiction's user, which is also when queue processing
+ * is paused.</p>
+ */
+@Component
+public class IdamSignInHealthIndicator implements HealthIndicator {
+
+    private final AuthenticationChecker authenticationChecker;
+
+    public IdamSignInHealthIndicator(AuthenticationChecker authenticationChecker) {
+        this.authenticationChecker = authenticationChecker;
+    }
+
+    @Override
+    public Health health() {
+        return authenticationChecker
+            .getLastSignInCheck()
+            .map(this::health)
+            .orElseGet(() -> Health.unknown().withDetail("reason", "Sign in has not been checked yet").build());
+    }
+
+    private Health health(AuthenticationChecker.SignInCheck check) {
+        List<String> rejected = check.statuses
+            .stream()
+            .filter(JurisdictionConfigurationStatus::isClientError)
+            .map(status -> status.jurisdiction)
+            .collect(toList());
+
+        List<String> failed = check.statuses
+            .stream()
+            .filter(status -> !status.isCorrect && !status.isClientError())
+            .map(status -> status.jurisdiction)
+            .collect(toList());
+
+        return (rejected.isEmpty() ? Health.up() : Health.down())
+            .withDetail("checkedAt", check.checkedAt)
+            .withDetail("rejectedJurisdictions", rejected)
+            .withDetail("failedJurisdictions", failed)
+            .build();
+    }
+}
@@ -2,8 +2,12 @@ package uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam.Credential;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam.JurisdictionToUserMapping;
@@ -11,6 +15,25 @@ import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.TokenResponse;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Caches IDAM credentials of jurisdiction users until shortly before their tokens expire.
+ *
+ * <p>When refresh ahead is configured, credentials are retrieved again in the background before they expire
+ * and the cached ones are used until new ones arrive. Credentials of all configured jurisdictions can also be
+ * retrieved when the application starts, so that processing does not have to wait for IDAM.</p>
+ */
 @Service
 public class IdamCachedClient {
 
@@ -18,31 +41,161 @@ public class IdamCachedClient {
     public static final String BEARER_AUTH_TYPE = "Bearer ";
     public static final String EXPIRES_IN = "expires_in";
 
+    // delay of the next attempt when refreshing credentials in the background fails
+    private static final long REFRESH_RETRY_DELAY_SECONDS = 30;
+
     private Cache<String, CachedIdamCredential> idamCache;
 
     private final IdamClient idamClient;
     private final JurisdictionToUserMapping users;
+    private final IdamCacheExpiry idamCacheExpiry;
+    private final long refreshAheadSeconds;
+    private final boolean prewarmEnabled;
+
+    private final ScheduledExecutorService refreshScheduler;
+    private final ExecutorService prewarmExecutor;
+    private final Map<String, ScheduledFuture<?>> scheduledRefreshes = new ConcurrentHashMap<>();
 
     public IdamCachedClient(
         IdamClient idamClient,
         JurisdictionToUserMapping users,
-        IdamCacheExpiry idamCacheExpiry
+        IdamCacheExpiry idamCacheExpiry,
+        @Value("${idam.client.cache.refresh-ahead-in-sec}") long refreshAheadSeconds,
+        @Value("${idam.client.cache.prewarm-enabled}") boolean prewarmEnabled
     ) {
         this.idamClient = idamClient;
         this.users = users;
+        this.idamCacheExpiry = idamCacheExpiry;
+        this.refreshAheadSeconds = refreshAheadSeconds;
+        this.prewarmEnabled = prewarmEnabled;
         this.idamCache = Caffeine.newBuilder()
             .expireAfter(idamCacheExpiry)
             .build();
+        this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("idam-refresh").daemon().factory()
+        );
+        this.prewarmExecutor = Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("idam-prewarm-", 0).daemon().factory()
+        );
     }
 
     public CachedIdamCredential getIdamCredentials(String jurisdiction) {
         log.info("Getting idam credential for jurisdiction: {} ", jurisdiction);
-        return this.idamCache.get(jurisdiction.toLowerCase(), this::retrieveIdamInfo);
+        return this.idamCache.get(jurisdiction.toLowerCase(), this::loadIdamInfo);
     }
 
     public void removeAccessTokenFromCache(String jurisdiction) {
         log.info("Removing idam credential from cache for jurisdiction: {} ", jurisdiction);
         this.idamCache.invalidate(jurisdiction.toLowerCase());
+        cancelRefresh(jurisdiction.toLowerCase());
+    }
+
+    /**
+     * Retrieves credentials of all configured jurisdictions at the same time, in the background, so that
+     * application startup does not wait for IDAM. Failures are logged only, credentials which could not be
+     * retrieved will be retrieved when they are needed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        prewarmAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshScheduler.shutdownNow();
+        prewarmExecutor.shutdownNow();
+    }
+
+    /**
+     * Starts retrieving credentials of all configured jurisdictions.
+     *
+     * @return future completed when credentials of all jurisdictions have been retrieved or failed
+     */
+    CompletableFuture<Void> prewarmAll() {
+        if (!prewarmEnabled || users.getUsers().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<String> jurisdictions = List.copyOf(users.getUsers().keySet());
+        log.info("Retrieving idam credentials for jurisdictions: {}", jurisdictions);
+
+        return CompletableFuture.allOf(
+            jurisdictions
+                .stream()
+                .map(jurisdiction -> CompletableFuture.runAsync(() -> prewarm(jurisdiction), prewarmExecutor))
+                .collect(toList())
+                .toArray(new CompletableFuture[0])
+        );
+    }
+
+    private void prewarm(String jurisdiction) {
+        try {
+            getIdamCredentials(jurisdiction);
+        } catch (Exception ex) {
+            log.error("Failed to retrieve idam credentials for jurisdiction: {}", jurisdiction, ex);
+        }
+    }
+
+    private CachedIdamCredential loadIdamInfo(String jurisdiction) {
+        CachedIdamCredential credential = retrieveIdamInfo(jurisdiction);
+        scheduleRefresh(
+            jurisdiction,
+            TimeUnit.NANOSECONDS.toSeconds(idamCacheExpiry.expireAfterCreate(jurisdiction, credential, 0))
+                - refreshAheadSeconds
+        );
+        return credential;
+    }
+
+    private void scheduleRefresh(String jurisdiction, long delaySeconds) {
+        if (refreshAheadSeconds <= 0 || delaySeconds <= 0) {
+            return;
+        }
+
+        ScheduledFuture<?> previous = scheduledRefreshes.put(
+            jurisdiction,
+            refreshScheduler.schedule(() -> refresh(jurisdiction), delaySeconds, TimeUnit.SECONDS)
+        );
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void cancelRefresh(String jurisdiction) {
+        ScheduledFuture<?> scheduled = scheduledRefreshes.remove(jurisdiction);
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+    }
+
+    // cached credential is used until the new one is retrieved
+    private void refresh(String jurisdiction) {
+        if (idamCache.getIfPresent(jurisdiction) == null) {
+            // credential was removed or has expired, next one is retrieved when it's needed
+            return;
+        }
+
+        log.info("Refreshing idam credential for jurisdiction: {} ", jurisdiction);
+        try {
+            idamCache.put(jurisdiction, loadIdamInfo(jurisdiction));
+        } catch (Exception ex) {
+            log.error("Failed to refresh idam credential for jurisdiction: {}", jurisdiction, ex);
+            if (getSecondsToExpiry(jurisdiction) > REFRESH_RETRY_DELAY_SECONDS) {
+                scheduleRefresh(jurisdiction, REFRESH_RETRY_DELAY_SECONDS);
+            } else {
+                log.info(
+                    "Idam credential for jurisdiction: {} expires before next refresh, not retrying",
+                    jurisdiction
+                );
+            }
+        }
+    }
+
+    private long getSecondsToExpiry(String jurisdiction) {
+        return idamCache
+            .policy()
+            .expireVariably()
+            .map(expiry -> expiry.getExpiresAfter(jurisdiction, TimeUnit.SECONDS).orElse(0))
+            .orElse(0L);
     }
 
     private CachedIdamCredential retrieveIdamInfo(String jurisdiction) {
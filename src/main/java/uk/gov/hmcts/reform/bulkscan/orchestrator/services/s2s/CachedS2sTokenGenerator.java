@@ -0,0 +1,213 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.s2s;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.authorisation.generators.AutorefreshingJwtAuthTokenGenerator;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.S2sTokenStatistics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * S2S token generator shared by all outbound clients.
+ *
+ * <p>Token is cached by {@link AutorefreshingJwtAuthTokenGenerator} from the S2S client library, which retrieves
+ * a new one when a request finds the cached one about to expire. On top of it, when background refresh is enabled,
+ * a new caching generator is primed with a new token before the current one becomes stale, at a random moment
+ * within the jitter, and replaces the current one, so that requests do not wait for S2S and instances do not renew
+ * their tokens at the same time. Token usage is counted for the s2s-token endpoint.</p>
+ */
+public class CachedS2sTokenGenerator implements AuthTokenGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(CachedS2sTokenGenerator.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // used when expiry can't be read from the token
+    private static final Duration DEFAULT_TOKEN_LIFETIME = Duration.ofMinutes(5);
+
+    // delay of the next attempt when renewing the token in the background fails
+    private static final Duration REFRESH_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final Supplier<AuthTokenGenerator> cachingGeneratorFactory;
+    private final Duration refreshBeforeExpiry;
+    private final Duration refreshJitter;
+    private final boolean backgroundRefreshEnabled;
+
+    private final ScheduledExecutorService refreshScheduler;
+    private final Object tokenLock = new Object();
+
+    private volatile AuthTokenGenerator cachingGenerator;
+    private volatile TokenInfo token;
+    private ScheduledFuture<?> scheduledRefresh;
+
+    private final LongAdder generateCount = new LongAdder();
+    private final LongAdder fetchCount = new LongAdder();
+    private final LongAdder failedFetchCount = new LongAdder();
+    private final LongAdder backgroundRefreshCount = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param cachingGeneratorFactory creates a generator caching the token it retrieves until it is about to expire
+     * @param refreshBeforeExpiry how long before expiry the caching generator retrieves a new token
+     * @param refreshJitter maximum random time by which background refresh is brought forward
+     * @param backgroundRefreshEnabled whether token should be renewed in the background
+     */
+    public CachedS2sTokenGenerator(
+        Supplier<AuthTokenGenerator> cachingGeneratorFactory,
+        Duration refreshBeforeExpiry,
+        Duration refreshJitter,
+        boolean backgroundRefreshEnabled
+    ) {
+        this.cachingGeneratorFactory = cachingGeneratorFactory;
+        this.cachingGenerator = cachingGeneratorFactory.get();
+        this.refreshBeforeExpiry = refreshBeforeExpiry;
+        this.refreshJitter = refreshJitter;
+        this.backgroundRefreshEnabled = backgroundRefreshEnabled;
+        this.refreshScheduler = backgroundRefreshEnabled
+            ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("s2s-refresh").daemon().factory())
+            : null;
+    }
+
+    @Override
+    public String generate() {
+        generateCount.increment();
+
+        String value;
+        try {
+            value = cachingGenerator.generate();
+        } catch (RuntimeException ex) {
+            failedFetchCount.increment();
+            throw ex;
+        }
+
+        // caching generator returns the same token until it retrieves a new one
+        TokenInfo current = token;
+        if (current == null || !current.value.equals(value)) {
+            onNewToken(value);
+        }
+        return value;
+    }
+
+    public S2sTokenStatistics getStatistics() {
+        TokenInfo current = token;
+        return new S2sTokenStatistics(
+            backgroundRefreshEnabled,
+            current == null ? null : current.fetchedAt,
+            current == null ? null : current.expiresAt,
+            generateCount.sum(),
+            fetchCount.sum(),
+            failedFetchCount.sum(),
+            backgroundRefreshCount.sum()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdownNow();
+        }
+    }
+
+    private void onNewToken(String value) {
+        synchronized (tokenLock) {
+            TokenInfo current = token;
+            if (current != null && current.value.equals(value)) {
+                return;
+            }
+
+            Instant fetchedAt = Instant.now();
+            TokenInfo fetched = new TokenInfo(value, fetchedAt, getExpiry(value, fetchedAt));
+            token = fetched;
+            fetchCount.increment();
+            log.info("Retrieved S2S token expiring at {}", fetched.expiresAt);
+
+            // token which is stale already is renewed by the caching generator on the next call
+            if (backgroundRefreshEnabled && fetched.staleAt().isAfter(fetchedAt)) {
+                long jitterMillis = ThreadLocalRandom.current().nextLong(refreshJitter.toMillis() + 1);
+                scheduleRefresh(Duration.between(Instant.now(), fetched.staleAt()).minusMillis(jitterMillis));
+            }
+        }
+    }
+
+    // must be called holding tokenLock
+    private void scheduleRefresh(Duration delay) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+        scheduledRefresh = refreshScheduler.schedule(
+            this::refresh,
+            Math.max(delay.toMillis(), 0),
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    // current generator is used until the new one has retrieved its token
+    private void refresh() {
+        AuthTokenGenerator primed = cachingGeneratorFactory.get();
+        try {
+            String value = primed.generate();
+            cachingGenerator = primed;
+            backgroundRefreshCount.increment();
+            onNewToken(value);
+        } catch (Exception ex) {
+            failedFetchCount.increment();
+            log.error("Failed to renew S2S token in the background", ex);
+
+            synchronized (tokenLock) {
+                // once the token is stale, the caching generator retrieves a new one on the next request
+                TokenInfo current = token;
+                if (current != null && Instant.now().plus(REFRESH_RETRY_DELAY).isBefore(current.staleAt())) {
+                    scheduleRefresh(REFRESH_RETRY_DELAY);
+                }
+            }
+        }
+    }
+
+    private static Instant getExpiry(String token, Instant fetchedAt) {
+        try {
+            String jwt = StringUtils.removeStart(token, BEARER_PREFIX);
+            JsonNode exp = OBJECT_MAPPER
+                .readTree(Base64.getUrlDecoder().decode(jwt.split("\\.")[1]))
+                .get("exp");
+            if (exp != null && exp.canConvertToLong()) {
+                return Instant.ofEpochSecond(exp.asLong());
+            }
+        } catch (Exception ex) {
+            log.warn("Failed to read expiry of S2S token", ex);
+        }
+        return fetchedAt.plus(DEFAULT_TOKEN_LIFETIME);
+    }
+
+    private class TokenInfo {
+        final String value;
+        final Instant fetchedAt;
+        final Instant expiresAt;
+
+        TokenInfo(String value, Instant fetchedAt, Instant expiresAt) {
+            this.value = value;
+            this.fetchedAt = fetchedAt;
+            this.expiresAt = expiresAt;
+        }
+
+        Instant staleAt() {
+            return expiresAt.minus(refreshBeforeExpiry);
+        }
+    }
+}
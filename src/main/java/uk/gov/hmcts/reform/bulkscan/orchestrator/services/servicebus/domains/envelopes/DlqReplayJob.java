@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes;
+
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.in.DlqReplayRequest;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of a single replay of envelopes dead letter queue messages.
+ */
+public class DlqReplayJob {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public final UUID id = UUID.randomUUID();
+    public final DlqReplayRequest request;
+    public final int maxMessages;
+    public final Instant startedAt = Instant.now();
+
+    private final AtomicInteger scannedCount = new AtomicInteger();
+    private final AtomicInteger replayedCount = new AtomicInteger();
+    private final AtomicInteger notReplayedCount = new AtomicInteger();
+    private volatile int selectedCount;
+    private volatile Status status = Status.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public DlqReplayJob(DlqReplayRequest request, int maxMessages) {
+        this.request = request;
+        this.maxMessages = maxMessages;
+    }
+
+    void addScanned(int count) {
+        scannedCount.addAndGet(count);
+    }
+
+    void setSelected(int count) {
+        selectedCount = count;
+    }
+
+    void addReplayed(int count) {
+        replayedCount.addAndGet(count);
+    }
+
+    // selected messages which could not be found or sent
+    void addNotReplayed(int count) {
+        notReplayedCount.addAndGet(count);
+    }
+
+    void complete() {
+        finish(Status.COMPLETED, null);
+    }
+
+    void fail(String error) {
+        finish(Status.FAILED, error);
+    }
+
+    private void finish(Status status, String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getScannedCount() {
+        return scannedCount.get();
+    }
+
+    public int getSelectedCount() {
+        return selectedCount;
+    }
+
+    public int getReplayedCount() {
+        return replayedCount.get();
+    }
+
+    public int getNotReplayedCount() {
+        return notReplayedCount.get();
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
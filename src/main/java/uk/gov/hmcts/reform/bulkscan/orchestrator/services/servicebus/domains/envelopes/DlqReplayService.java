@@ -0,0 +1,390 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes;
+
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusReceiverClient;
+import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.DlqReplayInProgressException;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.InvalidMessageException;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.InvalidRequestException;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.in.DlqReplayRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Sends messages selected from envelopes dead letter queue back to the envelopes queue and completes the originals.
+ *
+ * <p>Replay runs in the background, one at a time. The queue is first peeked, which does not lock the messages,
+ * to find the ones matching the request. Then messages are received in batches and only the selected ones are
+ * replayed, other received messages stay locked until the end of the pass through the queue, so that they are
+ * not received again. Copies are scheduled to be enqueued at no more than the configured number of messages
+ * per second, so that replaying a large number of envelopes does not flood CCD.</p>
+ */
+@Service
+@Profile("!nosb") // do not register for the nosb (test) profile
+@ConditionalOnExpression("!${jms.enabled} && ${dlq-replay.enabled}")
+public class DlqReplayService {
+
+    private static final Logger log = LoggerFactory.getLogger(DlqReplayService.class);
+
+    private static final Duration RECEIVE_TIMEOUT = Duration.ofSeconds(1);
+    private static final String DEAD_LETTERED_AT_PROPERTY = "deadLetteredAt";
+    private static final String REPLAY_ID_SUFFIX = "-replay-";
+
+    private final Supplier<ServiceBusReceiverClient> dlqReceiverProvider;
+    // sends to the envelopes queue, same as for rescheduled retries
+    private final ObjectProvider<ServiceBusSenderClient> senderProvider;
+    private final int batchSize;
+    private final Duration enqueueInterval;
+    private final int maxMessages;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicReference<DlqReplayJob> lastJob = new AtomicReference<>();
+
+    public DlqReplayService(
+        Supplier<ServiceBusReceiverClient> dlqReceiverProvider,
+        @Qualifier("envelopes-retry") ObjectProvider<ServiceBusSenderClient> senderProvider,
+        @Value("${dlq-replay.batch-size}") int batchSize,
+        @Value("${dlq-replay.max-messages-per-second}") double maxMessagesPerSecond,
+        @Value("${dlq-replay.max-messages}") int maxMessages
+    ) {
+        this.dlqReceiverProvider = dlqReceiverProvider;
+        this.senderProvider = senderProvider;
+        this.batchSize = batchSize;
+        this.enqueueInterval = Duration.ofNanos((long) (TimeUnit.SECONDS.toNanos(1) / maxMessagesPerSecond));
+        this.maxMessages = maxMessages;
+    }
+
+    /**
+     * Starts replaying messages matching the request in the background.
+     *
+     * @throws DlqReplayInProgressException if another replay has not finished yet
+     */
+    public DlqReplayJob startReplay(DlqReplayRequest request) {
+        validate(request);
+
+        DlqReplayJob job = new DlqReplayJob(
+            request,
+            request.maxMessages == null ? maxMessages : Math.min(request.maxMessages, maxMessages)
+        );
+
+        DlqReplayJob previousJob = lastJob.get();
+        if ((previousJob != null && previousJob.isRunning()) || !lastJob.compareAndSet(previousJob, job)) {
+            throw new DlqReplayInProgressException("Another envelopes dlq replay is in progress");
+        }
+
+        executor.execute(() -> replay(job));
+        return job;
+    }
+
+    public Optional<DlqReplayJob> getLastReplay() {
+        return Optional.ofNullable(lastJob.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void replay(DlqReplayJob job) {
+        log.info("Started envelopes dlq replay {}. Max messages: {}", job.id, job.maxMessages);
+        ServiceBusReceiverClient receiver = null;
+        // latest delivery of each received message which has not been replayed, abandoned at the end of each pass
+        Map<Long, ServiceBusReceivedMessage> notReplayed = new LinkedHashMap<>();
+
+        try {
+            receiver = dlqReceiverProvider.get();
+
+            Set<Long> selected = findMessagesToReplay(receiver, job);
+            if (!selected.isEmpty()) {
+                replaySelected(receiver, senderProvider.getObject(), selected, notReplayed, job);
+            }
+
+            job.complete();
+        } catch (Exception ex) {
+            log.error("Envelopes dlq replay {} failed", job.id, ex);
+            job.fail(ex.getMessage());
+        } finally {
+            if (receiver != null) {
+                abandon(receiver, notReplayed.values());
+                receiver.close();
+            }
+        }
+
+        log.info(
+            "Finished envelopes dlq replay {}. Status: {}, scanned: {}, selected: {}, replayed: {}, not replayed: {}",
+            job.id,
+            job.getStatus(),
+            job.getScannedCount(),
+            job.getSelectedCount(),
+            job.getReplayedCount(),
+            job.getNotReplayedCount()
+        );
+    }
+
+    /**
+     * Peeks all messages in the queue and returns sequence numbers of the ones matching the request,
+     * up to the max number of messages of the replay.
+     */
+    private Set<Long> findMessagesToReplay(ServiceBusReceiverClient receiver, DlqReplayJob job) {
+        Set<Long> selected = new HashSet<>();
+        long fromSequenceNumber = 0;
+
+        List<ServiceBusReceivedMessage> messages;
+        do {
+            messages = receiver.peekMessages(batchSize, fromSequenceNumber).stream().toList();
+
+            for (ServiceBusReceivedMessage message : messages) {
+                if (selected.size() < job.maxMessages && matches(message, job.request)) {
+                    selected.add(message.getSequenceNumber());
+                }
+                fromSequenceNumber = Math.max(fromSequenceNumber, message.getSequenceNumber() + 1);
+            }
+            job.addScanned(messages.size());
+        } while (!messages.isEmpty() && selected.size() < job.maxMessages);
+
+        job.setSelected(selected.size());
+        return selected;
+    }
+
+    /**
+     * Receives messages in batches and replays the ones with given sequence numbers.
+     *
+     * <p>A message received for the second time ends the pass through the queue, either because all messages
+     * have been received or because locks of the first ones have expired. Other received messages are then
+     * abandoned and, if the pass replayed anything, the next pass looks for the remaining selected messages.</p>
+     */
+    private void replaySelected(
+        ServiceBusReceiverClient receiver,
+        ServiceBusSenderClient sender,
+        Set<Long> selected,
+        Map<Long, ServiceBusReceivedMessage> notReplayed,
+        DlqReplayJob job
+    ) {
+        Set<Long> remaining = new HashSet<>(selected);
+        Set<Long> receivedInPass = new HashSet<>();
+        EnqueueSchedule schedule = new EnqueueSchedule(enqueueInterval);
+        int replayedInPass = 0;
+
+        while (!remaining.isEmpty()) {
+            List<ServiceBusReceivedMessage> messages = receiver
+                .receiveMessages(batchSize, RECEIVE_TIMEOUT)
+                .stream()
+                .toList();
+            if (messages.isEmpty()) {
+                break;
+            }
+
+            boolean receivedAgain = false;
+            List<ServiceBusReceivedMessage> toReplay = new ArrayList<>();
+            for (ServiceBusReceivedMessage message : messages) {
+                receivedAgain |= !receivedInPass.add(message.getSequenceNumber());
+                if (remaining.remove(message.getSequenceNumber())) {
+                    toReplay.add(message);
+                } else {
+                    notReplayed.put(message.getSequenceNumber(), message);
+                }
+            }
+
+            if (!toReplay.isEmpty()) {
+                replayedInPass += resend(receiver, sender, toReplay, schedule, notReplayed, job);
+            }
+
+            if (receivedAgain) {
+                if (replayedInPass == 0) {
+                    // remaining selected messages have been removed from the queue or are locked by someone else
+                    break;
+                }
+                abandon(receiver, notReplayed.values());
+                notReplayed.clear();
+                receivedInPass.clear();
+                replayedInPass = 0;
+            }
+        }
+
+        job.addNotReplayed(remaining.size());
+    }
+
+    private void abandon(ServiceBusReceiverClient receiver, Iterable<ServiceBusReceivedMessage> messages) {
+        for (ServiceBusReceivedMessage message : messages) {
+            try {
+                receiver.abandon(message);
+            } catch (Exception ex) {
+                // lock has expired already, message is available in dlq again anyway
+                log.warn("Failed to abandon message in envelopes dlq. Message ID: {}", message.getMessageId(), ex);
+            }
+        }
+    }
+
+    /**
+     * Sends copies in as few batches as possible and completes the originals once their copies are sent.
+     *
+     * @return number of replayed messages
+     */
+    private int resend(
+        ServiceBusReceiverClient receiver,
+        ServiceBusSenderClient sender,
+        List<ServiceBusReceivedMessage> messages,
+        EnqueueSchedule schedule,
+        Map<Long, ServiceBusReceivedMessage> notReplayed,
+        DlqReplayJob job
+    ) {
+        int replayedCount = 0;
+        ServiceBusMessageBatch batch = sender.createMessageBatch();
+        List<ServiceBusReceivedMessage> batchOriginals = new ArrayList<>();
+
+        for (ServiceBusReceivedMessage message : messages) {
+            ServiceBusMessage copy = copy(message);
+            copy.setScheduledEnqueueTime(schedule.next().atOffset(ZoneOffset.UTC));
+
+            if (!batch.tryAddMessage(copy)) {
+                replayedCount += send(receiver, sender, batch, batchOriginals, job);
+                batch = sender.createMessageBatch();
+                batchOriginals = new ArrayList<>();
+
+                if (!batch.tryAddMessage(copy)) {
+                    log.error("Message too large to replay. Message ID: {}", message.getMessageId());
+                    notReplayed.put(message.getSequenceNumber(), message);
+                    job.addNotReplayed(1);
+                    continue;
+                }
+            }
+            batchOriginals.add(message);
+        }
+
+        return replayedCount + send(receiver, sender, batch, batchOriginals, job);
+    }
+
+    private int send(
+        ServiceBusReceiverClient receiver,
+        ServiceBusSenderClient sender,
+        ServiceBusMessageBatch batch,
+        List<ServiceBusReceivedMessage> originals,
+        DlqReplayJob job
+    ) {
+        if (originals.isEmpty()) {
+            return 0;
+        }
+
+        sender.sendMessages(batch);
+        for (ServiceBusReceivedMessage original : originals) {
+            // if completing fails the message stays in dlq and the envelope may be processed twice
+            receiver.complete(original);
+            log.info("Replayed message from envelopes dlq. Message ID: {}", original.getMessageId());
+        }
+        job.addReplayed(originals.size());
+        return originals.size();
+    }
+
+    private ServiceBusMessage copy(ServiceBusReceivedMessage message) {
+        ServiceBusMessage copy = new ServiceBusMessage(message.getBody());
+        copy.setContentType(message.getContentType());
+        copy.setSubject(message.getSubject());
+        // distinct ID, so that the copy is not dropped by duplicate detection
+        copy.setMessageId(
+            StringUtils.substringBeforeLast(message.getMessageId(), REPLAY_ID_SUFFIX)
+                + REPLAY_ID_SUFFIX
+                + message.getSequenceNumber()
+        );
+        copy.getApplicationProperties().putAll(message.getApplicationProperties());
+        // replayed envelope starts with a clean slate
+        copy.getApplicationProperties().remove(DEAD_LETTERED_AT_PROPERTY);
+        copy.getApplicationProperties().remove(EnvelopeRescheduler.RETRY_ATTEMPT_PROPERTY);
+        return copy;
+    }
+
+    private boolean matches(ServiceBusReceivedMessage message, DlqReplayRequest request) {
+        if (request.deadLetterReason != null && !request.deadLetterReason.equals(message.getDeadLetterReason())) {
+            return false;
+        }
+
+        if (request.deadLetteredFrom != null || request.deadLetteredTo != null) {
+            Instant deadLetteredAt = getDeadLetteredAt(message);
+            if (deadLetteredAt == null
+                || (request.deadLetteredFrom != null && deadLetteredAt.isBefore(request.deadLetteredFrom))
+                || (request.deadLetteredTo != null && !deadLetteredAt.isBefore(request.deadLetteredTo))) {
+                return false;
+            }
+        }
+
+        if (request.jurisdiction != null) {
+            try {
+                return request.jurisdiction.equalsIgnoreCase(
+                    EnvelopeParser.parse(message.getBody().toBytes()).jurisdiction
+                );
+            } catch (InvalidMessageException e) {
+                // Not logging the exception as it prints the sensitive information from the envelope
+                log.error("An error occurred while parsing the dlq message with messageId: {}", message.getMessageId());
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private Instant getDeadLetteredAt(ServiceBusReceivedMessage message) {
+        Object deadLetteredAt = message.getApplicationProperties().get(DEAD_LETTERED_AT_PROPERTY);
+        try {
+            return deadLetteredAt == null ? null : Instant.parse(deadLetteredAt.toString());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private void validate(DlqReplayRequest request) {
+        if (request.maxMessages != null && request.maxMessages <= 0) {
+            throw new InvalidRequestException("max_messages must be greater than 0");
+        }
+        if (request.deadLetteredFrom != null
+            && request.deadLetteredTo != null
+            && !request.deadLetteredFrom.isBefore(request.deadLetteredTo)) {
+            throw new InvalidRequestException("dead_lettered_from must be before dead_lettered_to");
+        }
+    }
+
+    // spreads enqueue times of copies, so that replayed envelopes are processed at the configured rate
+    private static class EnqueueSchedule {
+        private final Duration interval;
+        private Instant next = Instant.now();
+
+        EnqueueSchedule(Duration interval) {
+            this.interval = interval;
+        }
+
+        Instant next() {
+            Instant now = Instant.now();
+            if (next.isBefore(now)) {
+                next = now;
+            }
+            Instant enqueueTime = next;
+            next = next.plus(interval);
+            return enqueueTime;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.MessageProcessingException;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.envelopehandlers.EnvelopeHandler;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeProcessingResult;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs envelope handling in per-case ordered lanes.
+ *
+ * <p>Envelopes for the same case (by CCD case reference or legacy case reference) are always hashed
+ * to the same single-threaded lane, so they are handled one after another, in the order they arrived,
+ * even when messages are consumed concurrently. This prevents concurrent events on the same CCD case.
+ * Envelopes without a case reference are not ordered - they are handled straight away on the calling thread,
+ * in parallel with everything else.</p>
+ *
+ * <p>When number of lanes is 0 all envelopes are handled on the calling thread.
+ * When virtual threads are enabled lanes run on virtual threads.</p>
+ */
+@Component
+public class EnvelopeLaneScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(EnvelopeLaneScheduler.class);
+
+    private final EnvelopeHandler envelopeHandler;
+    private final ExecutorService[] lanes;
+
+    public EnvelopeLaneScheduler(
+        EnvelopeHandler envelopeHandler,
+        @Value("${azure.servicebus.envelopes.ordered-lanes}") int laneCount,
+        @Value("${spring.threads.virtual.enabled}") boolean virtualThreads
+    ) {
+        this.envelopeHandler = envelopeHandler;
+        this.lanes = new ExecutorService[Math.max(laneCount, 0)];
+
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(laneThreadFactory("envelope-lane-" + i, virtualThreads));
+        }
+    }
+
+    public EnvelopeProcessingResult handleEnvelope(Envelope envelope, long deliveryCount) {
+        String caseKey = getCaseKey(envelope);
+
+        if (lanes.length == 0 || caseKey == null) {
+            return envelopeHandler.handleEnvelope(envelope, deliveryCount);
+        } else {
+            int lane = Math.floorMod(caseKey.hashCode(), lanes.length);
+            log.info("Scheduling envelope {} in lane {}", envelope.id, lane);
+
+            Future<EnvelopeProcessingResult> result =
+                lanes[lane].submit(() -> envelopeHandler.handleEnvelope(envelope, deliveryCount));
+
+            return awaitResult(result, envelope);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    static String getCaseKey(Envelope envelope) {
+        if (StringUtils.isNotBlank(envelope.caseRef)) {
+            return envelope.container + ":" + envelope.caseRef;
+        } else if (StringUtils.isNotBlank(envelope.legacyCaseRef)) {
+            return envelope.container + ":" + envelope.legacyCaseRef;
+        } else {
+            return null;
+        }
+    }
+
+    private static ThreadFactory laneThreadFactory(String threadName, boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(threadName).factory();
+        } else {
+            return runnable -> new Thread(runnable, threadName);
+        }
+    }
+
+    private EnvelopeProcessingResult awaitResult(Future<EnvelopeProcessingResult> result, Envelope envelope) {
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new MessageProcessingException("Interrupted while handling envelope " + envelope.id, ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (ex.getCause() instanceof Error error) {
+                throw error;
+            } else {
+                throw new MessageProcessingException("Failed to handle envelope " + envelope.id, ex.getCause());
+            }
+        }
+    }
+}
@@ -11,7 +11,7 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.InvalidMessageException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.MessageProcessingException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.logging.AppInsights;
-import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.envelopehandlers.EnvelopeHandler;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.EnvelopeLedger;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.handler.MessageProcessingResult;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.handler.MessageProcessingResultType;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
@@ -21,7 +21,9 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.pro
 import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Semaphore;
 
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.NOTIFICATION_SENT;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeParser.parse;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.handler.MessageProcessingResultType.POTENTIALLY_RECOVERABLE_FAILURE;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.handler.MessageProcessingResultType.SUCCESS;
@@ -34,34 +36,62 @@ public class EnvelopeMessageProcessor {
 
     public static final String HEARTBEAT_LABEL = "heartbeat";
 
-    private final EnvelopeHandler envelopeHandler;
+    private final EnvelopeLaneScheduler envelopeLaneScheduler;
     private final IProcessedEnvelopeNotifier processedEnvelopeNotifier;
+    private final EnvelopeLedger envelopeLedger;
     private final int maxDeliveryCount;
     private final AppInsights appInsights;
+    private final EnvelopeRescheduler envelopeRescheduler;
+    private final EnvelopeRetryBackoff retryBackoff;
+
+    // bounds the number of envelopes handled at the same time, regardless of how many the processor hands over
+    private final Semaphore inFlightPermits;
 
     public EnvelopeMessageProcessor(
-        EnvelopeHandler envelopeHandler,
+        EnvelopeLaneScheduler envelopeLaneScheduler,
         IProcessedEnvelopeNotifier processedEnvelopeNotifier,
+        EnvelopeLedger envelopeLedger,
         @Value("${azure.servicebus.envelopes.max-delivery-count}") int maxDeliveryCount,
-        AppInsights appInsights
+        @Value("${azure.servicebus.envelopes.max-in-flight}") int maxInFlight,
+        AppInsights appInsights,
+        EnvelopeRescheduler envelopeRescheduler,
+        EnvelopeRetryBackoff retryBackoff
     ) {
-        this.envelopeHandler = envelopeHandler;
+        this.envelopeLaneScheduler = envelopeLaneScheduler;
         this.processedEnvelopeNotifier = processedEnvelopeNotifier;
+        this.envelopeLedger = envelopeLedger;
         this.maxDeliveryCount = maxDeliveryCount;
         this.appInsights = appInsights;
+        this.envelopeRescheduler = envelopeRescheduler;
+        this.retryBackoff = retryBackoff;
+        this.inFlightPermits = new Semaphore(Math.max(maxInFlight, 1), true);
     }
 
     /**
      * Reads and processes next message from the queue.
-     * return false if there was no message to process. Otherwise, true.
+     * May be called concurrently by the processor client - at most 'max-in-flight' messages
+     * are processed at the same time, the others wait for a free slot.
      */
     public void processMessage(ServiceBusReceivedMessageContext context) {
         ServiceBusReceivedMessage message = context.getMessage();
 
         if (message != null) {
-            log.info("Started processing message with ID {}", message.getMessageId());
-            MessageProcessingResult result = process(message);
-            tryFinaliseProcessedMessage(context, result);
+            try {
+                inFlightPermits.acquire();
+            } catch (InterruptedException ex) {
+                // message is left untouched, lock will expire and it will be delivered again
+                log.warn("Interrupted while waiting to process message with ID {}", message.getMessageId());
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                log.info("Started processing message with ID {}", message.getMessageId());
+                MessageProcessingResult result = process(message);
+                tryFinaliseProcessedMessage(context, result);
+            } finally {
+                inFlightPermits.release();
+            }
         } else {
             log.info("No envelope messages left to process");
         }
@@ -78,13 +108,23 @@ public class EnvelopeMessageProcessor {
             try {
                 envelope = parse(message.getBody().toBytes());
                 logMessageParsed(message, envelope);
+                if (envelopeLedger.findCompletedStep(envelope.id, NOTIFICATION_SENT).isPresent()) {
+                    log.info(
+                        "Envelope {} has already been processed, completing message with ID {}",
+                        envelope.id,
+                        message.getMessageId()
+                    );
+                    return new MessageProcessingResult(SUCCESS);
+                }
+
                 EnvelopeProcessingResult envelopeProcessingResult =
-                    envelopeHandler.handleEnvelope(envelope, message.getDeliveryCount());
+                    envelopeLaneScheduler.handleEnvelope(envelope, message.getDeliveryCount());
                 processedEnvelopeNotifier.notify(
                     envelope.id,
                     envelopeProcessingResult.ccdId,
                     envelopeProcessingResult.envelopeCcdAction
                 );
+                envelopeLedger.recordCompletedStep(envelope.id, NOTIFICATION_SENT, envelopeProcessingResult.ccdId);
                 log.info("Processed message with ID {}. File name: {}", message.getMessageId(), envelope.zipFileName);
                 return new MessageProcessingResult(SUCCESS);
             } catch (InvalidMessageException ex) {
@@ -131,16 +171,29 @@ public class EnvelopeMessageProcessor {
 
                 break;
             case POTENTIALLY_RECOVERABLE_FAILURE:
-                // starts from 0
-                int deliveryCount = (int) message.getDeliveryCount() + 1;
+                // starts from 0. Rescheduled copies carry the number of attempts made before them
+                int deliveryCount = getRetryAttempt(message) + (int) message.getDeliveryCount() + 1;
 
                 if (deliveryCount < maxDeliveryCount) {
-                    // do nothing - let the message lock expire
-                    log.info(
-                        "Allowing message with ID {} to return to queue (delivery attempt {})",
-                        message.getMessageId(),
-                        deliveryCount
-                    );
+                    if (retryBackoff.isEnabled()) {
+                        Instant retryAt = Instant.now().plus(retryBackoff.getDelay(deliveryCount));
+                        // send the copy first - if completing fails the worst case is a duplicate attempt
+                        envelopeRescheduler.reschedule(message, deliveryCount, retryAt);
+                        context.complete();
+                        log.info(
+                            "Completed message with ID {}, it will be retried at {} (delivery attempt {})",
+                            message.getMessageId(),
+                            retryAt,
+                            deliveryCount
+                        );
+                    } else {
+                        // do nothing - let the message lock expire
+                        log.info(
+                            "Allowing message with ID {} to return to queue (delivery attempt {})",
+                            message.getMessageId(),
+                            deliveryCount
+                        );
+                    }
                 } else {
                     deadLetterTheMessage(
                         context,
@@ -157,6 +210,12 @@ public class EnvelopeMessageProcessor {
         }
     }
 
+    private int getRetryAttempt(ServiceBusReceivedMessage message) {
+        Object retryAttempt = message.getApplicationProperties().get(EnvelopeRescheduler.RETRY_ATTEMPT_PROPERTY);
+
+        return retryAttempt instanceof Number number ? number.intValue() : 0;
+    }
+
     private void deadLetterTheMessage(
         ServiceBusReceivedMessageContext context,
         String reason,
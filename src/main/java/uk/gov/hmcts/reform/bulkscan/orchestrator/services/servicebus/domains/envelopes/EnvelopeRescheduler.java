@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes;
+
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * Sends a copy of a failed envelope message back to the envelopes queue, to be delivered at a later time.
+ */
+@Component
+public class EnvelopeRescheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(EnvelopeRescheduler.class);
+
+    public static final String RETRY_ATTEMPT_PROPERTY = "retryAttempt";
+
+    private static final String RETRY_ID_SUFFIX = "-retry-";
+
+    // sender is only created when first needed - it is not available for JMS and test (nosb) setups
+    private final ObjectProvider<ServiceBusSenderClient> senderProvider;
+
+    public EnvelopeRescheduler(
+        @Qualifier("envelopes-retry") ObjectProvider<ServiceBusSenderClient> senderProvider
+    ) {
+        this.senderProvider = senderProvider;
+    }
+
+    public void reschedule(ServiceBusReceivedMessage message, int retryAttempt, Instant scheduledEnqueueTime) {
+        ServiceBusMessage copy = new ServiceBusMessage(message.getBody());
+        copy.setContentType(message.getContentType());
+        copy.setSubject(message.getSubject());
+        // distinct ID, so that the copy is not dropped by duplicate detection
+        copy.setMessageId(
+            StringUtils.substringBeforeLast(message.getMessageId(), RETRY_ID_SUFFIX) + RETRY_ID_SUFFIX + retryAttempt
+        );
+        copy.getApplicationProperties().putAll(message.getApplicationProperties());
+        copy.getApplicationProperties().put(RETRY_ATTEMPT_PROPERTY, retryAttempt);
+
+        senderProvider.getObject().scheduleMessage(copy, scheduledEnqueueTime.atOffset(ZoneOffset.UTC));
+
+        log.info(
+            "Rescheduled message with ID {} as {} for {} (retry attempt {})",
+            message.getMessageId(),
+            copy.getMessageId(),
+            scheduledEnqueueTime,
+            retryAttempt
+        );
+    }
+}
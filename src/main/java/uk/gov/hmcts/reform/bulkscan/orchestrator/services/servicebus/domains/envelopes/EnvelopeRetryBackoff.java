@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Calculates when an envelope that failed with a potentially recoverable error should be retried.
+ */
+@Component
+public class EnvelopeRetryBackoff {
+
+    // keeps the shifted delay well within long range
+    private static final int MAX_EXPONENT = 30;
+
+    private final boolean enabled;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+
+    public EnvelopeRetryBackoff(
+        @Value("${azure.servicebus.envelopes.retry.backoff-enabled}") boolean enabled,
+        @Value("${azure.servicebus.envelopes.retry.initial-delay}") Duration initialDelay,
+        @Value("${azure.servicebus.envelopes.retry.max-delay}") Duration maxDelay
+    ) {
+        this.enabled = enabled;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * When disabled, failed messages are left to return to the queue once their lock expires.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Delay before given retry attempt (starting from 1). It doubles with every attempt, up to the max delay.
+     * Random jitter takes up to half of the delay off, so that messages which failed together
+     * (e.g. during CCD outage) are not all retried at the same time.
+     */
+    public Duration getDelay(int attempt) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), MAX_EXPONENT);
+        long delayMillis = Math.min(initialDelay.toMillis() << exponent, maxDelay.toMillis());
+        long jitterMillis = ThreadLocalRandom.current().nextLong(delayMillis / 2 + 1);
+
+        return Duration.ofMillis(delayMillis - jitterMillis);
+    }
+}
@@ -6,10 +6,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jms.core.JmsTemplate;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.InvalidMessageException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.MessageProcessingException;
-import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.envelopehandlers.EnvelopeHandler;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.EnvelopeLedger;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.handler.MessageProcessingResult;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.handler.MessageProcessingResultType;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
@@ -17,7 +18,9 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.pro
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.IProcessedEnvelopeNotifier;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.NOTIFICATION_SENT;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeParser.parse;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.handler.MessageProcessingResultType.POTENTIALLY_RECOVERABLE_FAILURE;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.handler.MessageProcessingResultType.SUCCESS;
@@ -29,18 +32,27 @@ public class JmsEnvelopeMessageProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(JmsEnvelopeMessageProcessor.class);
 
-    private final EnvelopeHandler envelopeHandler;
+    private final EnvelopeLaneScheduler envelopeLaneScheduler;
     private final IProcessedEnvelopeNotifier processedEnvelopeNotifier;
+    private final EnvelopeLedger envelopeLedger;
     private final int maxDeliveryCount;
+    private final JmsTemplate jmsTemplate;
+    private final String deadLetterQueue;
 
     public JmsEnvelopeMessageProcessor(
-        EnvelopeHandler envelopeHandler,
+        EnvelopeLaneScheduler envelopeLaneScheduler,
         IProcessedEnvelopeNotifier processedEnvelopeNotifier,
-        @Value("${azure.servicebus.envelopes.max-delivery-count}") int maxDeliveryCount
+        EnvelopeLedger envelopeLedger,
+        @Value("${azure.servicebus.envelopes.max-delivery-count}") int maxDeliveryCount,
+        JmsTemplate jmsTemplate,
+        @Value("${jms.dead-letter-queue}") String deadLetterQueue
     ) {
-        this.envelopeHandler = envelopeHandler;
+        this.envelopeLaneScheduler = envelopeLaneScheduler;
         this.processedEnvelopeNotifier = processedEnvelopeNotifier;
+        this.envelopeLedger = envelopeLedger;
         this.maxDeliveryCount = maxDeliveryCount;
+        this.jmsTemplate = jmsTemplate;
+        this.deadLetterQueue = deadLetterQueue;
     }
 
     /**
@@ -53,7 +65,7 @@ public class JmsEnvelopeMessageProcessor {
             MessageProcessingResult result = process(context, messageBody,
                 Long.parseLong(context.getStringProperty("JMSXDeliveryCount"))
             );
-            tryFinaliseProcessedMessage(context, result);
+            tryFinaliseProcessedMessage(context, messageBody, result);
         } else {
             log.info("No envelope messages left to process");
         }
@@ -64,13 +76,23 @@ public class JmsEnvelopeMessageProcessor {
         try {
             envelope = parse(messageBody.getBytes(StandardCharsets.UTF_8));
             logMessageParsed(messageBody, envelope);
+            if (envelopeLedger.findCompletedStep(envelope.id, NOTIFICATION_SENT).isPresent()) {
+                log.info(
+                    "Envelope {} has already been processed, completing message with ID {}",
+                    envelope.id,
+                    message.getJMSMessageID()
+                );
+                return new MessageProcessingResult(SUCCESS);
+            }
+
             EnvelopeProcessingResult envelopeProcessingResult =
-                envelopeHandler.handleEnvelope(envelope, deliveryCount);
+                envelopeLaneScheduler.handleEnvelope(envelope, deliveryCount);
             processedEnvelopeNotifier.notify(
                 envelope.id,
                 envelopeProcessingResult.ccdId,
                 envelopeProcessingResult.envelopeCcdAction
             );
+            envelopeLedger.recordCompletedStep(envelope.id, NOTIFICATION_SENT, envelopeProcessingResult.ccdId);
             log.info("Processed message with ID {}. File name: {}", message.getJMSMessageID(), envelope.zipFileName);
             return new MessageProcessingResult(SUCCESS);
         } catch (InvalidMessageException ex) {
@@ -84,10 +106,11 @@ public class JmsEnvelopeMessageProcessor {
 
     private void tryFinaliseProcessedMessage(
         ActiveMQMessage context,
+        String messageBody,
         MessageProcessingResult processingResult
     ) throws JMSException {
         try {
-            finaliseProcessedMessage(context, processingResult);
+            finaliseProcessedMessage(context, messageBody, processingResult);
         } catch (InterruptedException ex) {
             logMessageFinaliseError(context, processingResult.resultType, ex);
             Thread.currentThread().interrupt();
@@ -98,6 +121,7 @@ public class JmsEnvelopeMessageProcessor {
 
     private void finaliseProcessedMessage(
         ActiveMQMessage context,
+        String messageBody,
         MessageProcessingResult processingResult
     ) throws InterruptedException, JMSException {
         // starts from 0
@@ -108,6 +132,7 @@ public class JmsEnvelopeMessageProcessor {
             }
             case UNRECOVERABLE_FAILURE -> deadLetterTheMessage(
                 context,
+                messageBody,
                 "Message processing error",
                 processingResult.exception.getMessage()
             );
@@ -123,6 +148,7 @@ public class JmsEnvelopeMessageProcessor {
                 } else {
                     deadLetterTheMessage(
                         context,
+                        messageBody,
                         "Too many deliveries",
                         "Reached limit of message delivery count of " + deliveryCount
                     );
@@ -134,14 +160,32 @@ public class JmsEnvelopeMessageProcessor {
         }
     }
 
+    /**
+     * Moves the message to the dead letter queue, with the same properties Service Bus dead letter queue has.
+     * Sending the copy takes part in the listener session transaction, so it is committed together with
+     * consuming the original.
+     */
     private void deadLetterTheMessage(
         ActiveMQMessage context,
+        String messageBody,
         String reason,
         String description
     ) throws JMSException {
-        log.info("Message with ID {} has been dead-lettered...if this was using ASB, reason was {}: "
-                + "description was: {}",
-            context.getJMSMessageID(), reason, description
+        String messageId = context.getJMSMessageID();
+        jmsTemplate.convertAndSend(deadLetterQueue, messageBody, message -> {
+            message.setStringProperty("originalMessageId", messageId);
+            message.setStringProperty("deadLetterReason", reason);
+            message.setStringProperty("deadLetterErrorDescription", description);
+            message.setStringProperty("deadLetteredAt", Instant.now().toString());
+            return message;
+        });
+        context.acknowledge();
+        log.info(
+            "Message with ID {} has been dead-lettered to {}. Reason: {}, description: {}",
+            messageId,
+            deadLetterQueue,
+            reason,
+            description
         );
     }
 
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.processedenvelopeoutbox.ProcessedEnvelopeOutboxRepository;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.NotificationSendingException;
+
+/**
+ * Stores notifications about successfully processed envelopes in the outbox table.
+ * They are sent to the queue in batches by {@link ProcessedEnvelopesOutboxRelay}.
+ */
+@Service
+@Profile("!nosb") // do not register for the nosb (test) profile
+@ConditionalOnExpression("!${jms.enabled} && ${processed-envelopes-outbox.enabled}")
+public class OutboxProcessedEnvelopeNotifier implements IProcessedEnvelopeNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxProcessedEnvelopeNotifier.class);
+
+    private final ProcessedEnvelopeOutboxRepository outboxRepository;
+
+    public OutboxProcessedEnvelopeNotifier(ProcessedEnvelopeOutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    @Override
+    public void notify(String envelopeId, Long ccdId, EnvelopeCcdAction envelopeCcdAction) {
+        try {
+            if (outboxRepository.insert(envelopeId, ccdId, envelopeCcdAction)) {
+                log.info(
+                    "Added processed envelope notification to outbox. Envelope ID: {}, CCD ID: {}, action: {}",
+                    envelopeId,
+                    ccdId,
+                    envelopeCcdAction
+                );
+            } else {
+                log.info("Processed envelope notification already in outbox. Envelope ID: {}", envelopeId);
+            }
+        } catch (Exception ex) {
+            throw new NotificationSendingException(
+                "An error occurred when trying to store notification about successfully processed envelope",
+                ex
+            );
+        }
+    }
+}
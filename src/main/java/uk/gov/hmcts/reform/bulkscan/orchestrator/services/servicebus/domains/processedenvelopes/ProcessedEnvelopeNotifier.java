@@ -18,7 +18,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON;
  */
 @Service
 @Profile("!nosb") // do not register for the nosb (test) profile
-@ConditionalOnExpression("!${jms.enabled}")
+@ConditionalOnExpression("!${jms.enabled} && !${processed-envelopes-outbox.enabled}")
 public class ProcessedEnvelopeNotifier implements IProcessedEnvelopeNotifier {
 
     // TODO: make jms version of this
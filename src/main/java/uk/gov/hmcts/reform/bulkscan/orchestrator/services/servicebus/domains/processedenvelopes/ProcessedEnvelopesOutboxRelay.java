@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes;
+
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.processedenvelopeoutbox.OutboxEntry;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.processedenvelopeoutbox.ProcessedEnvelopeOutboxRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Sends notifications stored in the outbox to processed envelopes queue, in batches.
+ */
+@Service
+@Profile("!nosb") // do not register for the nosb (test) profile
+@ConditionalOnExpression("!${jms.enabled} && ${processed-envelopes-outbox.enabled}")
+public class ProcessedEnvelopesOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessedEnvelopesOutboxRelay.class);
+
+    private final ProcessedEnvelopeOutboxRepository outboxRepository;
+    private final ServiceBusSenderClient queueClient;
+    private final ObjectMapper objectMapper;
+
+    public ProcessedEnvelopesOutboxRelay(
+        ProcessedEnvelopeOutboxRepository outboxRepository,
+        @Qualifier("processed-envelopes") ServiceBusSenderClient queueClient,
+        ObjectMapper objectMapper
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.queueClient = queueClient;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Sends up to given number of the oldest notifications and removes them from the outbox.
+     * If sending fails, the notifications sent so far are still removed - the rest are left for the next run.
+     * Notifications which can never be sent (can't be serialised or don't fit in an empty batch) are logged
+     * and removed, so that they don't block the ones behind them.
+     * Message ID is the envelope ID, so the queue can drop notifications sent more than once.
+     *
+     * @return number of notifications sent
+     */
+    @Transactional
+    public int relay(int maxNotifications) {
+        List<OutboxEntry> entries = outboxRepository.findOldestForUpdate(maxNotifications);
+        List<String> sentEnvelopeIds = new ArrayList<>();
+        List<String> unsendableEnvelopeIds = new ArrayList<>();
+
+        try {
+            ServiceBusMessageBatch batch = queueClient.createMessageBatch();
+            List<String> batchEnvelopeIds = new ArrayList<>();
+
+            for (OutboxEntry entry : entries) {
+                ServiceBusMessage message;
+                try {
+                    message = toMessage(entry);
+                } catch (Exception ex) {
+                    log.error(
+                        "Failed to create notification, removing it from the outbox. Envelope ID: {}",
+                        entry.envelopeId,
+                        ex
+                    );
+                    unsendableEnvelopeIds.add(entry.envelopeId);
+                    continue;
+                }
+
+                if (!batch.tryAddMessage(message)) {
+                    send(batch, batchEnvelopeIds, sentEnvelopeIds);
+                    batch = queueClient.createMessageBatch();
+                    batchEnvelopeIds = new ArrayList<>();
+
+                    if (!batch.tryAddMessage(message)) {
+                        log.error(
+                            "Notification too large to send to the queue, removing it from the outbox. Envelope ID: {}",
+                            entry.envelopeId
+                        );
+                        unsendableEnvelopeIds.add(entry.envelopeId);
+                        continue;
+                    }
+                }
+                batchEnvelopeIds.add(entry.envelopeId);
+            }
+
+            send(batch, batchEnvelopeIds, sentEnvelopeIds);
+        } catch (Exception ex) {
+            log.error(
+                "Failed to send processed envelope notifications. Sent {} out of {}",
+                sentEnvelopeIds.size(),
+                entries.size(),
+                ex
+            );
+        }
+
+        List<String> removedEnvelopeIds = new ArrayList<>(sentEnvelopeIds);
+        removedEnvelopeIds.addAll(unsendableEnvelopeIds);
+        outboxRepository.delete(removedEnvelopeIds);
+        return sentEnvelopeIds.size();
+    }
+
+    private void send(ServiceBusMessageBatch batch, List<String> batchEnvelopeIds, List<String> sentEnvelopeIds) {
+        if (batch.getCount() > 0) {
+            queueClient.sendMessages(batch);
+            sentEnvelopeIds.addAll(batchEnvelopeIds);
+            log.info("Sent {} messages to processed envelopes queue", batch.getCount());
+        }
+    }
+
+    private ServiceBusMessage toMessage(OutboxEntry entry) throws JsonProcessingException {
+        String messageBody = objectMapper.writeValueAsString(
+            new ProcessedEnvelope(entry.envelopeId, entry.ccdId, entry.envelopeCcdAction)
+        );
+
+        ServiceBusMessage message = new ServiceBusMessage(messageBody);
+        message.setContentType(APPLICATION_JSON.toString());
+        message.setMessageId(entry.envelopeId);
+        return message;
+    }
+}
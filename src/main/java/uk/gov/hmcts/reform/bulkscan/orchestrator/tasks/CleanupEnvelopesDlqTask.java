@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.bulkscan.orchestrator.tasks;
 
-import com.azure.core.util.IterableStream;
 import com.azure.messaging.servicebus.ServiceBusException;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
 import com.azure.messaging.servicebus.ServiceBusReceiverClient;
@@ -12,17 +11,26 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.ConnectionException;
-import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.InvalidMessageException;
-import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeParser;
-import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 /**
  * Deletes messages from envelopes Dead letter queue.
+ *
+ * <p>The queue is first peeked in batches, which does not lock the messages, to find the ones
+ * which have been dead lettered longer than ttl ago. Only if there are any, messages are received in batches
+ * and the eligible ones completed in parallel.</p>
  */
 @Component
 @ConditionalOnProperty("scheduling.task.delete-envelopes-dlq-messages.enabled")
@@ -31,16 +39,26 @@ public class CleanupEnvelopesDlqTask {
 
     private static final Logger log = LoggerFactory.getLogger(CleanupEnvelopesDlqTask.class);
     private static final String TASK_NAME = "delete-envelopes-dlq-messages";
+    private static final Duration RECEIVE_TIMEOUT = Duration.ofSeconds(1);
 
     Supplier<ServiceBusReceiverClient> dlqReceiverProvider;
     private final Duration ttl;
+    private final int peekBatchSize;
+    private final int receiveBatchSize;
+    private final int completionParallelism;
 
     public CleanupEnvelopesDlqTask(
         Supplier<ServiceBusReceiverClient> receiverProvider,
-        @Value("${scheduling.task.delete-envelopes-dlq-messages.ttl}") Duration ttl
+        @Value("${scheduling.task.delete-envelopes-dlq-messages.ttl}") Duration ttl,
+        @Value("${scheduling.task.delete-envelopes-dlq-messages.peek-batch-size}") int peekBatchSize,
+        @Value("${scheduling.task.delete-envelopes-dlq-messages.receive-batch-size}") int receiveBatchSize,
+        @Value("${scheduling.task.delete-envelopes-dlq-messages.completion-parallelism}") int completionParallelism
     ) {
         this.dlqReceiverProvider = receiverProvider;
         this.ttl = ttl;
+        this.peekBatchSize = peekBatchSize;
+        this.receiveBatchSize = receiveBatchSize;
+        this.completionParallelism = completionParallelism;
     }
 
     @Scheduled(cron = "${scheduling.task.delete-envelopes-dlq-messages.cron}")
@@ -50,34 +68,11 @@ public class CleanupEnvelopesDlqTask {
 
         try {
             messageReceiver = dlqReceiverProvider.get();
-            ServiceBusReceivedMessage message = null;
-            int completedCount = 0;
-            do {
-                message = null;
-                IterableStream<ServiceBusReceivedMessage> messages =
-                    messageReceiver.receiveMessages(1, Duration.ofSeconds(1));
-                var opt = messages.stream().findFirst();
-                if (opt.isPresent()) {
-                    message = opt.get();
-                    messageReceiver.renewMessageLock(message);
-                    if (canBeCompleted(message)) {
-                        logMessage(message);
-                        messageReceiver.complete(message);
-                        completedCount++;
-                        log.info(
-                            "Completed message from envelopes dlq. messageId: {} Current time: {}",
-                            message.getMessageId(),
-                            Instant.now()
-                        );
-                    } else {
-                        // just continue, lock on the current msg will expire automatically
-                        log.info(
-                            "Leaving message on dlq, ttl has not passed yet. Message id: {}",
-                            message.getMessageId()
-                        );
-                    }
-                }
-            } while (message != null);
+
+            Set<Long> sequenceNumbersToComplete = findMessagesToComplete(messageReceiver);
+            int completedCount = sequenceNumbersToComplete.isEmpty()
+                ? 0
+                : completeMessages(messageReceiver, sequenceNumbersToComplete);
 
             log.info("Finished processing messages in envelopes dlq. Completed {} messages", completedCount);
         } catch (ConnectionException e) {
@@ -94,51 +89,135 @@ public class CleanupEnvelopesDlqTask {
         log.info("Finished {} job", TASK_NAME);
     }
 
-    private void logMessage(ServiceBusReceivedMessage msg) {
+    /**
+     * Peeks all messages in the queue and returns sequence numbers of the ones which can be completed.
+     */
+    private Set<Long> findMessagesToComplete(ServiceBusReceiverClient messageReceiver) {
+        long startTime = System.currentTimeMillis();
+        Instant cutoff = Instant.now().minus(this.ttl);
+        Set<Long> sequenceNumbersToComplete = new HashSet<>();
+        long fromSequenceNumber = 0;
+        int scannedCount = 0;
+
+        List<ServiceBusReceivedMessage> messages;
+        do {
+            messages = messageReceiver.peekMessages(peekBatchSize, fromSequenceNumber).stream().toList();
+
+            for (ServiceBusReceivedMessage message : messages) {
+                scannedCount++;
+                if (canBeCompleted(message, cutoff)) {
+                    sequenceNumbersToComplete.add(message.getSequenceNumber());
+                }
+                fromSequenceNumber = Math.max(fromSequenceNumber, message.getSequenceNumber() + 1);
+            }
+        } while (!messages.isEmpty());
+
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        log.info(
+            "Scanned {} messages in envelopes dlq in {} ms ({} messages/s). {} of them can be completed, ttl: {}",
+            scannedCount,
+            elapsedMillis,
+            perSecond(scannedCount, elapsedMillis),
+            sequenceNumbersToComplete.size(),
+            this.ttl
+        );
+        return sequenceNumbersToComplete;
+    }
+
+    /**
+     * Receives messages in batches and completes the ones with given sequence numbers.
+     * Other received messages are left alone, their locks will expire automatically.
+     */
+    private int completeMessages(
+        ServiceBusReceiverClient messageReceiver,
+        Set<Long> sequenceNumbersToComplete
+    ) {
+        long startTime = System.currentTimeMillis();
+        Set<Long> remaining = new HashSet<>(sequenceNumbersToComplete);
+        Set<Long> received = new HashSet<>();
+        int completedCount = 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(completionParallelism);
+        try {
+            while (!remaining.isEmpty()) {
+                List<ServiceBusReceivedMessage> messages =
+                    messageReceiver.receiveMessages(receiveBatchSize, RECEIVE_TIMEOUT).stream().toList();
+                if (messages.isEmpty()) {
+                    break;
+                }
+
+                boolean receivedAgain = false;
+                List<CompletableFuture<Boolean>> completions = new ArrayList<>();
+                for (ServiceBusReceivedMessage message : messages) {
+                    receivedAgain |= !received.add(message.getSequenceNumber());
+                    if (remaining.remove(message.getSequenceNumber())) {
+                        completions.add(CompletableFuture.supplyAsync(
+                            () -> complete(messageReceiver, message),
+                            executor
+                        ));
+                    }
+                }
+
+                completedCount += (int) completions
+                    .stream()
+                    .map(CompletableFuture::join)
+                    .filter(Boolean::booleanValue)
+                    .count();
+
+                if (receivedAgain) {
+                    // went through the whole queue, the remaining messages must have been removed by someone else
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        log.info(
+            "Completed {} messages from envelopes dlq in {} ms ({} messages/s). Not found: {}",
+            completedCount,
+            elapsedMillis,
+            perSecond(completedCount, elapsedMillis),
+            remaining.size()
+        );
+        return completedCount;
+    }
+
+    private boolean complete(ServiceBusReceiverClient messageReceiver, ServiceBusReceivedMessage message) {
         try {
-            Envelope envelope = EnvelopeParser.parse(msg.getBody().toBytes());
-
-            log.info(
-                "Completing dlq message. messageId: {}, Envelope ID: {}, File name: {}, Jurisdiction: {},"
-                    + " Classification: {}, Case: {}",
-                msg.getMessageId(),
-                envelope.id,
-                envelope.zipFileName,
-                envelope.jurisdiction,
-                envelope.classification,
-                envelope.caseRef
-            );
-        } catch (InvalidMessageException e) {
-            // Not logging the exception as it prints the sensitive information from the envelope
-            log.error(
-                "An error occurred while parsing the dlq message with messageId: {}",
-                msg.getMessageId()
-            );
+            messageReceiver.complete(message);
+            log.info("Completed message from envelopes dlq. messageId: {}", message.getMessageId());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to complete message from envelopes dlq. messageId: {}", message.getMessageId(), e);
+            return false;
         }
     }
 
-    private boolean canBeCompleted(ServiceBusReceivedMessage message) {
-        Instant cutoff = Instant.now().minus(this.ttl);
+    private boolean canBeCompleted(ServiceBusReceivedMessage message, Instant cutoff) {
         Map<String, Object> messageProperties = message.getApplicationProperties();
 
-        String deadLetteredAtStr =
+        Object deadLetteredAt =
             messageProperties == null
                 ? null
-                : (String) messageProperties.get("deadLetteredAt");
-
-        if (deadLetteredAtStr != null) {
-            Instant deadLetteredAt = Instant.parse(deadLetteredAtStr);
-
-            log.info(
-                "Checking if DLQ message can be completed. "
-                    + "MessageId: {}, dead lettered time: {}, ttl: {}, current time: {}",
-                message.getMessageId(),
-                deadLetteredAt,
-                this.ttl,
-                Instant.now()
-            );
-            return deadLetteredAt.isBefore(cutoff);
+                : messageProperties.get("deadLetteredAt");
+
+        if (deadLetteredAt != null) {
+            try {
+                return Instant.parse(deadLetteredAt.toString()).isBefore(cutoff);
+            } catch (DateTimeParseException e) {
+                log.warn(
+                    "Invalid dead lettered time of DLQ message. MessageId: {}, dead lettered time: {}",
+                    message.getMessageId(),
+                    deadLetteredAt
+                );
+            }
         }
         return false;
     }
+
+    private static long perSecond(int count, long elapsedMillis) {
+        return count * 1000L / Math.max(elapsedMillis, 1);
+    }
 }
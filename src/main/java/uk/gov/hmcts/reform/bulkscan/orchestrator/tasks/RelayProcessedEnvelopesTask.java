@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.ProcessedEnvelopesOutboxRelay;
+
+/**
+ * Drains processed envelope notifications outbox.
+ */
+@Component
+@Profile("!nosb") // do not register for the nosb (test) profile
+@ConditionalOnExpression("!${jms.enabled} && ${processed-envelopes-outbox.enabled}")
+public class RelayProcessedEnvelopesTask {
+
+    private static final Logger log = LoggerFactory.getLogger(RelayProcessedEnvelopesTask.class);
+    private static final String TASK_NAME = "relay-processed-envelopes";
+
+    private final ProcessedEnvelopesOutboxRelay outboxRelay;
+    private final int batchSize;
+
+    public RelayProcessedEnvelopesTask(
+        ProcessedEnvelopesOutboxRelay outboxRelay,
+        @Value("${processed-envelopes-outbox.batch-size}") int batchSize
+    ) {
+        this.outboxRelay = outboxRelay;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${processed-envelopes-outbox.relay-delay}")
+    public void relayProcessedEnvelopes() {
+        int sentCount = 0;
+        int sentInRound;
+
+        // keep going while full rounds are sent - there may be more waiting
+        do {
+            sentInRound = outboxRelay.relay(batchSize);
+            sentCount += sentInRound;
+        } while (sentInRound == batchSize);
+
+        if (sentCount > 0) {
+            log.info("Finished {} job. Sent {} notifications", TASK_NAME, sentCount);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+-- Steps of envelope processing that have been completed, so that redeliveries can resume from where they stopped
+CREATE TABLE IF NOT EXISTS envelope_processing_step (
+  envelope_id character varying(50) NOT NULL,
+  step character varying(50) NOT NULL,
+  ccd_id BIGINT,
+  created_at timestamp NOT NULL,
+  PRIMARY KEY (envelope_id, step)
+);
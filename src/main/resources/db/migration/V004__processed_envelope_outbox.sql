@@ -0,0 +1,9 @@
+-- Notifications about processed envelopes waiting to be sent to processed envelopes queue
+CREATE TABLE IF NOT EXISTS processed_envelope_outbox (
+  envelope_id character varying(50) NOT NULL PRIMARY KEY,
+  ccd_id BIGINT,
+  envelope_ccd_action character varying(50) NOT NULL,
+  created_at timestamp NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS processed_envelope_outbox_created_at_idx ON processed_envelope_outbox (created_at);
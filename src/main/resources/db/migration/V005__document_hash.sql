@@ -0,0 +1,6 @@
+-- CDAM hashes of documents, which never change, so that they don't have to be retrieved again
+CREATE TABLE IF NOT EXISTS document_hash (
+  document_uuid character varying(100) NOT NULL PRIMARY KEY,
+  hash_token character varying(1000) NOT NULL,
+  created_at timestamp NOT NULL
+);
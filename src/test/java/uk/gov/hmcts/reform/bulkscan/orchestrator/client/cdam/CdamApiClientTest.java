@@ -1,9 +1,9 @@
 package uk.gov.hmcts.reform.bulkscan.orchestrator.client.cdam;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
@@ -17,13 +17,17 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +40,6 @@ class CdamApiClientTest {
     @Mock
     private IdamCachedClient idamCachedClient;
 
-    @InjectMocks
     private CdamApiClient cdamApiClient;
 
     private static final String S2S_TOKEN = "s2sToken-123123";
@@ -45,9 +48,22 @@ class CdamApiClientTest {
 
     @BeforeEach
     void enabledCdam() {
+        cdamApiClient = new CdamApiClient(
+            cdamApi,
+            s2sTokenGenerator,
+            idamCachedClient,
+            new DocumentHashCache(false, 100, false, null),
+            2,
+            false
+        );
         cdamApiClient.setCdamEnabled(true);
     }
 
+    @AfterEach
+    void tearDown() {
+        cdamApiClient.shutdown();
+    }
+
     @Test
     void should_get_allHashTokens_for_all_docs() {
 
@@ -103,6 +119,86 @@ class CdamApiClientTest {
         verify(cdamApi).getDocumentHash(S2S_TOKEN, IDAM_TOKEN, document2Uuid);
     }
 
+    @Test
+    void should_get_hashes_of_documents_at_the_same_time() {
+        var cachedIdamCredential = new CachedIdamCredential(IDAM_TOKEN, "user-1", 132131);
+        given(s2sTokenGenerator.generate()).willReturn(S2S_TOKEN);
+        given(idamCachedClient.getIdamCredentials(JURISDICTION)).willReturn(cachedIdamCredential);
+
+        // each call waits for another one, which only finishes if they are made at the same time
+        var barrier = new CyclicBarrier(2);
+        given(cdamApi.getDocumentHash(eq(S2S_TOKEN), eq(IDAM_TOKEN), anyString())).willAnswer(invocation -> {
+            barrier.await(5, TimeUnit.SECONDS);
+            return "hash-" + invocation.getArgument(2);
+        });
+
+        Map<String, String> result = cdamApiClient.getDocumentHashes(JURISDICTION, List.of("uuid1", "uuid2", "uuid1"));
+
+        assertThat(result).containsOnly(entry("uuid1", "hash-uuid1"), entry("uuid2", "hash-uuid2"));
+
+        verify(s2sTokenGenerator).generate();
+        verify(idamCachedClient).getIdamCredentials(JURISDICTION);
+        verify(cdamApi, times(2)).getDocumentHash(eq(S2S_TOKEN), eq(IDAM_TOKEN), anyString());
+    }
+
+    @Test
+    void should_get_remaining_hashes_and_report_all_failed_documents() {
+        var cachedIdamCredential = new CachedIdamCredential(IDAM_TOKEN, "user-1", 132131);
+        given(s2sTokenGenerator.generate()).willReturn(S2S_TOKEN);
+        given(idamCachedClient.getIdamCredentials(JURISDICTION)).willReturn(cachedIdamCredential);
+
+        var notFound = new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        var forbidden = new HttpClientErrorException(HttpStatus.FORBIDDEN);
+        given(cdamApi.getDocumentHash(S2S_TOKEN, IDAM_TOKEN, "uuid1")).willThrow(notFound);
+        given(cdamApi.getDocumentHash(S2S_TOKEN, IDAM_TOKEN, "uuid2")).willReturn("hash2");
+        given(cdamApi.getDocumentHash(S2S_TOKEN, IDAM_TOKEN, "uuid3")).willThrow(forbidden);
+
+        assertThatCode(() -> cdamApiClient.getDocumentHashes(JURISDICTION, List.of("uuid1", "uuid2", "uuid3")))
+            .isSameAs(notFound)
+            .satisfies(exception -> assertThat(exception.getSuppressed()).containsExactly(forbidden));
+
+        verify(cdamApi).getDocumentHash(S2S_TOKEN, IDAM_TOKEN, "uuid2");
+        verify(cdamApi).getDocumentHash(S2S_TOKEN, IDAM_TOKEN, "uuid3");
+    }
+
+    @Test
+    void should_cache_hashes_retrieved_before_failure() {
+        cdamApiClient = new CdamApiClient(
+            cdamApi,
+            s2sTokenGenerator,
+            idamCachedClient,
+            new DocumentHashCache(true, 100, false, null),
+            2,
+            false
+        );
+        cdamApiClient.setCdamEnabled(true);
+
+        var cachedIdamCredential = new CachedIdamCredential(IDAM_TOKEN, "user-1", 132131);
+        given(s2sTokenGenerator.generate()).willReturn(S2S_TOKEN);
+        given(idamCachedClient.getIdamCredentials(JURISDICTION)).willReturn(cachedIdamCredential);
+
+        var notFound = new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        given(cdamApi.getDocumentHash(S2S_TOKEN, IDAM_TOKEN, "uuid1")).willThrow(notFound).willReturn("hash1");
+        given(cdamApi.getDocumentHash(S2S_TOKEN, IDAM_TOKEN, "uuid2")).willReturn("hash2");
+
+        assertThatCode(() -> cdamApiClient.getDocumentHashes(JURISDICTION, List.of("uuid1", "uuid2")))
+            .isSameAs(notFound);
+        Map<String, String> result = cdamApiClient.getDocumentHashes(JURISDICTION, List.of("uuid1", "uuid2"));
+
+        assertThat(result).containsOnly(entry("uuid1", "hash1"), entry("uuid2", "hash2"));
+        verify(cdamApi, times(2)).getDocumentHash(S2S_TOKEN, IDAM_TOKEN, "uuid1");
+        verify(cdamApi).getDocumentHash(S2S_TOKEN, IDAM_TOKEN, "uuid2");
+    }
+
+    @Test
+    void should_not_call_cdam_when_there_are_no_documents() {
+        Map<String, String> result = cdamApiClient.getDocumentHashes(JURISDICTION, List.of());
+
+        assertThat(result).isEmpty();
+        verify(s2sTokenGenerator, never()).generate();
+        verify(cdamApi, never()).getDocumentHash(anyString(), anyString(), anyString());
+    }
+
     @Test
     void should_get_hashToken_by_uuid_for_a_doc() {
 
@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.client.cdam;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.documenthash.DocumentHashRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentHashCacheTest {
+
+    @Mock
+    private DocumentHashRepository documentHashRepository;
+
+    private final List<List<String>> loadedUuids = new ArrayList<>();
+
+    @Test
+    void should_retrieve_only_hashes_which_are_not_cached() {
+        // given
+        DocumentHashCache cache = new DocumentHashCache(true, 10, false, documentHashRepository);
+
+        // when
+        cache.getAll(List.of("uuid1"), loader());
+        Map<String, String> hashes = cache.getAll(List.of("uuid1", "uuid2"), loader());
+
+        // then
+        assertThat(hashes).containsOnly(entry("uuid1", "hash-uuid1"), entry("uuid2", "hash-uuid2"));
+        assertThat(loadedUuids).containsExactly(List.of("uuid1"), List.of("uuid2"));
+        verifyNoInteractions(documentHashRepository);
+
+        var statistics = cache.getStatistics();
+        assertThat(statistics.enabled).isTrue();
+        assertThat(statistics.size).isEqualTo(2);
+        assertThat(statistics.hitCount).isEqualTo(1);
+        assertThat(statistics.cdamCallCount).isEqualTo(2);
+        assertThat(statistics.cdamCallsSaved).isEqualTo(1);
+        assertThat(statistics.hitRate).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void should_take_hashes_from_database_before_retrieving_them() {
+        // given
+        DocumentHashCache cache = new DocumentHashCache(true, 10, true, documentHashRepository);
+        given(documentHashRepository.findByDocumentUuids(List.of("uuid1", "uuid2")))
+            .willReturn(Map.of("uuid1", "stored-hash-uuid1"));
+
+        // when
+        Map<String, String> hashes = cache.getAll(List.of("uuid1", "uuid2"), loader());
+        Map<String, String> cachedHashes = cache.getAll(List.of("uuid1", "uuid2"), loader());
+
+        // then
+        assertThat(hashes).containsOnly(entry("uuid1", "stored-hash-uuid1"), entry("uuid2", "hash-uuid2"));
+        assertThat(cachedHashes).isEqualTo(hashes);
+        assertThat(loadedUuids).containsExactly(List.of("uuid2"));
+        verify(documentHashRepository).insert(Map.of("uuid2", "hash-uuid2"));
+
+        var statistics = cache.getStatistics();
+        assertThat(statistics.databaseHitCount).isEqualTo(1);
+        assertThat(statistics.cdamCallsSaved).isEqualTo(3);
+    }
+
+    @Test
+    void should_retrieve_hashes_when_database_fails() {
+        // given
+        DocumentHashCache cache = new DocumentHashCache(true, 10, true, documentHashRepository);
+        willThrow(new IllegalStateException("test")).given(documentHashRepository).findByDocumentUuids(any());
+        willThrow(new IllegalStateException("test")).given(documentHashRepository).insert(any());
+
+        // when
+        Map<String, String> hashes = cache.getAll(List.of("uuid1"), loader());
+
+        // then
+        assertThat(hashes).containsOnly(entry("uuid1", "hash-uuid1"));
+    }
+
+    @Test
+    void should_cache_hashes_retrieved_before_loader_failed() {
+        // given
+        DocumentHashCache cache = new DocumentHashCache(true, 10, true, documentHashRepository);
+        var failure = new DocumentHashRetrievalException(
+            new IllegalStateException("test"),
+            Map.of("uuid1", "hash-uuid1")
+        );
+        Function<List<String>, Map<String, String>> failingLoader = uuids -> {
+            loadedUuids.add(uuids);
+            throw failure;
+        };
+
+        // when
+        assertThatCode(() -> cache.getAll(List.of("uuid1", "uuid2"), failingLoader)).isSameAs(failure);
+        Map<String, String> hashes = cache.getAll(List.of("uuid1", "uuid2"), loader());
+
+        // then
+        assertThat(hashes).containsOnly(entry("uuid1", "hash-uuid1"), entry("uuid2", "hash-uuid2"));
+        assertThat(loadedUuids).containsExactly(List.of("uuid1", "uuid2"), List.of("uuid2"));
+        verify(documentHashRepository).insert(Map.of("uuid1", "hash-uuid1"));
+        verify(documentHashRepository).insert(Map.of("uuid2", "hash-uuid2"));
+    }
+
+    @Test
+    void should_not_cache_missing_hashes() {
+        // given
+        DocumentHashCache cache = new DocumentHashCache(true, 10, false, documentHashRepository);
+        Function<List<String>, Map<String, String>> nullLoader = uuids -> {
+            loadedUuids.add(uuids);
+            Map<String, String> hashes = new HashMap<>();
+            uuids.forEach(uuid -> hashes.put(uuid, null));
+            return hashes;
+        };
+
+        // when
+        cache.getAll(List.of("uuid1"), nullLoader);
+        cache.getAll(List.of("uuid1"), nullLoader);
+
+        // then
+        assertThat(loadedUuids).hasSize(2);
+        assertThat(cache.getStatistics().size).isZero();
+    }
+
+    @Test
+    void should_always_retrieve_hashes_when_disabled() {
+        // given
+        DocumentHashCache cache = new DocumentHashCache(false, 10, true, documentHashRepository);
+
+        // when
+        cache.getAll(List.of("uuid1"), loader());
+        cache.getAll(List.of("uuid1"), loader());
+
+        // then
+        assertThat(loadedUuids).hasSize(2);
+        verify(documentHashRepository, never()).findByDocumentUuids(any());
+        assertThat(cache.getStatistics().enabled).isFalse();
+    }
+
+    private Function<List<String>, Map<String, String>> loader() {
+        return uuids -> {
+            loadedUuids.add(uuids);
+            Map<String, String> hashes = new HashMap<>();
+            uuids.forEach(uuid -> hashes.put(uuid, "hash-" + uuid));
+            return hashes;
+        };
+    }
+}
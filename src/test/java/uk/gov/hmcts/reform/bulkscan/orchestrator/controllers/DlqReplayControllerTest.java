@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.DlqReplayInProgressException;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.in.DlqReplayRequest;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.DlqReplayJob;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.DlqReplayService;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DlqReplayController.class)
+@TestPropertySource(properties = "dlq-replay.enabled=true")
+class DlqReplayControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockitoBean
+    DlqReplayService dlqReplayService;
+
+    @Test
+    void should_start_replay() throws Exception {
+        DlqReplayJob job = new DlqReplayJob(new DlqReplayRequest("Too many deliveries", null, null, null, 10), 10);
+        given(dlqReplayService.startReplay(argThat(request ->
+            "Too many deliveries".equals(request.deadLetterReason)
+                && Instant.parse("2024-01-01T10:00:00Z").equals(request.deadLetteredFrom)
+                && request.maxMessages == 10
+        ))).willReturn(job);
+
+        mvc.perform(
+            post("/envelopes-dlq/replay")
+                .contentType(APPLICATION_JSON)
+                .content(
+                    "{"
+                        + "\"dead_letter_reason\":\"Too many deliveries\","
+                        + "\"dead_lettered_from\":\"2024-01-01T10:00:00Z\","
+                        + "\"max_messages\":10"
+                        + "}"
+                )
+        )
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.id").value(job.id.toString()))
+            .andExpect(jsonPath("$.status").value("RUNNING"));
+    }
+
+    @Test
+    void should_return_conflict_when_replay_is_in_progress() throws Exception {
+        given(dlqReplayService.startReplay(any())).willThrow(new DlqReplayInProgressException("in progress"));
+
+        mvc.perform(post("/envelopes-dlq/replay").contentType(APPLICATION_JSON).content("{}"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void should_return_last_replay() throws Exception {
+        DlqReplayJob job = new DlqReplayJob(new DlqReplayRequest(null, null, null, null, null), 10);
+        given(dlqReplayService.getLastReplay()).willReturn(Optional.of(job));
+
+        mvc.perform(get("/envelopes-dlq/replay"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(job.id.toString()))
+            .andExpect(jsonPath("$.replayed_count").value(0));
+    }
+
+    @Test
+    void should_return_not_found_when_no_replay_was_started() throws Exception {
+        given(dlqReplayService.getLastReplay()).willReturn(Optional.empty());
+
+        mvc.perform(get("/envelopes-dlq/replay"))
+            .andExpect(status().isNotFound());
+    }
+}
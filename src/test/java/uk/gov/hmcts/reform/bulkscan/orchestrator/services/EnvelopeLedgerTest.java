@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerEntry;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.CASE_CREATED;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.PAYMENT_SENT;
+
+@ExtendWith(MockitoExtension.class)
+class EnvelopeLedgerTest {
+
+    private static final String ENVELOPE_ID = "envelope-id";
+
+    @Mock
+    private EnvelopeLedgerRepository repository;
+
+    @Test
+    void should_find_completed_step() {
+        // given
+        var entry = new EnvelopeLedgerEntry(ENVELOPE_ID, CASE_CREATED, 1L, Instant.now());
+        given(repository.findByEnvelopeId(ENVELOPE_ID)).willReturn(List.of(entry));
+        var ledger = new EnvelopeLedger(repository, true);
+
+        // when
+        // then
+        assertThat(ledger.findCompletedStep(ENVELOPE_ID, CASE_CREATED)).containsSame(entry);
+        assertThat(ledger.findCompletedStep(ENVELOPE_ID, PAYMENT_SENT)).isEmpty();
+    }
+
+    @Test
+    void should_treat_step_as_not_completed_when_ledger_cannot_be_read() {
+        // given
+        given(repository.findByEnvelopeId(ENVELOPE_ID)).willThrow(new RuntimeException("db down"));
+        var ledger = new EnvelopeLedger(repository, true);
+
+        // when
+        // then
+        assertThat(ledger.findCompletedStep(ENVELOPE_ID, CASE_CREATED)).isEmpty();
+    }
+
+    @Test
+    void should_not_fail_when_step_cannot_be_recorded() {
+        // given
+        willThrow(new RuntimeException("db down")).given(repository).insert(ENVELOPE_ID, CASE_CREATED, 1L);
+        var ledger = new EnvelopeLedger(repository, true);
+
+        // when
+        // then
+        assertThatCode(() -> ledger.recordCompletedStep(ENVELOPE_ID, CASE_CREATED, 1L))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_not_use_repository_when_disabled() {
+        // given
+        var ledger = new EnvelopeLedger(repository, false);
+
+        // when
+        ledger.recordCompletedStep(ENVELOPE_ID, CASE_CREATED, 1L);
+
+        // then
+        assertThat(ledger.findCompletedStep(ENVELOPE_ID, CASE_CREATED)).isEmpty();
+        verifyNoInteractions(repository);
+    }
+}
@@ -9,17 +9,26 @@ import com.azure.messaging.servicebus.models.DeadLetterOptions;
 import com.fasterxml.jackson.core.JsonParseException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerEntry;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.NotificationSendingException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.logging.AppInsights;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.envelopehandlers.EnvelopeHandler;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeLaneScheduler;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeMessageProcessor;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeRescheduler;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeRetryBackoff;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeProcessingResult;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.ProcessedEnvelopeNotifier;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,11 +41,14 @@ import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData.envelopeJson;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.NOTIFICATION_SENT;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeRescheduler.RETRY_ATTEMPT_PROPERTY;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Classification.NEW_APPLICATION;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction.EXCEPTION_RECORD;
 
@@ -59,15 +71,28 @@ class EnvelopeMessageProcessorTest {
     @Mock
     private ProcessedEnvelopeNotifier processedEnvelopeNotifier;
 
+    @Mock
+    private EnvelopeLedger envelopeLedger;
+
+    @Mock
+    private EnvelopeRescheduler envelopeRescheduler;
+
+    @Mock
+    private EnvelopeRetryBackoff retryBackoff;
+
     private EnvelopeMessageProcessor processor;
 
     @BeforeEach
     void before() {
         processor = new EnvelopeMessageProcessor(
-            envelopeHandler,
+            new EnvelopeLaneScheduler(envelopeHandler, 0, false),
             processedEnvelopeNotifier,
+            envelopeLedger,
             10,
-            appInsights
+            1,
+            appInsights,
+            envelopeRescheduler,
+            retryBackoff
         );
     }
 
@@ -93,6 +118,22 @@ class EnvelopeMessageProcessorTest {
         assertThatCode(() -> processor.processMessage(messageContext)).doesNotThrowAnyException();
     }
 
+    @Test
+    void should_complete_the_message_without_handling_when_envelope_has_already_been_processed() {
+        // given
+        given(messageContext.getMessage()).willReturn(message);
+        given(message.getBody()).willReturn(BinaryData.fromBytes(envelopeJson()));
+        given(envelopeLedger.findCompletedStep(any(), eq(NOTIFICATION_SENT)))
+            .willReturn(Optional.of(new EnvelopeLedgerEntry("id", NOTIFICATION_SENT, 1L, Instant.now())));
+
+        // when
+        processor.processMessage(messageContext);
+
+        // then
+        verify(messageContext).complete();
+        verifyNoInteractions(envelopeHandler, processedEnvelopeNotifier);
+    }
+
     @Test
     void should_complete_the_message_when_processing_is_successful() {
         // given
@@ -194,10 +235,14 @@ class EnvelopeMessageProcessorTest {
         given(message.getBody()).willReturn(BinaryData.fromBytes(envelopeJson()));
 
         processor = new EnvelopeMessageProcessor(
-            envelopeHandler,
+            new EnvelopeLaneScheduler(envelopeHandler, 0, false),
             processedEnvelopeNotifier,
+            envelopeLedger,
+            1,
             1,
-            appInsights
+            appInsights,
+            envelopeRescheduler,
+            retryBackoff
         );
         Exception processingFailureCause = new RuntimeException(
             "exception of type treated as recoverable"
@@ -230,6 +275,52 @@ class EnvelopeMessageProcessorTest {
         );
     }
 
+    @Test
+    void should_complete_and_reschedule_the_message_when_recoverable_failure_and_backoff_enabled() {
+        // given
+        given(messageContext.getMessage()).willReturn(message);
+        given(message.getBody()).willReturn(BinaryData.fromBytes(envelopeJson()));
+        given(message.getDeliveryCount()).willReturn(0L);
+        given(message.getApplicationProperties()).willReturn(Map.of(RETRY_ATTEMPT_PROPERTY, 2));
+        given(retryBackoff.isEnabled()).willReturn(true);
+        given(retryBackoff.getDelay(3)).willReturn(Duration.ofMinutes(2));
+
+        willThrow(new RuntimeException("exception of type treated as recoverable"))
+            .given(envelopeHandler).handleEnvelope(any(), anyLong());
+
+        Instant before = Instant.now();
+
+        // when
+        processor.processMessage(messageContext);
+
+        // then the next attempt is scheduled and the message is completed
+        ArgumentCaptor<Instant> retryAtCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(envelopeRescheduler).reschedule(eq(message), eq(3), retryAtCaptor.capture());
+        assertThat(retryAtCaptor.getValue()).isAfterOrEqualTo(before.plus(Duration.ofMinutes(2)));
+
+        verify(messageContext).complete();
+        verify(messageContext, never()).deadLetter(any());
+    }
+
+    @Test
+    void should_dead_letter_rescheduled_message_when_retry_attempts_reach_max_delivery_count() {
+        // given
+        given(messageContext.getMessage()).willReturn(message);
+        given(message.getBody()).willReturn(BinaryData.fromBytes(envelopeJson()));
+        given(message.getDeliveryCount()).willReturn(0L);
+        given(message.getApplicationProperties()).willReturn(Map.of(RETRY_ATTEMPT_PROPERTY, 9));
+
+        willThrow(new RuntimeException("exception of type treated as recoverable"))
+            .given(envelopeHandler).handleEnvelope(any(), anyLong());
+
+        // when
+        processor.processMessage(messageContext);
+
+        // then
+        verify(messageContext).deadLetter(any());
+        verifyNoInteractions(envelopeRescheduler);
+    }
+
     @Test
     void should_send_message_with_envelope_id_when_processing_successful() {
         // given
@@ -326,4 +417,25 @@ class EnvelopeMessageProcessorTest {
         verify(messageContext).complete();
         verifyNoMoreInteractions(appInsights, messageContext);
     }
+
+    @Test
+    @Timeout(5)
+    void should_release_in_flight_slot_when_message_processing_fails() {
+        // given
+        given(messageContext.getMessage()).willReturn(message);
+        given(message.getBody()).willReturn(BinaryData.fromBytes(envelopeJson()));
+
+        // and first attempt fails, second one succeeds
+        given(envelopeHandler.handleEnvelope(any(), anyLong()))
+            .willThrow(new RuntimeException("test exception"))
+            .willReturn(new EnvelopeProcessingResult(3221L, EXCEPTION_RECORD));
+
+        // when
+        processor.processMessage(messageContext);
+        processor.processMessage(messageContext);
+
+        // then the only in-flight slot was freed and second message was processed
+        verify(envelopeHandler, times(2)).handleEnvelope(any(), anyLong());
+        verify(messageContext).complete();
+    }
 }
@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services;
+
+import jakarta.jms.Message;
+import org.apache.activemq.command.ActiveMQMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessagePostProcessor;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.envelopehandlers.EnvelopeHandler;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeLaneScheduler;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.JmsEnvelopeMessageProcessor;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeProcessingResult;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.IProcessedEnvelopeNotifier;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData.envelopeJson;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction.EXCEPTION_RECORD;
+
+@ExtendWith(MockitoExtension.class)
+class JmsEnvelopeMessageProcessorTest {
+
+    private static final String DEAD_LETTER_QUEUE = "envelopes.dlq";
+
+    @Mock
+    private ActiveMQMessage message;
+
+    @Mock
+    private EnvelopeHandler envelopeHandler;
+
+    @Mock
+    private IProcessedEnvelopeNotifier processedEnvelopeNotifier;
+
+    @Mock
+    private EnvelopeLedger envelopeLedger;
+
+    @Mock
+    private JmsTemplate jmsTemplate;
+
+    private JmsEnvelopeMessageProcessor processor;
+
+    @BeforeEach
+    void before() throws Exception {
+        processor = new JmsEnvelopeMessageProcessor(
+            new EnvelopeLaneScheduler(envelopeHandler, 0, false),
+            processedEnvelopeNotifier,
+            envelopeLedger,
+            2,
+            jmsTemplate,
+            DEAD_LETTER_QUEUE
+        );
+        given(message.getJMSMessageID()).willReturn("ID:1");
+    }
+
+    @Test
+    void should_acknowledge_message_when_processing_succeeds() throws Exception {
+        // given
+        given(message.getStringProperty("JMSXDeliveryCount")).willReturn("0");
+        given(envelopeHandler.handleEnvelope(any(), anyLong()))
+            .willReturn(new EnvelopeProcessingResult(1L, EXCEPTION_RECORD));
+
+        // when
+        processor.processMessage(message, body());
+
+        // then
+        verify(message).acknowledge();
+        verify(jmsTemplate, never()).convertAndSend(anyString(), any(Object.class), any(MessagePostProcessor.class));
+    }
+
+    @Test
+    void should_send_invalid_message_to_dead_letter_queue() throws Exception {
+        // given
+        given(message.getStringProperty("JMSXDeliveryCount")).willReturn("0");
+
+        // when
+        processor.processMessage(message, "invalid body");
+
+        // then
+        ArgumentCaptor<MessagePostProcessor> postProcessorCaptor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(jmsTemplate).convertAndSend(eq(DEAD_LETTER_QUEUE), eq("invalid body"), postProcessorCaptor.capture());
+        verify(message).acknowledge();
+
+        Message deadLetteredMessage = mock(Message.class);
+        postProcessorCaptor.getValue().postProcessMessage(deadLetteredMessage);
+        verify(deadLetteredMessage).setStringProperty("originalMessageId", "ID:1");
+        verify(deadLetteredMessage).setStringProperty("deadLetterReason", "Message processing error");
+        verify(deadLetteredMessage).setStringProperty(eq("deadLetteredAt"), anyString());
+    }
+
+    @Test
+    void should_send_message_to_dead_letter_queue_when_delivery_limit_is_reached() throws Exception {
+        // given
+        given(message.getStringProperty("JMSXDeliveryCount")).willReturn("1");
+        willThrow(new RuntimeException("test")).given(envelopeHandler).handleEnvelope(any(), anyLong());
+
+        // when
+        processor.processMessage(message, body());
+
+        // then
+        ArgumentCaptor<MessagePostProcessor> postProcessorCaptor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(jmsTemplate).convertAndSend(eq(DEAD_LETTER_QUEUE), eq(body()), postProcessorCaptor.capture());
+
+        Message deadLetteredMessage = mock(Message.class);
+        postProcessorCaptor.getValue().postProcessMessage(deadLetteredMessage);
+        verify(deadLetteredMessage).setStringProperty("deadLetterReason", "Too many deliveries");
+        verify(deadLetteredMessage)
+            .setStringProperty(eq("deadLetterErrorDescription"), startsWith("Reached limit of message delivery count"));
+    }
+
+    @Test
+    void should_leave_message_for_redelivery_when_delivery_limit_is_not_reached() throws Exception {
+        // given
+        given(message.getStringProperty("JMSXDeliveryCount")).willReturn("0");
+        willThrow(new RuntimeException("test")).given(envelopeHandler).handleEnvelope(any(), anyLong());
+
+        // when
+        processor.processMessage(message, body());
+
+        // then
+        verify(jmsTemplate, never()).convertAndSend(anyString(), any(Object.class), any(MessagePostProcessor.class));
+        verify(message, never()).acknowledge();
+    }
+
+    private static String body() {
+        return new String(envelopeJson(), StandardCharsets.UTF_8);
+    }
+}
@@ -6,7 +6,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.client.internal.PaymentProcessorClient;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerEntry;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.database.PaymentsRepository;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.database.UpdatePaymentsRepository;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.NotFoundException;
@@ -21,6 +23,7 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.env
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +34,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.PAYMENT_SENT;
 
 class PaymentsServiceTest {
 
@@ -43,13 +47,16 @@ class PaymentsServiceTest {
     @Mock
     private UpdatePaymentsRepository updatePaymentsRepository;
 
+    @Mock
+    private EnvelopeLedger envelopeLedger;
+
     private PaymentsService paymentsService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         paymentsService = new PaymentsService(paymentProcessorClient,
-            paymentsRepository, updatePaymentsRepository);
+            paymentsRepository, updatePaymentsRepository, envelopeLedger);
     }
 
     @Test
@@ -91,6 +98,18 @@ class PaymentsServiceTest {
         assertThat(capturedPayments.get(1).getStatus()).isEqualTo(PaymentStatus.COMPLETE);
     }
 
+    @Test
+    void shouldNotSendPaymentAgainWhenAlreadySentForEnvelope() {
+        Envelope envelope = SampleData.envelope(1);
+
+        when(envelopeLedger.findCompletedStep(envelope.id, PAYMENT_SENT))
+            .thenReturn(Optional.of(new EnvelopeLedgerEntry(envelope.id, PAYMENT_SENT, 1L, Instant.now())));
+
+        paymentsService.createNewPayment(envelope, 1L, false);
+
+        verifyNoInteractions(paymentsRepository, paymentProcessorClient);
+    }
+
     @Test
     void shouldUpdatePaymentAndSendToPaymentProcessor() {
 
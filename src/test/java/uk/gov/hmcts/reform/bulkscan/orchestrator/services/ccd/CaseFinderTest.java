@@ -113,22 +113,56 @@ class CaseFinderTest {
         verify(ccdApi, never()).getCaseRefsByEnvelopeId(anyString(), anyString());
     }
 
+    @Test
+    void should_search_by_bulk_scan_ref_and_envelope_id_at_once_when_combined_search_is_enabled() {
+        // given
+        var serviceCfg = mock(ServiceConfigItem.class);
+        given(serviceCfg.getCombinedCaseSearch()).willReturn(true);
+        given(serviceCfg.getSearchCasesByEnvelopeId()).willReturn(true);
+        given(serviceCfg.getService()).willReturn("some-service-name");
+
+        var exceptionRecord = new ExceptionRecord(
+            "er-id",
+            null,
+            "envelope-id",
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            emptyList(),
+            emptyList()
+        );
+
+        given(ccdApi.getCaseRefsByBulkScanCaseReferenceOrEnvelopeId(any(), any(), any())).willReturn(List.of(1L));
+
+        // when
+        List<Long> ids = caseFinder.findCases(exceptionRecord, serviceCfg);
+
+        // then
+        assertThat(ids).containsExactly(1L);
+        verify(ccdApi).getCaseRefsByBulkScanCaseReferenceOrEnvelopeId("er-id", "envelope-id", "some-service-name");
+        verify(ccdApi, never()).getCaseRefsByBulkScanCaseReference(anyString(), anyString());
+        verify(ccdApi, never()).getCaseRefsByEnvelopeId(anyString(), anyString());
+    }
+
     @Test
     void should_search_case_by_ccd_id_when_envelope_has_it() {
-        given(ccdApi.getCase(CASE_REF, JURISDICTION))
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION))
             .willReturn(CaseDetails.builder().build());
 
         caseFinder.findCase(
             envelope(CASE_REF, null)
         );
 
-        verify(ccdApi).getCase(CASE_REF, JURISDICTION);
+        verify(ccdApi).getUncachedCase(CASE_REF, JURISDICTION);
     }
 
     @Test
     void should_return_case_when_found_by_ccd_id() {
         CaseDetails expectedCase = mock(CaseDetails.class);
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willReturn(expectedCase);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(expectedCase);
 
         Optional<CaseDetails> result = caseFinder.findCase(
             envelope(CASE_REF, LEGACY_CASE_REF)
@@ -139,7 +173,7 @@ class CaseFinderTest {
 
     @Test
     void should_return_empty_when_case_not_found_by_ccd_id_and_legacy_id_is_absent() {
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willThrow(
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willThrow(
             new CaseNotFoundException("Case not found")
         );
 
@@ -178,7 +212,7 @@ class CaseFinderTest {
     @Test
     void should_search_case_by_legacy_id_when_not_found_by_ccd_id() {
         // given
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willThrow(
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willThrow(
             new CaseNotFoundException("Case not found")
         );
 
@@ -192,7 +226,7 @@ class CaseFinderTest {
 
         // then
         InOrder inOrder = inOrder(ccdApi);
-        inOrder.verify(ccdApi).getCase(CASE_REF, JURISDICTION);
+        inOrder.verify(ccdApi).getUncachedCase(CASE_REF, JURISDICTION);
         inOrder.verify(ccdApi).getCaseRefsByLegacyId(LEGACY_CASE_REF, SERVICE);
         inOrder.verifyNoMoreInteractions();
     }
@@ -200,7 +234,7 @@ class CaseFinderTest {
     @Test
     void should_search_case_by_legacy_id_when_ccd_id_is_rejected_by_ccd() {
         // given
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willThrow(
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willThrow(
             new InvalidCaseIdException("Invalid case ID", null)
         );
 
@@ -214,7 +248,7 @@ class CaseFinderTest {
 
         // then
         InOrder inOrder = inOrder(ccdApi);
-        inOrder.verify(ccdApi).getCase(CASE_REF, JURISDICTION);
+        inOrder.verify(ccdApi).getUncachedCase(CASE_REF, JURISDICTION);
         inOrder.verify(ccdApi).getCaseRefsByLegacyId(LEGACY_CASE_REF, SERVICE);
         inOrder.verifyNoMoreInteractions();
     }
@@ -239,7 +273,7 @@ class CaseFinderTest {
 
         CaseDetails expectedCase = CaseDetails.builder().build();
 
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willReturn(expectedCase);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(expectedCase);
 
         // when
         caseFinder.findCase(
@@ -249,7 +283,7 @@ class CaseFinderTest {
         // then
         InOrder inOrder = inOrder(ccdApi);
         inOrder.verify(ccdApi).getCaseRefsByLegacyId(LEGACY_CASE_REF, SERVICE);
-        inOrder.verify(ccdApi).getCase(CASE_REF, JURISDICTION);
+        inOrder.verify(ccdApi).getUncachedCase(CASE_REF, JURISDICTION);
     }
 
     @Test
@@ -259,7 +293,7 @@ class CaseFinderTest {
             .willReturn(singletonList(Long.parseLong(CASE_REF)));
 
         CaseDetails expectedCase = CaseDetails.builder().build();
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willReturn(expectedCase);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(expectedCase);
 
         // when
         Optional<CaseDetails> result = caseFinder.findCase(
@@ -276,7 +310,7 @@ class CaseFinderTest {
         given(ccdApi.getCaseRefsByLegacyId(LEGACY_CASE_REF, SERVICE))
             .willReturn(singletonList(Long.parseLong(CASE_REF)));
 
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willThrow(
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willThrow(
             new CaseNotFoundException("Case not found")
         );
 
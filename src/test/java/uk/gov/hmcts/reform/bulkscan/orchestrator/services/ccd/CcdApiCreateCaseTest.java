@@ -6,12 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd.CcdSearchApi;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.config.ServiceConfigProvider;
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 
+import java.time.Duration;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +33,9 @@ class CcdApiCreateCaseTest {
     @Mock
     private CoreCaseDataApi feignCcdApi;
 
+    @Mock
+    private CcdSearchApi ccdSearchApi;
+
     @Mock
     private CcdAuthenticatorFactory authenticatorFactory;
 
@@ -44,7 +49,15 @@ class CcdApiCreateCaseTest {
 
     @BeforeEach
     void setUp() {
-        ccdApi = new CcdApi(feignCcdApi, authenticatorFactory, serviceConfigProvider);
+        ccdApi = new CcdApi(
+            feignCcdApi,
+            ccdSearchApi,
+            authenticatorFactory,
+            serviceConfigProvider,
+            new CcdCaseCache(false, Duration.ofSeconds(10), 100),
+            new CcdReadHedging(false, 0.95, Duration.ofMillis(50), 0.05, false),
+            new CcdConflictRetry(0, Duration.ZERO)
+        );
     }
 
     @Test
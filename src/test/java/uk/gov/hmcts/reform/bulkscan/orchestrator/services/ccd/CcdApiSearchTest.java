@@ -7,22 +7,28 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd.CaseReferenceSearchResult;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd.CaseReferenceSearchResult.CaseReference;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd.CcdSearchApi;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.config.ServiceConfigItem;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.config.ServiceConfigProvider;
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
-import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
-import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
 class CcdApiSearchTest {
 
     @Mock CoreCaseDataApi feignCcdApi;
+    @Mock CcdSearchApi ccdSearchApi;
     @Mock CcdAuthenticatorFactory authenticatorFactory;
     @Mock ServiceConfigProvider serviceConfigProvider;
 
@@ -37,7 +43,15 @@ class CcdApiSearchTest {
 
     @BeforeEach
     void setUp() {
-        ccdApi = new CcdApi(feignCcdApi, authenticatorFactory, serviceConfigProvider);
+        ccdApi = new CcdApi(
+            feignCcdApi,
+            ccdSearchApi,
+            authenticatorFactory,
+            serviceConfigProvider,
+            new CcdCaseCache(false, Duration.ofSeconds(10), 100),
+            new CcdReadHedging(false, 0.95, Duration.ofMillis(50), 0.05, false),
+            new CcdConflictRetry(0, Duration.ZERO)
+        );
     }
 
     @Test
@@ -58,20 +72,17 @@ class CcdApiSearchTest {
         given(ccdAuthenticator.getUserToken()).willReturn(idamToken);
 
         given(
-            feignCcdApi.searchCases(
+            ccdSearchApi.searchCaseReferences(
                 idamTokenCaptor.capture(),
                 s2sTokenCaptor.capture(),
                 caseTypeCaptor.capture(),
                 searchQueryCaptor.capture()
             )
         ).willReturn(
-            SearchResult
-                .builder()
-                .cases(asList(
-                    CaseDetails.builder().id(111L).build(),
-                    CaseDetails.builder().id(222L).build()
-                ))
-                .build()
+            new CaseReferenceSearchResult(
+                2,
+                asList(new CaseReference(111L), new CaseReference(222L))
+            )
         );
 
         // when
@@ -83,7 +94,100 @@ class CcdApiSearchTest {
         assertThat(idamTokenCaptor.getValue()).isEqualTo(idamToken);
         assertThat(s2sTokenCaptor.getValue()).isEqualTo(s2sToken);
         assertThat(caseTypeCaptor.getValue()).isEqualTo("case-type-a,case-type-b");
-        assertThat(searchQueryCaptor.getValue()).contains(envelopeId);
+        assertThat(searchQueryCaptor.getValue()).isEqualTo(
+            "{\"_source\":[\"reference\"],\"size\":10,"
+                + "\"query\":{\"match_phrase\":{\"data.bulkScanEnvelopes.value.id\":\"abc123\"}}}"
+        );
+    }
+
+    @Test
+    void getCaseRefsByBulkScanCaseReferenceOrEnvelopeId_should_prefer_cases_found_by_bulk_scan_case_reference() {
+        // given
+        givenServiceConfigAndAuthentication();
+
+        given(ccdSearchApi.searchCaseReferences(any(), any(), any(), searchQueryCaptor.capture()))
+            .willReturn(new CaseReferenceSearchResult(
+                2,
+                asList(
+                    new CaseReference(111L, Map.of()),
+                    new CaseReference(222L, Map.of("bulkScanCaseReference", "er-id"))
+                )
+            ));
+
+        // when
+        List<Long> caseRefs = ccdApi.getCaseRefsByBulkScanCaseReferenceOrEnvelopeId("er-id", "envelope-id", "hello");
+
+        // then
+        assertThat(caseRefs).containsExactly(222L);
+        assertThat(searchQueryCaptor.getValue()).isEqualTo(
+            "{\"_source\":[\"reference\",\"data.bulkScanCaseReference\"],\"size\":10,"
+                + "\"query\":{\"bool\":{\"should\":["
+                + "{\"match_phrase\":{\"data.bulkScanCaseReference\":\"er-id\"}},"
+                + "{\"match_phrase\":{\"data.bulkScanEnvelopes.value.id\":\"envelope-id\"}}"
+                + "],\"minimum_should_match\":1}}}"
+        );
+    }
+
+    @Test
+    void getCaseRefsByBulkScanCaseReferenceOrEnvelopeId_should_return_cases_found_by_envelope_id_only() {
+        // given
+        givenServiceConfigAndAuthentication();
+
+        given(ccdSearchApi.searchCaseReferences(any(), any(), any(), any()))
+            .willReturn(new CaseReferenceSearchResult(
+                1,
+                List.of(new CaseReference(111L, Map.of("bulkScanCaseReference", "other-er-id")))
+            ));
+
+        // when
+        List<Long> caseRefs = ccdApi.getCaseRefsByBulkScanCaseReferenceOrEnvelopeId("er-id", "envelope-id", "hello");
+
+        // then
+        assertThat(caseRefs).containsExactly(111L);
+    }
+
+    @Test
+    void getCaseRefsByEnvelopeIds_should_return_cases_found_by_each_envelope_id() {
+        // given
+        givenServiceConfigAndAuthentication();
+
+        given(ccdSearchApi.searchCaseReferences(any(), any(), any(), searchQueryCaptor.capture()))
+            .willReturn(new CaseReferenceSearchResult(
+                2,
+                asList(
+                    new CaseReference(111L, Map.of("bulkScanEnvelopes", List.of(
+                        Map.of("value", Map.of("id", "envelope-1", "action", "create")),
+                        Map.of("value", Map.of("id", "envelope-2", "action", "update")),
+                        Map.of("value", Map.of("id", "envelope-4", "action", "update"))
+                    ))),
+                    new CaseReference(222L, Map.of("bulkScanEnvelopes", List.of(
+                        Map.of("value", Map.of("id", "envelope-2", "action", "create"))
+                    )))
+                )
+            ));
+
+        // when
+        Map<String, List<Long>> caseRefs =
+            ccdApi.getCaseRefsByEnvelopeIds(List.of("envelope-1", "envelope-2", "envelope-3"), "hello");
+
+        // then
+        assertThat(caseRefs).containsOnly(
+            entry("envelope-1", List.of(111L)),
+            entry("envelope-2", List.of(111L, 222L))
+        );
+        assertThat(searchQueryCaptor.getValue()).isEqualTo(
+            "{\"_source\":[\"reference\",\"data.bulkScanEnvelopes\"],\"size\":30,"
+                + "\"query\":{\"terms\":{\"data.bulkScanEnvelopes.value.id.keyword\":"
+                + "[\"envelope-1\",\"envelope-2\",\"envelope-3\"]}}}"
+        );
+    }
+
+    private void givenServiceConfigAndAuthentication() {
+        var serviceCfg = serviceConfig("some-jurisdiction", List.of("case-type-a"));
+        given(serviceConfigProvider.getConfig("hello")).willReturn(serviceCfg);
+        given(authenticatorFactory.createForJurisdiction(serviceCfg.getJurisdiction())).willReturn(ccdAuthenticator);
+        given(ccdAuthenticator.getServiceToken()).willReturn("s2s-token");
+        given(ccdAuthenticator.getUserToken()).willReturn("idam-token");
     }
 
     private ServiceConfigItem serviceConfig(String jurisdiction, List<String> caseTypes) {
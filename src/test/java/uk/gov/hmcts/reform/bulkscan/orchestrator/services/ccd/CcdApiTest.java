@@ -7,9 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd.CcdSearchApi;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.client.model.request.DocumentType;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.client.model.request.DocumentUrl;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.client.model.request.ScannedDocument;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.CaseNotFoundException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.CcdCallException;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.internal.ExceptionRecord;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.config.ServiceConfigProvider;
@@ -18,6 +20,8 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 
+import java.time.Duration;
+
 import static java.time.LocalDateTime.now;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -43,6 +47,9 @@ class CcdApiTest {
     @Mock
     private CoreCaseDataApi feignCcdApi;
 
+    @Mock
+    private CcdSearchApi ccdSearchApi;
+
     @Mock
     private CcdAuthenticatorFactory authenticatorFactory;
 
@@ -56,7 +63,15 @@ class CcdApiTest {
 
     @BeforeEach
     void setUp() {
-        ccdApi = new CcdApi(feignCcdApi, authenticatorFactory, serviceConfigProvider);
+        ccdApi = new CcdApi(
+            feignCcdApi,
+            ccdSearchApi,
+            authenticatorFactory,
+            serviceConfigProvider,
+            new CcdCaseCache(false, Duration.ofSeconds(10), 100),
+            new CcdReadHedging(false, 0.95, Duration.ofMillis(50), 0.05, false),
+            new CcdConflictRetry(0, Duration.ZERO)
+        );
     }
 
     @Test
@@ -353,6 +368,78 @@ class CcdApiTest {
             );
     }
 
+    @Test
+    void submit_event_should_throw_case_not_found_when_ccd_responds_with_404() {
+        // given
+        given(authenticatorFactory.createForJurisdiction("jurisdiction1")).willReturn(sampleCcdAuthenticator());
+        var ccdException = mock(FeignException.NotFound.class);
+        given(ccdException.status()).willReturn(404);
+        given(feignCcdApi.submitEventForCaseWorker(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
+            .willThrow(ccdException);
+
+        // when
+        Throwable exc = catchThrowable(() -> ccdApi.submitEvent(
+            "jurisdiction1",
+            "caseTypeId1",
+            "123",
+            CaseDataContent.builder().build()
+        ));
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(CaseNotFoundException.class)
+            .hasMessage("Could not find case: 123")
+            .hasCause(ccdException);
+    }
+
+    @Test
+    void submit_event_should_rethrow_conflict() {
+        // given
+        given(authenticatorFactory.createForJurisdiction("jurisdiction1")).willReturn(sampleCcdAuthenticator());
+        var ccdException = mock(FeignException.Conflict.class);
+        given(ccdException.status()).willReturn(409);
+        given(feignCcdApi.submitEventForCaseWorker(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
+            .willThrow(ccdException);
+
+        // when
+        Throwable exc = catchThrowable(() -> ccdApi.submitEvent(
+            "jurisdiction1",
+            "caseTypeId1",
+            "123",
+            CaseDataContent.builder().build()
+        ));
+
+        // then
+        assertThat(exc).isSameAs(ccdException);
+    }
+
+    @Test
+    void start_event_should_remove_idam_credentials_from_cache_when_ccd_responds_with_403() {
+        // given
+        given(authenticatorFactory.createForJurisdiction("jurisdiction1")).willReturn(sampleCcdAuthenticator());
+        var ccdException = mock(FeignException.Forbidden.class);
+        given(ccdException.status()).willReturn(403);
+        given(feignCcdApi.startEventForCaseWorker(any(), any(), any(), any(), any(), any(), any()))
+            .willThrow(ccdException);
+
+        // when
+        Throwable exc = catchThrowable(() -> ccdApi.startEvent("jurisdiction1", "caseTypeId1", "123", "eventId1"));
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(CcdCallException.class)
+            .hasMessage("Internal Error: start event call failed case: 123 Error: 403");
+        verify(authenticatorFactory).removeFromCache("jurisdiction1");
+    }
+
+    private CcdAuthenticator sampleCcdAuthenticator() {
+        return new CcdAuthenticator(
+            () -> "serviceToken1",
+            "userId1",
+            "userToken1"
+        );
+    }
+
     private ExceptionRecord getExceptionRecord() {
         return new ExceptionRecord(
             EXCEPTION_RECORD_ID,
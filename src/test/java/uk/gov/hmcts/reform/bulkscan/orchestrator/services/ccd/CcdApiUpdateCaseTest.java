@@ -6,11 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.client.ccd.CcdSearchApi;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.config.ServiceConfigProvider;
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 
+import java.time.Duration;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,12 +23,14 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CcdApiUpdateCaseTest {
 
     @Mock CoreCaseDataApi feignCcdApi;
+    @Mock CcdSearchApi ccdSearchApi;
     @Mock CcdAuthenticatorFactory authenticatorFactory;
     @Mock ServiceConfigProvider serviceConfigProvider;
     @Mock Function<StartEventResponse, CaseDataContent> caseDataContentBuilder;
@@ -34,7 +39,15 @@ class CcdApiUpdateCaseTest {
 
     @BeforeEach
     void setUp() {
-        ccdApi = new CcdApi(feignCcdApi, authenticatorFactory, serviceConfigProvider);
+        ccdApi = new CcdApi(
+            feignCcdApi,
+            ccdSearchApi,
+            authenticatorFactory,
+            serviceConfigProvider,
+            new CcdCaseCache(false, Duration.ofSeconds(10), 100),
+            new CcdReadHedging(false, 0.95, Duration.ofMillis(50), 0.05, false),
+            new CcdConflictRetry(0, Duration.ZERO)
+        );
     }
 
     @Test
@@ -112,6 +125,33 @@ class CcdApiUpdateCaseTest {
         assertThat(exc).isSameAs(ccdException);
     }
 
+    @Test
+    void should_retrieve_case_again_after_it_has_been_updated() {
+        // given
+        ccdApi = new CcdApi(
+            feignCcdApi,
+            ccdSearchApi,
+            authenticatorFactory,
+            serviceConfigProvider,
+            new CcdCaseCache(true, Duration.ofMinutes(1), 100),
+            new CcdReadHedging(false, 0.95, Duration.ofMillis(50), 0.05, false),
+            new CcdConflictRetry(0, Duration.ZERO)
+        );
+
+        var ccdAuthenticator = sampleCcdAuthenticator();
+        given(authenticatorFactory.createForJurisdiction("jurisdiction")).willReturn(ccdAuthenticator);
+        given(feignCcdApi.getCase(any(), any(), any())).willReturn(CaseDetails.builder().id(123L).build());
+
+        // when
+        ccdApi.getCase("123", "jurisdiction");
+        ccdApi.getCase("123", "jurisdiction");
+        ccdApi.updateCase("jurisdiction", "caseTypeId", "eventId", "123", caseDataContentBuilder, "logContext1");
+        ccdApi.getCase("123", "jurisdiction");
+
+        // then
+        verify(feignCcdApi, times(2)).getCase("userToken1", "serviceToken1", "123");
+    }
+
     private CcdAuthenticator sampleCcdAuthenticator() {
         return new CcdAuthenticator(
             () -> "serviceToken1",
@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.CaseNotFoundException;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CcdAsyncApiTest {
+
+    private static final String JURISDICTION = "BULKSCAN";
+    private static final String CASE_TYPE_ID = "Bulk_Scanned";
+    private static final String CASE_ID = "1539007368674134";
+
+    @Mock
+    private CcdApi ccdApi;
+
+    private CcdAsyncApi ccdAsyncApi;
+
+    @BeforeEach
+    void setUp() {
+        ccdAsyncApi = new CcdAsyncApi(ccdApi, false, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ccdAsyncApi.shutdown();
+    }
+
+    @Test
+    void should_complete_with_case_retrieved_by_ccd_api() {
+        // given
+        CaseDetails caseDetails = CaseDetails.builder().id(Long.valueOf(CASE_ID)).build();
+        given(ccdApi.getCase(CASE_ID, JURISDICTION)).willReturn(caseDetails);
+
+        // when
+        CompletableFuture<CaseDetails> result = ccdAsyncApi.getCase(CASE_ID, JURISDICTION);
+
+        // then
+        assertThat(result.join()).isSameAs(caseDetails);
+    }
+
+    @Test
+    void should_complete_exceptionally_with_exception_thrown_by_ccd_api() {
+        // given
+        CaseNotFoundException exception = new CaseNotFoundException("Could not find case: " + CASE_ID, null);
+        given(ccdApi.getCase(CASE_ID, JURISDICTION)).willThrow(exception);
+
+        // when
+        CompletableFuture<CaseDetails> result = ccdAsyncApi.getCase(CASE_ID, JURISDICTION);
+
+        // then
+        assertThatThrownBy(result::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCause(exception);
+    }
+
+    @Test
+    void should_make_independent_searches_at_the_same_time() {
+        // given
+        // each search completes only once both have started
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        given(ccdApi.getCaseRefsByEnvelopeId("envelope-id", "bulkscan"))
+            .willAnswer(invocation -> awaitOther(bothStarted) ? List.of(1L) : List.of());
+        given(ccdApi.getExceptionRecordRefsByEnvelopeId("envelope-id", "bulkscan"))
+            .willAnswer(invocation -> awaitOther(bothStarted) ? List.of(2L) : List.of());
+
+        // when
+        CompletableFuture<List<Long>> caseRefs = ccdAsyncApi.getCaseRefsByEnvelopeId("envelope-id", "bulkscan");
+        CompletableFuture<List<Long>> exceptionRecordRefs =
+            ccdAsyncApi.getExceptionRecordRefsByEnvelopeId("envelope-id", "bulkscan");
+
+        // then
+        assertThat(caseRefs.thenCombine(exceptionRecordRefs, (cases, records) -> List.of(cases, records)).join())
+            .containsExactly(List.of(1L), List.of(2L));
+    }
+
+    @Test
+    void should_start_and_submit_event() {
+        // given
+        StartEventResponse startEventResponse = StartEventResponse.builder().token("token").build();
+        CaseDataContent caseDataContent = CaseDataContent.builder().build();
+        CaseDetails caseDetails = CaseDetails.builder().id(Long.valueOf(CASE_ID)).build();
+
+        given(ccdApi.startEvent(JURISDICTION, CASE_TYPE_ID, CASE_ID, "attachRecord"))
+            .willReturn(startEventResponse);
+        given(ccdApi.submitEvent(JURISDICTION, CASE_TYPE_ID, CASE_ID, caseDataContent))
+            .willReturn(caseDetails);
+
+        // when
+        CompletableFuture<CaseDetails> result = ccdAsyncApi
+            .startEvent(JURISDICTION, CASE_TYPE_ID, CASE_ID, "attachRecord")
+            .thenCompose(response -> ccdAsyncApi.submitEvent(
+                JURISDICTION,
+                CASE_TYPE_ID,
+                CASE_ID,
+                caseDataContent
+            ));
+
+        // then
+        assertThat(result.join()).isSameAs(caseDetails);
+    }
+
+    private static boolean awaitOther(CountDownLatch bothStarted) throws InterruptedException {
+        bothStarted.countDown();
+        return bothStarted.await(5, TimeUnit.SECONDS);
+    }
+}
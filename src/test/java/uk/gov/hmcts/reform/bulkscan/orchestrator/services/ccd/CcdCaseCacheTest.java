@@ -0,0 +1,151 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.CaseNotFoundException;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class CcdCaseCacheTest {
+
+    private static final String CASE_REF = "1539007368674134";
+    private static final String JURISDICTION = "BULKSCAN";
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void should_retrieve_case_once_until_invalidated() {
+        // given
+        CcdCaseCache cache = new CcdCaseCache(true, Duration.ofMinutes(1), 10);
+
+        // when
+        CaseDetails first = cache.get(CASE_REF, JURISDICTION, loader());
+        CaseDetails second = cache.get(CASE_REF, JURISDICTION.toLowerCase(), loader());
+        cache.invalidate(CASE_REF);
+        CaseDetails third = cache.get(CASE_REF, JURISDICTION, loader());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(loadCount).hasValue(2);
+
+        var statistics = cache.getStatistics();
+        assertThat(statistics.enabled).isTrue();
+        assertThat(statistics.hitCount).isEqualTo(1);
+        assertThat(statistics.missCount).isEqualTo(2);
+    }
+
+    @Test
+    void should_invalidate_only_given_case() {
+        // given
+        CcdCaseCache cache = new CcdCaseCache(true, Duration.ofMinutes(1), 10);
+
+        // when
+        cache.get(CASE_REF, JURISDICTION, loader());
+        cache.get("1111222233334444", JURISDICTION, loader());
+        cache.invalidate(CASE_REF);
+        cache.get("1111222233334444", JURISDICTION, loader());
+
+        // then
+        assertThat(loadCount).hasValue(2);
+        assertThat(cache.getStatistics().size).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_return_case_cached_for_another_jurisdiction() {
+        // given
+        CcdCaseCache cache = new CcdCaseCache(true, Duration.ofMinutes(1), 10);
+
+        // when
+        CaseDetails cached = cache.get(CASE_REF, JURISDICTION, loader());
+        CaseDetails other = cache.get(CASE_REF, "OTHER", loader());
+        CaseDetails cachedAgain = cache.get(CASE_REF, JURISDICTION, loader());
+
+        // then
+        assertThat(other).isNotSameAs(cached);
+        assertThat(cachedAgain).isSameAs(cached);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void should_not_keep_case_loaded_while_being_invalidated() throws Exception {
+        // given
+        CcdCaseCache cache = new CcdCaseCache(true, Duration.ofMinutes(1), 10);
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+
+        CompletableFuture<CaseDetails> load = CompletableFuture.supplyAsync(
+            () -> cache.get(CASE_REF, JURISDICTION, () -> {
+                loadStarted.countDown();
+                awaitUninterruptibly(loadReleased);
+                return loader().get();
+            })
+        );
+        loadStarted.await();
+
+        // when
+        CompletableFuture<Void> invalidation = CompletableFuture.runAsync(() -> cache.invalidate(CASE_REF));
+        Thread.sleep(100);
+        loadReleased.countDown();
+        load.get(5, TimeUnit.SECONDS);
+        invalidation.get(5, TimeUnit.SECONDS);
+
+        cache.get(CASE_REF, JURISDICTION, loader());
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void should_not_cache_failures() {
+        // given
+        CcdCaseCache cache = new CcdCaseCache(true, Duration.ofMinutes(1), 10);
+
+        // when
+        Throwable exception = catchThrowable(() -> cache.get(CASE_REF, JURISDICTION, () -> {
+            throw new CaseNotFoundException("Could not find case: " + CASE_REF);
+        }));
+        cache.get(CASE_REF, JURISDICTION, loader());
+
+        // then
+        assertThat(exception).isInstanceOf(CaseNotFoundException.class);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void should_always_retrieve_case_when_disabled() {
+        // given
+        CcdCaseCache cache = new CcdCaseCache(false, Duration.ofMinutes(1), 10);
+
+        // when
+        cache.get(CASE_REF, JURISDICTION, loader());
+        cache.get(CASE_REF, JURISDICTION, loader());
+
+        // then
+        assertThat(loadCount).hasValue(2);
+        assertThat(cache.getStatistics().enabled).isFalse();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Supplier<CaseDetails> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            return CaseDetails.builder().id(Long.valueOf(CASE_REF)).jurisdiction(JURISDICTION).build();
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.CcdCallException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class CcdConflictRetryTest {
+
+    private final CcdConflictRetry conflictRetry = new CcdConflictRetry(2, Duration.ofMillis(1));
+
+    @Test
+    void should_repeat_update_when_ccd_reports_conflict() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = conflictRetry.call("context", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw conflict();
+            }
+            return "updated";
+        });
+
+        // then
+        assertThat(result).isEqualTo("updated");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void should_repeat_update_when_conflict_is_wrapped() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        conflictRetry.run("context", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new CcdCallException("update failed", conflict());
+            }
+        });
+
+        // then
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void should_rethrow_conflict_when_retries_are_used_up() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        FeignException.Conflict conflict = conflict();
+
+        // when
+        // then
+        assertThatThrownBy(() -> conflictRetry.run("context", () -> {
+            attempts.incrementAndGet();
+            throw conflict;
+        })).isSameAs(conflict);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void should_not_repeat_update_when_it_fails_for_other_reason() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        // then
+        assertThatThrownBy(() -> conflictRetry.run("context", () -> {
+            attempts.incrementAndGet();
+            throw new CcdCallException("update failed", new IllegalStateException("test"));
+        })).isInstanceOf(CcdCallException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void should_not_repeat_update_when_retries_are_disabled() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        // then
+        assertThatThrownBy(() -> new CcdConflictRetry(0, Duration.ZERO).run("context", () -> {
+            attempts.incrementAndGet();
+            throw conflict();
+        })).isInstanceOf(FeignException.Conflict.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    private static FeignException.Conflict conflict() {
+        return new FeignException.Conflict("Msg", mock(Request.class), "Body".getBytes(), null);
+    }
+}
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CcdReadHedgingTest {
+
+    private final CountDownLatch slowCallRelease = new CountDownLatch(1);
+
+    private CcdReadHedging hedging;
+
+    @AfterEach
+    void tearDown() {
+        slowCallRelease.countDown();
+        if (hedging != null) {
+            hedging.shutdown();
+        }
+    }
+
+    @Test
+    void should_make_call_on_calling_thread_when_hedging_is_disabled() {
+        // given
+        hedging = new CcdReadHedging(false, 0.95, Duration.ofMillis(10), 1, false);
+        Thread callingThread = Thread.currentThread();
+
+        // when
+        Thread result = hedging.execute("getCase", Thread::currentThread);
+
+        // then
+        assertThat(result).isSameAs(callingThread);
+    }
+
+    @Test
+    void should_not_hedge_until_enough_latencies_are_recorded() {
+        // given
+        hedging = new CcdReadHedging(true, 0.95, Duration.ofMillis(10), 1, false);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedging.execute("getCase", () -> {
+            calls.incrementAndGet();
+            sleep(50);
+            return "primary";
+        });
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void should_use_hedged_call_result_when_first_call_is_slow() {
+        // given
+        hedging = new CcdReadHedging(true, 0.95, Duration.ofMillis(10), 1, false);
+        warmUp("getCase");
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedging.execute("getCase", slowFirstCall(calls));
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void should_not_hedge_when_budget_is_used_up() {
+        // given
+        hedging = new CcdReadHedging(true, 0.95, Duration.ofMillis(10), 0, false);
+        warmUp("getCase");
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedging.execute("getCase", () -> {
+            calls.incrementAndGet();
+            sleep(50);
+            return "primary";
+        });
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void should_rethrow_exception_thrown_by_call() {
+        // given
+        hedging = new CcdReadHedging(true, 0.95, Duration.ofMillis(10), 1, false);
+        IllegalStateException failure = new IllegalStateException("test");
+
+        // when
+        // then
+        assertThatThrownBy(() -> hedging.execute("searchCases", () -> {
+            throw failure;
+        })).isSameAs(failure);
+    }
+
+    private void warmUp(String operation) {
+        for (int i = 0; i < 100; i++) {
+            hedging.execute(operation, () -> "fast");
+        }
+    }
+
+    private Supplier<String> slowFirstCall(AtomicInteger calls) {
+        return () -> {
+            if (calls.incrementAndGet() == 1) {
+                await(slowCallRelease);
+                return "primary";
+            } else {
+                return "hedge";
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
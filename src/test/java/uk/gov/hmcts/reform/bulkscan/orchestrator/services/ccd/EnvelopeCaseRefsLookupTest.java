@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EnvelopeCaseRefsLookupTest {
+
+    private static final String SERVICE = "bulkscan";
+
+    @Mock
+    private CcdApi ccdApi;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_search_by_single_envelope_id_when_batching_is_disabled() {
+        // given
+        var lookup = new EnvelopeCaseRefsLookup(ccdApi, false, Duration.ofSeconds(10), 2);
+        given(ccdApi.getCaseRefsByEnvelopeId("envelope-1", SERVICE)).willReturn(List.of(1L));
+
+        // when
+        List<Long> caseRefs = lookup.getCaseRefsByEnvelopeId("envelope-1", SERVICE);
+
+        // then
+        assertThat(caseRefs).containsExactly(1L);
+        verify(ccdApi, never()).getCaseRefsByEnvelopeIds(any(), any());
+    }
+
+    @Test
+    void should_search_by_single_envelope_id_when_no_other_lookups_come_within_gather_window() {
+        // given
+        var lookup = new EnvelopeCaseRefsLookup(ccdApi, true, Duration.ofMillis(5), 2);
+        given(ccdApi.getCaseRefsByEnvelopeId("envelope-1", SERVICE)).willReturn(List.of(1L));
+
+        // when
+        List<Long> caseRefs = lookup.getCaseRefsByEnvelopeId("envelope-1", SERVICE);
+
+        // then
+        assertThat(caseRefs).containsExactly(1L);
+        verify(ccdApi, never()).getCaseRefsByEnvelopeIds(any(), any());
+    }
+
+    @Test
+    void should_search_by_all_envelope_ids_in_batch_at_once() throws Exception {
+        // given
+        // batch is sent as soon as it's full, long before the gather window is over
+        var lookup = new EnvelopeCaseRefsLookup(ccdApi, true, Duration.ofMinutes(1), 2);
+        given(ccdApi.getCaseRefsByEnvelopeIds(Set.of("envelope-1", "envelope-2"), SERVICE))
+            .willReturn(Map.of("envelope-1", List.of(1L, 2L)));
+
+        // when
+        Future<List<Long>> caseRefs1 = executor.submit(() -> lookup.getCaseRefsByEnvelopeId("envelope-1", SERVICE));
+        Future<List<Long>> caseRefs2 = executor.submit(() -> lookup.getCaseRefsByEnvelopeId("envelope-2", SERVICE));
+
+        // then
+        assertThat(caseRefs1.get()).containsExactly(1L, 2L);
+        assertThat(caseRefs2.get()).isEmpty();
+        verify(ccdApi, never()).getCaseRefsByEnvelopeId(anyString(), anyString());
+    }
+
+    @Test
+    void should_rethrow_search_failure_to_all_lookups_in_batch() throws Exception {
+        // given
+        var lookup = new EnvelopeCaseRefsLookup(ccdApi, true, Duration.ofMinutes(1), 2);
+        var failure = new IllegalStateException("test");
+        given(ccdApi.getCaseRefsByEnvelopeIds(any(), any())).willThrow(failure);
+
+        // when
+        Future<List<Long>> caseRefs = executor.submit(() -> lookup.getCaseRefsByEnvelopeId("envelope-1", SERVICE));
+
+        // then
+        assertThatThrownBy(() -> lookup.getCaseRefsByEnvelopeId("envelope-2", SERVICE)).isSameAs(failure);
+        assertThatThrownBy(caseRefs::get).hasCause(failure);
+    }
+}
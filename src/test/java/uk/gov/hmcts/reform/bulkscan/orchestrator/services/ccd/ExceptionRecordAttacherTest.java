@@ -34,7 +34,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
@@ -129,7 +128,8 @@ class ExceptionRecordAttacherTest {
     @Test
     void should_attach_exception_record_to_case() {
         // given
-        given(ccdApi.getCase(anyString(), anyString())).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getCase(EXISTING_CASE_ID, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
         AttachToCaseEventData callBackEvent = getCallbackEvent(SUPPLEMENTARY_EVIDENCE_WITH_OCR);
         given(supplementaryEvidenceWithOcrUpdater.updateSupplementaryEvidenceWithOcr(
             callBackEvent, EXISTING_CASE_DETAILS, EXISTING_CASE_ID, true
@@ -165,7 +165,8 @@ class ExceptionRecordAttacherTest {
     @Test
     void should_not_attach_supplementary_evidence_if_case_does_not_exist() {
         // given
-        given(ccdApi.getCase(anyString(), anyString())).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getCase(EXISTING_CASE_ID, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
         AttachToCaseEventData callBackEvent = getCallbackEvent(SUPPLEMENTARY_EVIDENCE);
         doThrow(new CaseNotFoundException("msg"))
             .when(supplementaryEvidenceUpdater).updateSupplementaryEvidence(
@@ -191,7 +192,8 @@ class ExceptionRecordAttacherTest {
     @Test
     void should_not_attach_supplementary_evidence_if_exception_thrown() {
         // given
-        given(ccdApi.getCase(anyString(), anyString())).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getCase(EXISTING_CASE_ID, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
         AttachToCaseEventData callBackEvent = getCallbackEvent(SUPPLEMENTARY_EVIDENCE);
         doThrow(new IllegalArgumentException("msg"))
             .when(supplementaryEvidenceUpdater).updateSupplementaryEvidence(
@@ -215,7 +217,8 @@ class ExceptionRecordAttacherTest {
     @Test
     void should_not_store_call_back_result_when_not_attach_supplementary_evidence() {
         // given
-        given(ccdApi.getCase(anyString(), anyString())).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getCase(EXISTING_CASE_ID, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
         AttachToCaseEventData callBackEvent = getCallbackEvent(SUPPLEMENTARY_EVIDENCE);
 
         given(supplementaryEvidenceUpdater
@@ -237,7 +240,8 @@ class ExceptionRecordAttacherTest {
     @Test
     void should_store_call_back_result_when_attach_supplementary_evidence() {
         // given
-        given(ccdApi.getCase(anyString(), anyString())).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getCase(EXISTING_CASE_ID, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
         AttachToCaseEventData callBackEvent = getCallbackEvent(SUPPLEMENTARY_EVIDENCE);
 
         given(supplementaryEvidenceUpdater
@@ -265,7 +269,8 @@ class ExceptionRecordAttacherTest {
     @Test
     void should_attach_supplementary_evidence_if_payments_publishing_fails() {
         // given
-        given(ccdApi.getCase(anyString(), anyString())).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getCase(EXISTING_CASE_ID, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
         AttachToCaseEventData callBackEvent = getCallbackEvent(SUPPLEMENTARY_EVIDENCE_WITH_OCR);
         Throwable cause = new Exception("cause");
         doThrow(new PaymentsPublishingException("msg", cause))
@@ -306,7 +311,7 @@ class ExceptionRecordAttacherTest {
                 .id(Long.parseLong(EXISTING_CASE_ID))
                 .data(Map.of(ATTACH_TO_CASE_REFERENCE, "caseRef"))
                 .build();
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willReturn(caseDetails);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(caseDetails);
         AttachToCaseEventData callBackEvent = getCallbackEvent(SUPPLEMENTARY_EVIDENCE_WITH_OCR);
 
         // when
@@ -325,7 +330,7 @@ class ExceptionRecordAttacherTest {
     @Test
     void should_return_error_if_wrong_classification() {
         // given
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
         AttachToCaseEventData callBackEvent = getCallbackEvent(NEW_APPLICATION);
 
         // when
@@ -344,7 +349,8 @@ class ExceptionRecordAttacherTest {
     @Test
     void should_store_call_back_result_when_legacy_id() {
         // given
-        given(ccdApi.getCase(anyString(), anyString())).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getCase(EXISTING_CASE_ID, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
         AttachToCaseEventData callBackEvent = getCallbackEvent(
                 SUPPLEMENTARY_EVIDENCE,
                 EXTERNAL_CASE_REFERENCE,
@@ -379,7 +385,7 @@ class ExceptionRecordAttacherTest {
     @Test
     void should_return_error_when_legacy_id_and_case_not_found() {
         // given
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
         AttachToCaseEventData callBackEvent = getCallbackEvent(
                 SUPPLEMENTARY_EVIDENCE,
                 EXTERNAL_CASE_REFERENCE,
@@ -403,7 +409,7 @@ class ExceptionRecordAttacherTest {
     @Test
     void should_return_error_when_legacy_id_and_multiple_cases_found() {
         // given
-        given(ccdApi.getCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
+        given(ccdApi.getUncachedCase(CASE_REF, JURISDICTION)).willReturn(EXISTING_CASE_DETAILS);
         AttachToCaseEventData callBackEvent = getCallbackEvent(
                 SUPPLEMENTARY_EVIDENCE,
                 EXTERNAL_CASE_REFERENCE,
@@ -16,6 +16,7 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.callback.AttachSca
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -70,7 +71,8 @@ class SupplementaryEvidenceUpdaterTest {
         supplementaryEvidenceUpdater = new SupplementaryEvidenceUpdater(
             ccdApi,
             scannedDocumentsValidator,
-            cdamApiClient
+            cdamApiClient,
+            new CcdConflictRetry(0, Duration.ZERO)
         );
 
         exceptionRecord = getExceptionRecord();
@@ -94,7 +96,7 @@ class SupplementaryEvidenceUpdaterTest {
         List<Map<String, Object>> exceptionRecordDocuments = singletonList(doc1);
 
         String hashToken1 = "321hhjRETE31321dsds";
-        given(cdamApiClient.getDocumentHash(JURISDICTION, "uuid1")).willReturn(hashToken1);
+        given(cdamApiClient.getDocumentHashes(JURISDICTION, List.of("uuid1"))).willReturn(Map.of("uuid1", hashToken1));
 
         AttachToCaseEventData callBackEvent = getCallbackEvent(exceptionRecordDocuments);
 
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.autocaseupdate;
 
+import feign.FeignException;
+import feign.Request;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,19 +13,25 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.CaseAction;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.caseupdatedetails.CaseUpdateDetailsService;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CaseFinder;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdApi;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdConflictRetry;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.EventIds;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.client.SampleData.sampleCaseDetails;
@@ -45,7 +53,14 @@ class AutoCaseUpdaterTest {
 
     @BeforeEach
     void setUp() {
-        this.service = new AutoCaseUpdater(caseUpdateDataService, caseFinder, ccdApi, caseDataBuilder, caseDataUpdater);
+        this.service = new AutoCaseUpdater(
+            caseUpdateDataService,
+            caseFinder,
+            ccdApi,
+            caseDataBuilder,
+            caseDataUpdater,
+            new CcdConflictRetry(1, Duration.ZERO)
+        );
     }
 
     @Test
@@ -128,4 +143,34 @@ class AutoCaseUpdaterTest {
                 anyString()
             );
     }
+
+    @Test
+    void should_find_and_update_case_again_when_ccd_reports_conflict() {
+        // given
+        CaseDetails existingCaseDetails = sampleCaseDetails();
+        Envelope envelope = sampleEnvelope();
+        SuccessfulUpdateResponse updateDataResponse = sampleUpdateDataResponse();
+
+        given(caseFinder.findCase(envelope)).willReturn(Optional.of(existingCaseDetails));
+        given(caseUpdateDataService.getCaseUpdateData(envelope.container, existingCaseDetails, envelope))
+            .willReturn(updateDataResponse);
+        given(caseDataUpdater.updateEnvelopeReferences(any(), any(), any(), any()))
+            .willReturn(updateDataResponse.caseDetails.caseData);
+        given(caseDataUpdater.setDocumentHash(any(), any())).willReturn(updateDataResponse.caseDetails.caseData);
+        given(caseDataBuilder.getBuilder(any(), any())).willReturn(caseDataContentBuilder);
+
+        willThrow(new FeignException.Conflict("Msg", mock(Request.class), "Body".getBytes(), null))
+            .willDoNothing()
+            .given(ccdApi)
+            .updateCase(any(), any(), any(), any(), any(), any());
+
+        // when
+        var result = service.updateCase(envelope);
+
+        // then
+        assertThat(result.type).isEqualTo(AutoCaseUpdateResultType.OK);
+        // case is read again, so that its latest version is updated
+        verify(caseFinder, times(2)).findCase(envelope);
+        verify(caseUpdateDataService, times(2)).getCaseUpdateData(envelope.container, existingCaseDetails, envelope);
+    }
 }
@@ -16,10 +16,14 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.client.transformation.EnvelopeT
 import uk.gov.hmcts.reform.bulkscan.orchestrator.client.transformation.model.response.CaseCreationDetails;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.client.transformation.model.response.SuccessfulTransformationResponse;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.config.ServiceConfigItem;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerEntry;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.CaseAction;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.CcdCollectionElement;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.EnvelopeReference;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.EnvelopeLedger;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdApi;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdAsyncApi;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.EnvelopeCaseRefsLookup;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.config.ServiceConfigProvider;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
@@ -28,9 +32,12 @@ import uk.gov.hmcts.reform.ccd.client.model.Event;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 import static io.vavr.control.Either.left;
@@ -46,9 +53,11 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData.envelope;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.CASE_CREATED;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.casecreation.CaseCreationResult.abortedWithoutFailure;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.casecreation.CaseCreationResult.caseAlreadyExists;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.casecreation.CaseCreationResult.caseCreated;
@@ -68,6 +77,8 @@ class AutoCaseCreatorTest {
     private ServiceConfigItem serviceConfigItem;
     @Mock
     private CdamApiClient cdamApiClient;
+    @Mock
+    private EnvelopeLedger envelopeLedger;
 
     private AutoCaseCreator autoCaseCreator;
 
@@ -76,7 +87,16 @@ class AutoCaseCreatorTest {
         given(serviceConfigItem.getAutoCaseCreationEnabled()).willReturn(true);
         given(serviceConfigProvider.getConfig(any())).willReturn(serviceConfigItem);
 
-        autoCaseCreator = new AutoCaseCreator(envelopeTransformer, ccdApi, serviceConfigProvider, cdamApiClient);
+        autoCaseCreator = new AutoCaseCreator(
+            envelopeTransformer,
+            ccdApi,
+            serviceConfigProvider,
+            cdamApiClient,
+            envelopeLedger,
+            new EnvelopeCaseRefsLookup(ccdApi, false, Duration.ofMillis(5), 50),
+            new CcdAsyncApi(ccdApi, false, 10),
+            false
+        );
     }
 
     @Test
@@ -99,6 +119,21 @@ class AutoCaseCreatorTest {
         );
     }
 
+    @Test
+    void should_not_search_for_case_when_case_creation_is_recorded_in_ledger() {
+        // given
+        var envelope = envelope(1);
+        given(envelopeLedger.findCompletedStep(envelope.id, CASE_CREATED))
+            .willReturn(Optional.of(new EnvelopeLedgerEntry(envelope.id, CASE_CREATED, 1234L, Instant.now())));
+
+        // when
+        var result = autoCaseCreator.createCase(envelope);
+
+        // then
+        assertThat(result).usingRecursiveComparison().isEqualTo(caseAlreadyExists(1234L));
+        verifyNoInteractions(envelopeTransformer, ccdApi);
+    }
+
     @Test
     void should_not_create_case_when_multiple_cases_reference_the_envelope() {
         verifyCaseIsNotCreatedWhenCasesAlreadyExist(
@@ -115,7 +150,7 @@ class AutoCaseCreatorTest {
 
         var transformationResponse = sampleSuccessfulTransformationResponse();
         given(envelopeTransformer.transformEnvelope(any())).willReturn(right(transformationResponse));
-        given(cdamApiClient.getDocumentHash("BULKSCAN", "uuid1")).willReturn("hash");
+        given(cdamApiClient.getDocumentHashes("BULKSCAN", List.of("uuid1"))).willReturn(Map.of("uuid1", "hash"));
 
         Envelope envelope = envelope(1);
 
@@ -155,7 +190,7 @@ class AutoCaseCreatorTest {
         // given
         var transformationResponse = sampleSuccessfulTransformationResponse();
         given(envelopeTransformer.transformEnvelope(any())).willReturn(right(transformationResponse));
-        given(cdamApiClient.getDocumentHash("BULKSCAN", "uuid1")).willReturn("hash");
+        given(cdamApiClient.getDocumentHashes("BULKSCAN", List.of("uuid1"))).willReturn(Map.of("uuid1", "hash"));
 
         Envelope envelope = envelope(1);
 
@@ -206,6 +241,102 @@ class AutoCaseCreatorTest {
         );
     }
 
+    @Test
+    void should_create_case_with_event_started_during_transformation_of_envelope() {
+        // given
+        autoCaseCreator = autoCaseCreatorWithEarlyStartEvent();
+
+        given(envelopeTransformer.transformEnvelope(any()))
+            .willReturn(right(sampleSuccessfulTransformationResponse()));
+        given(cdamApiClient.getDocumentHashes("BULKSCAN", List.of("uuid1"))).willReturn(Map.of("uuid1", "hash"));
+        given(ccdApi.startCaseCreation("BULKSCAN", "caseTypeId1", "eventId1")).willReturn(sampleStartEventResponse());
+        given(ccdApi.submitCaseCreation(eq("BULKSCAN"), eq("caseTypeId1"), any()))
+            .willReturn(CaseDetails.builder().id(1234L).build(), CaseDetails.builder().id(5678L).build());
+
+        // when
+        var firstResult = autoCaseCreator.createCase(envelope(1));
+        var secondResult = autoCaseCreator.createCase(envelope(1));
+
+        // then
+        assertThat(firstResult).usingRecursiveComparison().isEqualTo(caseCreated(1234L));
+        assertThat(secondResult).usingRecursiveComparison().isEqualTo(caseCreated(5678L));
+
+        // second event was started before transformation, with the case type of the first case
+        verify(ccdApi, times(2)).startCaseCreation("BULKSCAN", "caseTypeId1", "eventId1");
+
+        ArgumentCaptor<CaseDataContent> caseDataContentCaptor = ArgumentCaptor.forClass(CaseDataContent.class);
+        verify(ccdApi, times(2)).submitCaseCreation(eq("BULKSCAN"), eq("caseTypeId1"), caseDataContentCaptor.capture());
+        assertThat(caseDataContentCaptor.getAllValues())
+            .extracting(CaseDataContent::getEventToken)
+            .containsOnly("startEventResponseEventToken1");
+        verify(ccdApi, never()).createCase(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void should_not_use_event_started_early_when_transformation_returns_different_case_type() {
+        // given
+        autoCaseCreator = autoCaseCreatorWithEarlyStartEvent();
+
+        var otherCaseCreationDetails = new CaseCreationDetails(
+            "caseTypeId2",
+            "eventId1",
+            sampleSuccessfulTransformationResponse().caseCreationDetails.caseData
+        );
+        given(envelopeTransformer.transformEnvelope(any())).willReturn(
+            right(sampleSuccessfulTransformationResponse()),
+            right(new SuccessfulTransformationResponse(otherCaseCreationDetails, emptyList(), null))
+        );
+        given(cdamApiClient.getDocumentHashes("BULKSCAN", List.of("uuid1"))).willReturn(Map.of("uuid1", "hash"));
+        given(ccdApi.startCaseCreation("BULKSCAN", "caseTypeId1", "eventId1")).willReturn(sampleStartEventResponse());
+        given(ccdApi.startCaseCreation("BULKSCAN", "caseTypeId2", "eventId1")).willReturn(
+            StartEventResponse.builder().eventId("eventId1").token("caseTypeId2Token").build()
+        );
+        given(ccdApi.submitCaseCreation(any(), any(), any())).willReturn(CaseDetails.builder().id(1234L).build());
+
+        // when
+        autoCaseCreator.createCase(envelope(1));
+        var result = autoCaseCreator.createCase(envelope(1));
+
+        // then
+        assertThat(result).usingRecursiveComparison().isEqualTo(caseCreated(1234L));
+
+        ArgumentCaptor<CaseDataContent> caseDataContentCaptor = ArgumentCaptor.forClass(CaseDataContent.class);
+        verify(ccdApi).submitCaseCreation(eq("BULKSCAN"), eq("caseTypeId2"), caseDataContentCaptor.capture());
+        assertThat(caseDataContentCaptor.getValue().getEventToken()).isEqualTo("caseTypeId2Token");
+    }
+
+    @Test
+    void should_return_failure_when_event_started_early_fails() {
+        // given
+        autoCaseCreator = autoCaseCreatorWithEarlyStartEvent();
+
+        given(envelopeTransformer.transformEnvelope(any()))
+            .willReturn(right(sampleSuccessfulTransformationResponse()));
+        given(cdamApiClient.getDocumentHashes("BULKSCAN", List.of("uuid1"))).willReturn(Map.of("uuid1", "hash"));
+        given(ccdApi.startCaseCreation("BULKSCAN", "caseTypeId1", "eventId1"))
+            .willThrow(ccdErrorResponseException(HttpStatus.BAD_REQUEST));
+
+        // when
+        var result = autoCaseCreator.createCase(envelope(1));
+
+        // then
+        assertThat(result).usingRecursiveComparison().isEqualTo(unrecoverableFailure());
+        verify(ccdApi, never()).submitCaseCreation(any(), any(), any());
+    }
+
+    private AutoCaseCreator autoCaseCreatorWithEarlyStartEvent() {
+        return new AutoCaseCreator(
+            envelopeTransformer,
+            ccdApi,
+            serviceConfigProvider,
+            cdamApiClient,
+            envelopeLedger,
+            new EnvelopeCaseRefsLookup(ccdApi, false, Duration.ofMillis(5), 50),
+            new CcdAsyncApi(ccdApi, false, 10),
+            true
+        );
+    }
+
     private void verifyCaseIsNotCreatedWhenCasesAlreadyExist(
         List<Long> existingCaseIds,
         CaseCreationResult expectedResult
@@ -253,7 +384,7 @@ class AutoCaseCreatorTest {
 
         given(envelopeTransformer.transformEnvelope(any()))
             .willReturn(right(sampleSuccessfulTransformationResponse()));
-        given(cdamApiClient.getDocumentHash("BULKSCAN", "uuid1")).willReturn("hash");
+        given(cdamApiClient.getDocumentHashes("BULKSCAN", List.of("uuid1"))).willReturn(Map.of("uuid1", "hash"));
 
         // when
         var result = autoCaseCreator.createCase(envelope(1));
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeLedgerEntry;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.ExceptionRecord;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.model.ccd.mappers.ExceptionRecordMapper;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.EnvelopeLedger;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdApi;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.CcdAuthenticator;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
@@ -15,6 +17,8 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -29,6 +33,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData.envelope;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.data.envelopeledger.EnvelopeProcessingStep.EXCEPTION_RECORD_CREATED;
 
 @ExtendWith(MockitoExtension.class)
 class ExceptionRecordCreatorTest {
@@ -39,6 +44,9 @@ class ExceptionRecordCreatorTest {
     @Mock
     private ExceptionRecordMapper exceptionRecordMapper;
 
+    @Mock
+    private EnvelopeLedger envelopeLedger;
+
     private static final Long CASE_DETAILS_ID = 234L;
 
     private static final String EVENT_TOKEN = UUID.randomUUID().toString();
@@ -49,7 +57,8 @@ class ExceptionRecordCreatorTest {
     void setUp() {
         exceptionRecordCreator = new CreateExceptionRecord(
             exceptionRecordMapper,
-            ccdApi
+            ccdApi,
+            envelopeLedger
         );
     }
 
@@ -102,6 +111,23 @@ class ExceptionRecordCreatorTest {
         verifyNoMoreInteractions(exceptionRecordMapper);
     }
 
+    @Test
+    void should_not_search_for_exception_record_when_its_creation_is_recorded_in_ledger() {
+        // given
+        Envelope envelope = envelope(1);
+        given(envelopeLedger.findCompletedStep(envelope.id, EXCEPTION_RECORD_CREATED))
+            .willReturn(Optional.of(
+                new EnvelopeLedgerEntry(envelope.id, EXCEPTION_RECORD_CREATED, CASE_DETAILS_ID, Instant.now())
+            ));
+
+        // when
+        Long ccdRef = exceptionRecordCreator.tryCreateFrom(envelope);
+
+        // then
+        assertThat(ccdRef).isEqualTo(CASE_DETAILS_ID);
+        verifyNoMoreInteractions(ccdApi, exceptionRecordMapper);
+    }
+
     @SuppressWarnings("unchecked")
     private void assertExceptionRecordCreated(
         ExceptionRecord expectedExceptionRecord,
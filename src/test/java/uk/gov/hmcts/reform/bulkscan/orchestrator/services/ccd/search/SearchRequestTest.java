@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchQuery.anyOf;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchQuery.matchPhrase;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchQuery.terms;
+
+class SearchRequestTest {
+
+    @Test
+    void should_write_match_phrase_query() {
+        // when
+        String json = SearchRequest.of(matchPhrase("data.envelopeId", "abc")).toJson();
+
+        // then
+        assertThat(json).isEqualTo("{\"query\":{\"match_phrase\":{\"data.envelopeId\":\"abc\"}}}");
+    }
+
+    @Test
+    void should_write_source_fields_and_size() {
+        // when
+        String json = SearchRequest
+            .of(matchPhrase("data.envelopeId", "abc"))
+            .withSource("reference", "id")
+            .withSize(5)
+            .toJson();
+
+        // then
+        assertThat(json).isEqualTo(
+            "{\"_source\":[\"reference\",\"id\"],\"size\":5,"
+                + "\"query\":{\"match_phrase\":{\"data.envelopeId\":\"abc\"}}}"
+        );
+    }
+
+    @Test
+    void should_write_terms_query() {
+        // when
+        String json = SearchRequest.of(terms("data.envelopeId", List.of("a", "b"))).toJson();
+
+        // then
+        assertThat(json).isEqualTo("{\"query\":{\"terms\":{\"data.envelopeId\":[\"a\",\"b\"]}}}");
+    }
+
+    @Test
+    void should_write_bool_query_with_should_clauses() {
+        // when
+        String json = SearchRequest
+            .of(anyOf(List.of(
+                matchPhrase("data.bulkScanCaseReference", "123"),
+                terms("data.bulkScanEnvelopes.value.id", List.of("abc"))
+            )))
+            .toJson();
+
+        // then
+        assertThat(json).isEqualTo(
+            "{\"query\":{\"bool\":{\"should\":["
+                + "{\"match_phrase\":{\"data.bulkScanCaseReference\":\"123\"}},"
+                + "{\"terms\":{\"data.bulkScanEnvelopes.value.id\":[\"abc\"]}}"
+                + "],\"minimum_should_match\":1}}}"
+        );
+    }
+
+    @Test
+    void should_escape_values() {
+        // when
+        String json = SearchRequest.of(terms("data.envelopeId", List.of("a\"}, {\"b\\"))).toJson();
+
+        // then
+        assertThat(json).isEqualTo("{\"query\":{\"terms\":{\"data.envelopeId\":[\"a\\\"}, {\\\"b\\\\\"]}}}");
+    }
+}
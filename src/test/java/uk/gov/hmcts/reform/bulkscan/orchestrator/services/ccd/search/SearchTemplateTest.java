@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchQuery.anyOf;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchQuery.matchPhrase;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.search.SearchTemplate.PARAMETER;
+
+class SearchTemplateTest {
+
+    private static final SearchTemplate TEMPLATE = SearchRequest
+        .of(matchPhrase("data.envelopeId", PARAMETER))
+        .withSource("reference")
+        .withSize(10)
+        .compile();
+
+    @Test
+    void should_render_same_request_as_written_directly() {
+        // when
+        String json = TEMPLATE.render("abc");
+
+        // then
+        assertThat(json).isEqualTo(
+            SearchRequest.of(matchPhrase("data.envelopeId", "abc")).withSource("reference").withSize(10).toJson()
+        );
+    }
+
+    @Test
+    void should_escape_parameter_value() {
+        // when
+        String json = TEMPLATE.render("x\" }}, \"size\": 10000, \"y\": {\"z\\");
+
+        // then
+        assertThat(json).isEqualTo(
+            SearchRequest
+                .of(matchPhrase("data.envelopeId", "x\" }}, \"size\": 10000, \"y\": {\"z\\"))
+                .withSource("reference")
+                .withSize(10)
+                .toJson()
+        );
+        assertThat(json).contains("\"x\\\" }}, \\\"size\\\": 10000, \\\"y\\\": {\\\"z\\\\\"");
+    }
+
+    @Test
+    void should_not_compile_request_without_parameter() {
+        assertThatThrownBy(() -> SearchRequest.of(matchPhrase("data.envelopeId", "abc")).compile())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Search request must have exactly one parameter");
+    }
+
+    @Test
+    void should_not_compile_request_with_more_than_one_parameter() {
+        SearchRequest request = SearchRequest.of(anyOf(List.of(
+            matchPhrase("data.envelopeId", PARAMETER),
+            matchPhrase("data.bulkScanCaseReference", PARAMETER)
+        )));
+
+        assertThatThrownBy(request::compile)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Search request must have exactly one parameter");
+    }
+}
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableMap;
 import feign.FeignException;
 import feign.Request;
 import feign.Response;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,17 +15,21 @@ import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.JurisdictionConfigura
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam.cache.CachedIdamCredential;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam.cache.IdamCachedClient;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData.USER_ID;
 import static uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData.USER_TOKEN;
@@ -64,10 +69,12 @@ class AuthenticationCheckerTest {
 
     @BeforeEach
     void setUp() {
-        JurisdictionToUserMapping mapping = new JurisdictionToUserMapping();
-        mapping.setUsers(USERS);
+        authenticationChecker = authenticationChecker(Duration.ZERO, Duration.ofSeconds(10));
+    }
 
-        authenticationChecker = new AuthenticationChecker(mapping, idamClient);
+    @AfterEach
+    void tearDown() {
+        authenticationChecker.shutdown();
     }
 
     @Test
@@ -159,6 +166,105 @@ class AuthenticationCheckerTest {
             .as("Result should contain a correct entry for each configured jurisdiction");
     }
 
+    @Test
+    void checkSignInForAllJurisdictions_should_return_last_statuses_while_they_are_valid() {
+        authenticationChecker.shutdown();
+        authenticationChecker = authenticationChecker(Duration.ofMinutes(5), Duration.ofSeconds(10));
+
+        willReturn(CACHED_IDAM_CREDENTIAL).given(idamClient).getIdamCredentials(anyString());
+
+        List<JurisdictionConfigurationStatus> statuses1 = authenticationChecker.checkSignInForAllJurisdictions();
+        List<JurisdictionConfigurationStatus> statuses2 = authenticationChecker.checkSignInForAllJurisdictions();
+
+        assertThat(statuses2).isSameAs(statuses1);
+        assertThat(authenticationChecker.getLastSignInCheck())
+            .hasValueSatisfying(check -> assertThat(check.statuses).isSameAs(statuses1));
+        verify(idamClient, times(USERS.size())).getIdamCredentials(anyString());
+    }
+
+    @Test
+    void checkSignInForAllJurisdictions_should_check_again_when_last_statuses_contain_failure() {
+        authenticationChecker.shutdown();
+        authenticationChecker = authenticationChecker(Duration.ofMinutes(5), Duration.ofSeconds(10));
+
+        willReturn(CACHED_IDAM_CREDENTIAL)
+            .given(idamClient)
+            .getIdamCredentials(SUCCESSFUL_JURISDICTION);
+
+        // account gets unlocked after the first check
+        willThrow(createFeignException(HttpStatus.LOCKED.value()))
+            .willReturn(CACHED_IDAM_CREDENTIAL)
+            .given(idamClient)
+            .getIdamCredentials(LOCKED_ACCOUNT_JURISDICTION);
+
+        List<JurisdictionConfigurationStatus> statuses1 = authenticationChecker.checkSignInForAllJurisdictions();
+        List<JurisdictionConfigurationStatus> statuses2 = authenticationChecker.checkSignInForAllJurisdictions();
+
+        assertThat(statuses1)
+            .extracting(status -> tuple(status.jurisdiction, status.isCorrect))
+            .containsExactlyInAnyOrder(
+                tuple(SUCCESSFUL_JURISDICTION, true),
+                tuple(LOCKED_ACCOUNT_JURISDICTION, false)
+            );
+        assertThat(statuses2)
+            .extracting(status -> tuple(status.jurisdiction, status.isCorrect))
+            .containsExactlyInAnyOrder(
+                tuple(SUCCESSFUL_JURISDICTION, true),
+                tuple(LOCKED_ACCOUNT_JURISDICTION, true)
+            );
+        assertThat(authenticationChecker.getLastSignInCheck())
+            .hasValueSatisfying(check -> assertThat(check.statuses).isSameAs(statuses2));
+        verify(idamClient, times(2)).getIdamCredentials(LOCKED_ACCOUNT_JURISDICTION);
+    }
+
+    @Test
+    void checkSignInForAllJurisdictions_should_check_again_when_last_statuses_are_no_longer_valid() {
+        willReturn(CACHED_IDAM_CREDENTIAL).given(idamClient).getIdamCredentials(anyString());
+
+        authenticationChecker.checkSignInForAllJurisdictions();
+        authenticationChecker.checkSignInForAllJurisdictions();
+
+        verify(idamClient, times(2 * USERS.size())).getIdamCredentials(anyString());
+    }
+
+    @Test
+    void checkSignInForAllJurisdictions_should_return_failure_for_jurisdiction_not_checked_in_time() {
+        authenticationChecker.shutdown();
+        authenticationChecker = authenticationChecker(Duration.ZERO, Duration.ofMillis(200));
+
+        willReturn(CACHED_IDAM_CREDENTIAL)
+            .given(idamClient)
+            .getIdamCredentials(SUCCESSFUL_JURISDICTION);
+
+        willAnswer(invocation -> {
+            Thread.sleep(2000);
+            return CACHED_IDAM_CREDENTIAL;
+        })
+            .given(idamClient)
+            .getIdamCredentials(LOCKED_ACCOUNT_JURISDICTION);
+
+        assertThat(authenticationChecker.checkSignInForAllJurisdictions())
+            .extracting(status -> tuple(status.jurisdiction, status.isCorrect, status.errorDescription))
+            .containsExactlyInAnyOrder(
+                tuple(SUCCESSFUL_JURISDICTION, true, null),
+                tuple(LOCKED_ACCOUNT_JURISDICTION, false, "Sign in did not complete within PT0.2S")
+            );
+    }
+
+    @Test
+    void getLastSignInCheck_should_be_empty_before_first_check() {
+        assertThat(authenticationChecker.getLastSignInCheck()).isEmpty();
+
+        verify(idamClient, never()).getIdamCredentials(anyString());
+    }
+
+    private AuthenticationChecker authenticationChecker(Duration checkValidityDuration, Duration checkTimeout) {
+        JurisdictionToUserMapping mapping = new JurisdictionToUserMapping();
+        mapping.setUsers(USERS);
+
+        return new AuthenticationChecker(mapping, idamClient, checkValidityDuration, checkTimeout, false);
+    }
+
     private FeignException createFeignException(int httpStatus) {
         return FeignException
             .errorStatus("method1", Response
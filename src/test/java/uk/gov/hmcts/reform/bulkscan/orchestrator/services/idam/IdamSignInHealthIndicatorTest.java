@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.JurisdictionConfigurationStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdamSignInHealthIndicatorTest {
+
+    @Mock
+    private AuthenticationChecker authenticationChecker;
+
+    private IdamSignInHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        healthIndicator = new IdamSignInHealthIndicator(authenticationChecker);
+    }
+
+    @Test
+    void should_be_unknown_when_sign_in_has_not_been_checked() {
+        // given
+        given(authenticationChecker.getLastSignInCheck()).willReturn(Optional.empty());
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+        verify(authenticationChecker, never()).checkSignInForAllJurisdictions();
+    }
+
+    @Test
+    void should_be_up_when_no_jurisdiction_is_rejected() {
+        // given
+        givenLastCheck(
+            new JurisdictionConfigurationStatus("bulkscan", true),
+            new JurisdictionConfigurationStatus("probate", false, "Sign in did not complete within PT10S", null)
+        );
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails())
+            .containsEntry("rejectedJurisdictions", List.of())
+            .containsEntry("failedJurisdictions", List.of("probate"));
+        verify(authenticationChecker, never()).checkSignInForAllJurisdictions();
+    }
+
+    @Test
+    void should_be_down_when_jurisdiction_is_rejected() {
+        // given
+        givenLastCheck(
+            new JurisdictionConfigurationStatus("bulkscan", true),
+            new JurisdictionConfigurationStatus("divorce", false, "Account locked", 423)
+        );
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("rejectedJurisdictions", List.of("divorce"));
+    }
+
+    private void givenLastCheck(JurisdictionConfigurationStatus... statuses) {
+        Instant checkedAt = Instant.now();
+        given(authenticationChecker.getLastSignInCheck()).willReturn(Optional.of(
+            new AuthenticationChecker.SignInCheck(List.of(statuses), checkedAt, checkedAt.plusSeconds(300))
+        ));
+    }
+}
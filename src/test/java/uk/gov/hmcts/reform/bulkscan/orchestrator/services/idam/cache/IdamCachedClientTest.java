@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.bulkscan.orchestrator.services.idam.cache;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,12 +13,16 @@ import uk.gov.hmcts.reform.idam.client.models.TokenResponse;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 
@@ -76,10 +81,17 @@ class IdamCachedClientTest {
         this.idamCachedClient = new IdamCachedClient(
             idamApi,
             users,
-            new IdamCacheExpiry(refreshTokenBeforeExpiry)
+            new IdamCacheExpiry(refreshTokenBeforeExpiry),
+            0,
+            false
         );
     }
 
+    @AfterEach
+    void tearDown() {
+        idamCachedClient.shutdown();
+    }
+
     @Test
     void should_get_credentials_when_no_error() {
         String jurisdiction = "divorce";
@@ -158,7 +170,9 @@ class IdamCachedClientTest {
         IdamCachedClient idamCachedClientQuickExpiry = new IdamCachedClient(
             idamApi,
             users,
-            new IdamCacheExpiry(28798)
+            new IdamCacheExpiry(28798),
+            0,
+            false
         );
 
         String jurisdiction = "probate";
@@ -218,4 +232,144 @@ class IdamCachedClientTest {
         verify(idamApi, times(2)).getAccessTokenResponse(any(), any());
         verify(idamApi, times(2)).getUserInfo(any());
     }
+
+    @Test
+    void should_refresh_token_in_background_before_it_expires() throws InterruptedException {
+        // 5 seconds expiry, refreshed after 2 seconds
+        IdamCachedClient idamCachedClientRefreshAhead = new IdamCachedClient(
+            idamApi,
+            users,
+            new IdamCacheExpiry(28795),
+            3,
+            false
+        );
+
+        String jurisdiction = "probate";
+
+        given(users.getUser(jurisdiction)).willReturn(new Credential(USERNAME, PASSWORD));
+        given(idamApi.getAccessTokenResponse(USERNAME, PASSWORD)).willReturn(TOKEN_RESPONSE_1, TOKEN_RESPONSE_2);
+        given(idamApi.getUserInfo(JWT_WITH_BEARER_1)).willReturn(USER_INFO);
+        given(idamApi.getUserInfo(JWT_WITH_BEARER_2)).willReturn(USER_INFO);
+
+        try {
+            CachedIdamCredential cachedIdamCredential1 =
+                idamCachedClientRefreshAhead.getIdamCredentials(jurisdiction);
+
+            TimeUnit.SECONDS.sleep(3);
+
+            CachedIdamCredential cachedIdamCredential2 =
+                idamCachedClientRefreshAhead.getIdamCredentials(jurisdiction);
+
+            assertThat(cachedIdamCredential1.accessToken).isEqualTo(JWT_WITH_BEARER_1);
+            assertThat(cachedIdamCredential2.accessToken).isEqualTo(JWT_WITH_BEARER_2);
+            verify(idamApi, times(2)).getAccessTokenResponse(any(), any());
+        } finally {
+            idamCachedClientRefreshAhead.shutdown();
+        }
+    }
+
+    @Test
+    void should_keep_cached_token_when_background_refresh_fails() throws InterruptedException {
+        // 5 seconds expiry, refreshed after 2 seconds
+        IdamCachedClient idamCachedClientRefreshAhead = new IdamCachedClient(
+            idamApi,
+            users,
+            new IdamCacheExpiry(28795),
+            3,
+            false
+        );
+
+        String jurisdiction = "probate";
+
+        given(users.getUser(jurisdiction)).willReturn(new Credential(USERNAME, PASSWORD));
+        given(idamApi.getAccessTokenResponse(USERNAME, PASSWORD))
+            .willReturn(TOKEN_RESPONSE_1)
+            .willThrow(new IllegalStateException("IDAM unavailable"));
+        given(idamApi.getUserInfo(JWT_WITH_BEARER_1)).willReturn(USER_INFO);
+
+        try {
+            idamCachedClientRefreshAhead.getIdamCredentials(jurisdiction);
+
+            TimeUnit.SECONDS.sleep(3);
+
+            CachedIdamCredential cachedIdamCredential =
+                idamCachedClientRefreshAhead.getIdamCredentials(jurisdiction);
+
+            assertThat(cachedIdamCredential.accessToken).isEqualTo(JWT_WITH_BEARER_1);
+            verify(idamApi, times(2)).getAccessTokenResponse(any(), any());
+        } finally {
+            idamCachedClientRefreshAhead.shutdown();
+        }
+    }
+
+    @Test
+    void should_retrieve_tokens_of_all_jurisdictions_on_prewarm() throws Exception {
+        IdamCachedClient idamCachedClientPrewarm = new IdamCachedClient(
+            idamApi,
+            users,
+            new IdamCacheExpiry(refreshTokenBeforeExpiry),
+            0,
+            true
+        );
+
+        given(users.getUsers()).willReturn(Map.of(
+            "divorce", new Credential(USERNAME, PASSWORD),
+            "cmc", new Credential(USERNAME + 2, PASSWORD + 2)
+        ));
+        given(users.getUser("divorce")).willReturn(new Credential(USERNAME, PASSWORD));
+        given(users.getUser("cmc")).willReturn(new Credential(USERNAME + 2, PASSWORD + 2));
+        given(idamApi.getAccessTokenResponse(USERNAME, PASSWORD)).willReturn(TOKEN_RESPONSE_1);
+        given(idamApi.getAccessTokenResponse(USERNAME + 2, PASSWORD + 2))
+            .willThrow(new IllegalStateException("IDAM unavailable"));
+        given(idamApi.getUserInfo(JWT_WITH_BEARER_1)).willReturn(USER_INFO);
+
+        try {
+            idamCachedClientPrewarm.prewarmAll().get(5, TimeUnit.SECONDS);
+
+            CachedIdamCredential cachedIdamCredential = idamCachedClientPrewarm.getIdamCredentials("divorce");
+
+            assertThat(cachedIdamCredential.accessToken).isEqualTo(JWT_WITH_BEARER_1);
+            verify(idamApi).getAccessTokenResponse(USERNAME, PASSWORD);
+            verify(idamApi).getAccessTokenResponse(USERNAME + 2, PASSWORD + 2);
+        } finally {
+            idamCachedClientPrewarm.shutdown();
+        }
+    }
+
+    @Test
+    void should_not_wait_for_idam_on_prewarm() throws Exception {
+        IdamCachedClient idamCachedClientPrewarm = new IdamCachedClient(
+            idamApi,
+            users,
+            new IdamCacheExpiry(refreshTokenBeforeExpiry),
+            0,
+            true
+        );
+
+        var idamResponded = new CountDownLatch(1);
+        given(users.getUsers()).willReturn(Map.of("divorce", new Credential(USERNAME, PASSWORD)));
+        given(users.getUser("divorce")).willReturn(new Credential(USERNAME, PASSWORD));
+        given(idamApi.getAccessTokenResponse(USERNAME, PASSWORD)).willAnswer(invocation -> {
+            idamResponded.await(5, TimeUnit.SECONDS);
+            return TOKEN_RESPONSE_1;
+        });
+
+        try {
+            // returns while IDAM has not responded yet
+            idamCachedClientPrewarm.prewarm();
+
+            verify(idamApi, timeout(5000)).getAccessTokenResponse(USERNAME, PASSWORD);
+            idamResponded.countDown();
+        } finally {
+            idamCachedClientPrewarm.shutdown();
+        }
+    }
+
+    @Test
+    void should_not_prewarm_when_disabled() {
+        idamCachedClient.prewarm();
+
+        verify(users, never()).getUsers();
+        verify(idamApi, never()).getAccessTokenResponse(any(), any());
+    }
 }
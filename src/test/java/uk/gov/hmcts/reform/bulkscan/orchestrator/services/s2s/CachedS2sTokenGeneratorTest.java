@@ -0,0 +1,154 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.s2s;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.out.S2sTokenStatistics;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CachedS2sTokenGeneratorTest {
+
+    @Mock
+    private AuthTokenGenerator cachingGenerator;
+
+    @Mock
+    private AuthTokenGenerator primedGenerator;
+
+    private CachedS2sTokenGenerator generator;
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+    }
+
+    @Test
+    void should_return_token_of_caching_generator_and_count_new_tokens() {
+        // given
+        String token = token(Instant.now().plus(Duration.ofHours(4)));
+        String newToken = token(Instant.now().plus(Duration.ofHours(8)));
+        given(cachingGenerator.generate()).willReturn(token, token, newToken);
+        generator = new CachedS2sTokenGenerator(() -> cachingGenerator, Duration.ofMinutes(1), Duration.ZERO, false);
+
+        // when
+        String token1 = generator.generate();
+        String token2 = generator.generate();
+        String token3 = generator.generate();
+
+        // then
+        assertThat(token1).isEqualTo(token);
+        assertThat(token2).isEqualTo(token);
+        assertThat(token3).isEqualTo(newToken);
+
+        S2sTokenStatistics statistics = generator.getStatistics();
+        assertThat(statistics.generateCount).isEqualTo(3);
+        assertThat(statistics.fetchCount).isEqualTo(2);
+        assertThat(statistics.expiresAt).isEqualTo(Instant.ofEpochSecond(tokenExpiry(newToken)));
+    }
+
+    @Test
+    void should_rethrow_exception_of_caching_generator() {
+        // given
+        given(cachingGenerator.generate()).willThrow(new IllegalStateException("S2S unavailable"));
+        generator = new CachedS2sTokenGenerator(() -> cachingGenerator, Duration.ofMinutes(1), Duration.ZERO, false);
+
+        // when
+        // then
+        assertThatThrownBy(() -> generator.generate())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("S2S unavailable");
+        assertThat(generator.getStatistics().failedFetchCount).isEqualTo(1);
+    }
+
+    @Test
+    void should_use_default_lifetime_when_token_has_no_expiry() {
+        // given
+        given(cachingGenerator.generate()).willReturn("not-a-jwt");
+        generator = new CachedS2sTokenGenerator(() -> cachingGenerator, Duration.ofMinutes(1), Duration.ZERO, false);
+
+        // when
+        generator.generate();
+
+        // then
+        S2sTokenStatistics statistics = generator.getStatistics();
+        assertThat(statistics.expiresAt).isEqualTo(statistics.fetchedAt.plus(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void should_renew_token_in_background_before_it_becomes_stale() throws InterruptedException {
+        // given
+        // stale after 2 seconds, renewed in the background within the second before
+        String oldToken = token(Instant.now().plusSeconds(62));
+        String newToken = token(Instant.now().plus(Duration.ofHours(4)));
+        given(cachingGenerator.generate()).willReturn(oldToken);
+        given(primedGenerator.generate()).willReturn(newToken);
+        Queue<AuthTokenGenerator> generators = new ArrayDeque<>(List.of(cachingGenerator, primedGenerator));
+        generator = new CachedS2sTokenGenerator(generators::poll, Duration.ofMinutes(1), Duration.ofSeconds(1), true);
+        generator.generate();
+
+        // when
+        TimeUnit.SECONDS.sleep(3);
+        String token = generator.generate();
+
+        // then
+        assertThat(token).isEqualTo(newToken);
+        verify(cachingGenerator).generate();
+        verify(primedGenerator, times(2)).generate();
+
+        S2sTokenStatistics statistics = generator.getStatistics();
+        assertThat(statistics.backgroundRefreshCount).isEqualTo(1);
+        assertThat(statistics.fetchCount).isEqualTo(2);
+    }
+
+    @Test
+    void should_keep_current_token_when_background_refresh_fails() throws InterruptedException {
+        // given
+        String oldToken = token(Instant.now().plusSeconds(62));
+        given(cachingGenerator.generate()).willReturn(oldToken);
+        given(primedGenerator.generate()).willThrow(new IllegalStateException("S2S unavailable"));
+        Queue<AuthTokenGenerator> generators = new ArrayDeque<>(List.of(cachingGenerator, primedGenerator));
+        generator = new CachedS2sTokenGenerator(generators::poll, Duration.ofMinutes(1), Duration.ofSeconds(1), true);
+        generator.generate();
+
+        // when
+        TimeUnit.SECONDS.sleep(3);
+        String token = generator.generate();
+
+        // then
+        assertThat(token).isEqualTo(oldToken);
+        verify(primedGenerator).generate();
+
+        S2sTokenStatistics statistics = generator.getStatistics();
+        assertThat(statistics.backgroundRefreshCount).isZero();
+        assertThat(statistics.failedFetchCount).isEqualTo(1);
+    }
+
+    private static String token(Instant expiry) {
+        String payload = "{\"sub\":\"bulk_scan_orchestrator\",\"exp\":" + expiry.getEpochSecond() + "}";
+        return "Bearer eyJhbGciOiJIUzUxMiJ9."
+            + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+            + ".signature";
+    }
+
+    private static long tokenExpiry(String token) {
+        String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8);
+        return Long.parseLong(payload.replaceAll(".*\"exp\":(\\d+).*", "$1"));
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.processedenvelopeoutbox.ProcessedEnvelopeOutboxRepository;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.NotificationSendingException;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.OutboxProcessedEnvelopeNotifier;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction.AUTO_ATTACHED_TO_CASE;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction.EXCEPTION_RECORD;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxProcessedEnvelopeNotifierTest {
+
+    private OutboxProcessedEnvelopeNotifier notifier;
+
+    @Mock
+    private ProcessedEnvelopeOutboxRepository outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        notifier = new OutboxProcessedEnvelopeNotifier(outboxRepository);
+    }
+
+    @Test
+    void notify_should_store_notification_in_outbox() {
+        // given
+        given(outboxRepository.insert("envelopeId123", 4342349506L, AUTO_ATTACHED_TO_CASE)).willReturn(true);
+
+        // when
+        notifier.notify("envelopeId123", 4342349506L, AUTO_ATTACHED_TO_CASE);
+
+        // then
+        verify(outboxRepository).insert("envelopeId123", 4342349506L, AUTO_ATTACHED_TO_CASE);
+    }
+
+    @Test
+    void notify_should_throw_exception_when_storing_notification_fails() {
+        DataAccessResourceFailureException exceptionToThrow = new DataAccessResourceFailureException("test");
+        given(outboxRepository.insert(any(), any(), any())).willThrow(exceptionToThrow);
+
+        assertThatThrownBy(() -> notifier.notify("envelopeId123", 2321L, EXCEPTION_RECORD))
+            .isInstanceOf(NotificationSendingException.class)
+            .hasMessage("An error occurred when trying to store notification about successfully processed envelope")
+            .hasCause(exceptionToThrow);
+    }
+}
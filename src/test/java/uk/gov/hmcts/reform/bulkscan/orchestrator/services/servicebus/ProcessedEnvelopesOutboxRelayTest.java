@@ -0,0 +1,190 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus;
+
+import com.azure.messaging.servicebus.ServiceBusErrorSource;
+import com.azure.messaging.servicebus.ServiceBusException;
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.processedenvelopeoutbox.OutboxEntry;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.data.processedenvelopeoutbox.ProcessedEnvelopeOutboxRepository;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.ProcessedEnvelopesOutboxRelay;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction.AUTO_CREATED_CASE;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction.EXCEPTION_RECORD;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedEnvelopesOutboxRelayTest {
+
+    private static final OutboxEntry ENTRY_1 = new OutboxEntry("envelope1", 1L, AUTO_CREATED_CASE, Instant.now());
+    private static final OutboxEntry ENTRY_2 = new OutboxEntry("envelope2", 2L, EXCEPTION_RECORD, Instant.now());
+    private static final OutboxEntry ENTRY_3 = new OutboxEntry("envelope3", 3L, EXCEPTION_RECORD, Instant.now());
+
+    @Mock
+    private ProcessedEnvelopeOutboxRepository outboxRepository;
+
+    @Mock
+    private ServiceBusSenderClient queueClient;
+
+    private ProcessedEnvelopesOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new ProcessedEnvelopesOutboxRelay(outboxRepository, queueClient, new ObjectMapper());
+    }
+
+    @Test
+    void should_send_notifications_in_one_batch_and_remove_them_from_outbox() {
+        // given
+        given(outboxRepository.findOldestForUpdate(10)).willReturn(List.of(ENTRY_1, ENTRY_2));
+        FakeBatch batch = new FakeBatch(10);
+        given(queueClient.createMessageBatch()).willReturn(batch.mock);
+
+        // when
+        int sent = relay.relay(10);
+
+        // then
+        assertThat(sent).isEqualTo(2);
+        verify(queueClient).sendMessages(batch.mock);
+        assertThat(batch.messages)
+            .extracting(ServiceBusMessage::getMessageId)
+            .containsExactly("envelope1", "envelope2");
+        verify(outboxRepository).delete(List.of("envelope1", "envelope2"));
+    }
+
+    @Test
+    void should_start_new_batch_when_current_one_is_full() {
+        // given
+        given(outboxRepository.findOldestForUpdate(10)).willReturn(List.of(ENTRY_1, ENTRY_2, ENTRY_3));
+        FakeBatch firstBatch = new FakeBatch(2);
+        FakeBatch secondBatch = new FakeBatch(2);
+        given(queueClient.createMessageBatch()).willReturn(firstBatch.mock, secondBatch.mock);
+
+        // when
+        int sent = relay.relay(10);
+
+        // then
+        assertThat(sent).isEqualTo(3);
+        verify(queueClient, times(2)).sendMessages(any(ServiceBusMessageBatch.class));
+        assertThat(secondBatch.messages).extracting(ServiceBusMessage::getMessageId).containsExactly("envelope3");
+        verify(outboxRepository).delete(List.of("envelope1", "envelope2", "envelope3"));
+    }
+
+    @Test
+    void should_only_remove_sent_notifications_when_sending_fails() {
+        // given
+        given(outboxRepository.findOldestForUpdate(10)).willReturn(List.of(ENTRY_1, ENTRY_2, ENTRY_3));
+        FakeBatch firstBatch = new FakeBatch(2);
+        FakeBatch secondBatch = new FakeBatch(2);
+        given(queueClient.createMessageBatch()).willReturn(firstBatch.mock, secondBatch.mock);
+        willThrow(new ServiceBusException(new IllegalStateException("test"), ServiceBusErrorSource.SEND))
+            .given(queueClient).sendMessages(secondBatch.mock);
+
+        // when
+        int sent = relay.relay(10);
+
+        // then
+        assertThat(sent).isEqualTo(2);
+        verify(outboxRepository).delete(List.of("envelope1", "envelope2"));
+    }
+
+    @Test
+    void should_not_send_anything_when_outbox_is_empty() {
+        // given
+        given(outboxRepository.findOldestForUpdate(10)).willReturn(List.of());
+        FakeBatch batch = new FakeBatch(10);
+        given(queueClient.createMessageBatch()).willReturn(batch.mock);
+
+        // when
+        int sent = relay.relay(10);
+
+        // then
+        assertThat(sent).isZero();
+        verify(queueClient, never()).sendMessages(any(ServiceBusMessageBatch.class));
+    }
+
+    @Test
+    void should_remove_notification_too_large_for_empty_batch_and_send_the_rest() {
+        // given
+        given(outboxRepository.findOldestForUpdate(10)).willReturn(List.of(ENTRY_1, ENTRY_2, ENTRY_3));
+        FakeBatch firstBatch = new FakeBatch(1);
+        FakeBatch secondBatch = new FakeBatch(10);
+        given(queueClient.createMessageBatch()).willReturn(firstBatch.mock, secondBatch.mock);
+        // second notification doesn't fit in an empty batch either
+        willReturn(false)
+            .given(secondBatch.mock)
+            .tryAddMessage(argThat((ServiceBusMessage message) -> "envelope2".equals(message.getMessageId())));
+
+        // when
+        int sent = relay.relay(10);
+
+        // then
+        assertThat(sent).isEqualTo(2);
+        verify(queueClient).sendMessages(firstBatch.mock);
+        verify(queueClient).sendMessages(secondBatch.mock);
+        assertThat(secondBatch.messages).extracting(ServiceBusMessage::getMessageId).containsExactly("envelope3");
+        verify(outboxRepository).delete(List.of("envelope1", "envelope3", "envelope2"));
+    }
+
+    @Test
+    void should_remove_notification_which_cannot_be_serialised_and_send_the_rest() throws Exception {
+        // given
+        ObjectMapper objectMapper = mock(ObjectMapper.class);
+        given(objectMapper.writeValueAsString(any()))
+            .willThrow(new JsonMappingException(null, "test"))
+            .willReturn("{}");
+        relay = new ProcessedEnvelopesOutboxRelay(outboxRepository, queueClient, objectMapper);
+
+        given(outboxRepository.findOldestForUpdate(10)).willReturn(List.of(ENTRY_1, ENTRY_2, ENTRY_3));
+        FakeBatch batch = new FakeBatch(10);
+        given(queueClient.createMessageBatch()).willReturn(batch.mock);
+
+        // when
+        int sent = relay.relay(10);
+
+        // then
+        assertThat(sent).isEqualTo(2);
+        assertThat(batch.messages)
+            .extracting(ServiceBusMessage::getMessageId)
+            .containsExactly("envelope2", "envelope3");
+        verify(outboxRepository).delete(List.of("envelope2", "envelope3", "envelope1"));
+    }
+
+    // batch which accepts up to given number of messages
+    private static class FakeBatch {
+        final ServiceBusMessageBatch mock = mock(ServiceBusMessageBatch.class);
+        final List<ServiceBusMessage> messages = new ArrayList<>();
+
+        FakeBatch(int capacity) {
+            lenient().when(mock.tryAddMessage(any())).thenAnswer(invocation -> {
+                if (messages.size() < capacity) {
+                    messages.add(invocation.getArgument(0));
+                    return true;
+                }
+                return false;
+            });
+            lenient().when(mock.getCount()).thenAnswer(invocation -> messages.size());
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes;
+
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.IterableStream;
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusReceiverClient;
+import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.InvalidRequestException;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.model.in.DlqReplayRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeRescheduler.RETRY_ATTEMPT_PROPERTY;
+
+@ExtendWith(MockitoExtension.class)
+class DlqReplayServiceTest {
+
+    private static final String TOO_MANY_DELIVERIES = "Too many deliveries";
+    private static final Instant DEAD_LETTERED_AT = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Mock
+    private ServiceBusReceiverClient receiver;
+
+    @Mock
+    private ServiceBusSenderClient sender;
+
+    @Mock
+    private ObjectProvider<ServiceBusSenderClient> senderProvider;
+
+    private final List<ServiceBusMessage> sentMessages = new ArrayList<>();
+
+    private DlqReplayService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DlqReplayService(() -> receiver, senderProvider, 10, 1000, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void should_replay_matching_messages_and_complete_originals() {
+        // given
+        givenSenderAcceptsMessages();
+        ServiceBusReceivedMessage message1 = message(1L, TOO_MANY_DELIVERIES);
+        ServiceBusReceivedMessage message2 = message(2L, "Message processing error");
+        givenQueueContains(message1, message2);
+        given(receiver.receiveMessages(anyInt(), any(Duration.class)))
+            .willReturn(stream(message1, message2), stream());
+
+        DlqReplayJob job = new DlqReplayJob(request(TOO_MANY_DELIVERIES, null, null, null), 100);
+
+        // when
+        service.replay(job);
+
+        // then
+        assertThat(sentMessages).hasSize(1);
+        ServiceBusMessage copy = sentMessages.get(0);
+        assertThat(copy.getMessageId()).isEqualTo("msg-1-replay-1");
+        assertThat(copy.getScheduledEnqueueTime()).isNotNull();
+        assertThat(copy.getApplicationProperties())
+            .containsEntry("prop", "value")
+            .doesNotContainKeys("deadLetteredAt", RETRY_ATTEMPT_PROPERTY);
+
+        verify(receiver).complete(message1);
+        verify(receiver, never()).complete(message2);
+        verify(receiver).abandon(message2);
+        verify(receiver, never()).abandon(message1);
+        verify(receiver).close();
+
+        assertThat(job.getStatus()).isEqualTo(DlqReplayJob.Status.COMPLETED);
+        assertThat(job.getScannedCount()).isEqualTo(2);
+        assertThat(job.getSelectedCount()).isEqualTo(1);
+        assertThat(job.getReplayedCount()).isEqualTo(1);
+        assertThat(job.getNotReplayedCount()).isZero();
+    }
+
+    @Test
+    void should_select_messages_by_dead_lettered_time_and_jurisdiction() {
+        // given
+        givenSenderAcceptsMessages();
+        ServiceBusReceivedMessage message = message(1L, TOO_MANY_DELIVERIES);
+        given(message.getBody()).willReturn(BinaryData.fromBytes(SampleData.envelopeJson()));
+        givenQueueContains(message);
+        given(receiver.receiveMessages(anyInt(), any(Duration.class))).willReturn(stream(message));
+
+        DlqReplayJob job = new DlqReplayJob(
+            request(null, "bulkscan", DEAD_LETTERED_AT.minusSeconds(60), DEAD_LETTERED_AT.plusSeconds(60)),
+            100
+        );
+
+        // when
+        service.replay(job);
+
+        // then
+        verify(receiver).complete(message);
+        assertThat(job.getReplayedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_receive_messages_when_none_match() {
+        // given
+        ServiceBusReceivedMessage message = message(1L, TOO_MANY_DELIVERIES);
+        givenQueueContains(message);
+
+        DlqReplayJob job = new DlqReplayJob(request(null, null, DEAD_LETTERED_AT.plusSeconds(1), null), 100);
+
+        // when
+        service.replay(job);
+
+        // then
+        verify(receiver, never()).receiveMessages(anyInt(), any(Duration.class));
+        verify(sender, never()).sendMessages(any(ServiceBusMessageBatch.class));
+        assertThat(job.getStatus()).isEqualTo(DlqReplayJob.Status.COMPLETED);
+        assertThat(job.getScannedCount()).isEqualTo(1);
+        assertThat(job.getReplayedCount()).isZero();
+    }
+
+    @Test
+    void should_keep_replaying_selected_messages_when_non_matching_ones_come_back() {
+        // given
+        givenSenderAcceptsMessages();
+        ServiceBusReceivedMessage notMatching = message(1L, "Message processing error");
+        ServiceBusReceivedMessage message2 = message(2L, TOO_MANY_DELIVERIES);
+        ServiceBusReceivedMessage message3 = message(3L, TOO_MANY_DELIVERIES);
+        givenQueueContains(notMatching, message2, message3);
+        // lock of the non-matching message expires before message 3 is received
+        given(receiver.receiveMessages(anyInt(), any(Duration.class)))
+            .willReturn(stream(notMatching, message2), stream(notMatching), stream(notMatching, message3));
+
+        DlqReplayJob job = new DlqReplayJob(request(TOO_MANY_DELIVERIES, null, null, null), 100);
+
+        // when
+        service.replay(job);
+
+        // then
+        verify(receiver).complete(message2);
+        verify(receiver).complete(message3);
+        // at the end of the first pass and when replay finishes
+        verify(receiver, times(2)).abandon(notMatching);
+        assertThat(sentMessages.get(1).getScheduledEnqueueTime())
+            .isAfter(sentMessages.get(0).getScheduledEnqueueTime());
+
+        assertThat(job.getStatus()).isEqualTo(DlqReplayJob.Status.COMPLETED);
+        assertThat(job.getReplayedCount()).isEqualTo(2);
+        assertThat(job.getNotReplayedCount()).isZero();
+    }
+
+    @Test
+    void should_report_selected_messages_which_were_not_found() {
+        // given
+        ServiceBusReceivedMessage notMatching = message(1L, "Message processing error");
+        ServiceBusReceivedMessage matching = message(2L, TOO_MANY_DELIVERIES);
+        givenQueueContains(notMatching, matching);
+        given(senderProvider.getObject()).willReturn(sender);
+        // matching message has been removed from the queue after it was peeked
+        given(receiver.receiveMessages(anyInt(), any(Duration.class)))
+            .willReturn(stream(notMatching), stream(notMatching));
+
+        DlqReplayJob job = new DlqReplayJob(request(TOO_MANY_DELIVERIES, null, null, null), 100);
+
+        // when
+        service.replay(job);
+
+        // then
+        verify(receiver, never()).complete(any());
+        verify(receiver).abandon(notMatching);
+        assertThat(job.getStatus()).isEqualTo(DlqReplayJob.Status.COMPLETED);
+        assertThat(job.getSelectedCount()).isEqualTo(1);
+        assertThat(job.getNotReplayedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_abandon_message_too_large_to_replay() {
+        // given
+        ServiceBusMessageBatch batch = mock(ServiceBusMessageBatch.class);
+        given(batch.tryAddMessage(any())).willReturn(false);
+        given(sender.createMessageBatch()).willReturn(batch);
+        given(senderProvider.getObject()).willReturn(sender);
+
+        ServiceBusReceivedMessage message = message(1L, TOO_MANY_DELIVERIES);
+        givenQueueContains(message);
+        given(receiver.receiveMessages(anyInt(), any(Duration.class))).willReturn(stream(message));
+
+        DlqReplayJob job = new DlqReplayJob(request(null, null, null, null), 100);
+
+        // when
+        service.replay(job);
+
+        // then
+        verify(sender, never()).sendMessages(any(ServiceBusMessageBatch.class));
+        verify(receiver, never()).complete(any());
+        verify(receiver).abandon(message);
+        assertThat(job.getStatus()).isEqualTo(DlqReplayJob.Status.COMPLETED);
+        assertThat(job.getNotReplayedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_close_receiver_when_abandoning_message_fails() {
+        // given
+        givenSenderAcceptsMessages();
+        ServiceBusReceivedMessage notMatching = message(1L, "Message processing error");
+        ServiceBusReceivedMessage matching = message(2L, TOO_MANY_DELIVERIES);
+        givenQueueContains(notMatching, matching);
+        given(receiver.receiveMessages(anyInt(), any(Duration.class))).willReturn(stream(notMatching, matching));
+        willThrow(new IllegalStateException("lock expired")).given(receiver).abandon(notMatching);
+
+        DlqReplayJob job = new DlqReplayJob(request(TOO_MANY_DELIVERIES, null, null, null), 100);
+
+        // when
+        service.replay(job);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(DlqReplayJob.Status.COMPLETED);
+        verify(receiver).close();
+    }
+
+    @Test
+    void should_not_complete_originals_when_sending_fails() {
+        // given
+        ServiceBusMessageBatch batch = mock(ServiceBusMessageBatch.class);
+        given(batch.tryAddMessage(any())).willReturn(true);
+        given(sender.createMessageBatch()).willReturn(batch);
+        given(senderProvider.getObject()).willReturn(sender);
+        willThrow(new IllegalStateException("test")).given(sender).sendMessages(batch);
+
+        ServiceBusReceivedMessage message = message(1L, TOO_MANY_DELIVERIES);
+        givenQueueContains(message);
+        given(receiver.receiveMessages(anyInt(), any(Duration.class))).willReturn(stream(message));
+
+        DlqReplayJob job = new DlqReplayJob(request(null, null, null, null), 100);
+
+        // when
+        service.replay(job);
+
+        // then
+        verify(receiver, never()).complete(any());
+        assertThat(job.getStatus()).isEqualTo(DlqReplayJob.Status.FAILED);
+        assertThat(job.getError()).isEqualTo("test");
+    }
+
+    @Test
+    void should_reject_invalid_time_window() {
+        assertThatThrownBy(() -> service.startReplay(
+            request(null, null, DEAD_LETTERED_AT, DEAD_LETTERED_AT.minusSeconds(1))
+        ))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("dead_lettered_from must be before dead_lettered_to");
+    }
+
+    private void givenQueueContains(ServiceBusReceivedMessage... messages) {
+        given(receiver.peekMessages(anyInt(), anyLong())).willReturn(stream(messages), stream());
+    }
+
+    private void givenSenderAcceptsMessages() {
+        given(senderProvider.getObject()).willReturn(sender);
+        given(sender.createMessageBatch()).willAnswer(invocation -> {
+            ServiceBusMessageBatch batch = mock(ServiceBusMessageBatch.class);
+            lenient().when(batch.tryAddMessage(any())).thenAnswer(add -> sentMessages.add(add.getArgument(0)));
+            return batch;
+        });
+    }
+
+    private static ServiceBusReceivedMessage message(long sequenceNumber, String deadLetterReason) {
+        ServiceBusReceivedMessage message = mock(ServiceBusReceivedMessage.class);
+        lenient().when(message.getSequenceNumber()).thenReturn(sequenceNumber);
+        lenient().when(message.getMessageId()).thenReturn("msg-" + sequenceNumber);
+        lenient().when(message.getDeadLetterReason()).thenReturn(deadLetterReason);
+        lenient().when(message.getBody()).thenReturn(BinaryData.fromString("{}"));
+        lenient().when(message.getApplicationProperties()).thenReturn(Map.of(
+            "prop", "value",
+            "deadLetteredAt", DEAD_LETTERED_AT.toString(),
+            RETRY_ATTEMPT_PROPERTY, 3
+        ));
+        return message;
+    }
+
+    private static DlqReplayRequest request(String reason, String jurisdiction, Instant from, Instant to) {
+        return new DlqReplayRequest(reason, jurisdiction, from, to, null);
+    }
+
+    private static IterableStream<ServiceBusReceivedMessage> stream(ServiceBusReceivedMessage... messages) {
+        return new IterableStream<>(List.of(messages));
+    }
+}
@@ -0,0 +1,140 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.ccd.envelopehandlers.EnvelopeHandler;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Envelope;
+import uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeProcessingResult;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData.CASE_LEGACY_ID;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData.CASE_REF;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData.CONTAINER;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData.envelope;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Classification.EXCEPTION;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.model.Classification.SUPPLEMENTARY_EVIDENCE;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.processedenvelopes.EnvelopeCcdAction.EXCEPTION_RECORD;
+
+@ExtendWith(MockitoExtension.class)
+class EnvelopeLaneSchedulerTest {
+
+    @Mock
+    private EnvelopeHandler envelopeHandler;
+
+    private EnvelopeLaneScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void should_handle_envelope_on_calling_thread_when_lanes_are_disabled() {
+        // given
+        scheduler = new EnvelopeLaneScheduler(envelopeHandler, 0, false);
+        Envelope envelope = envelope(CASE_REF, CASE_LEGACY_ID, SUPPLEMENTARY_EVIDENCE);
+        AtomicReference<String> handlingThread = recordHandlingThread();
+
+        // when
+        EnvelopeProcessingResult result = scheduler.handleEnvelope(envelope, 1);
+
+        // then
+        assertThat(result.ccdId).isEqualTo(1L);
+        assertThat(handlingThread.get()).isEqualTo(Thread.currentThread().getName());
+        verify(envelopeHandler).handleEnvelope(envelope, 1);
+    }
+
+    @Test
+    void should_handle_envelope_without_case_reference_on_calling_thread() {
+        // given
+        scheduler = new EnvelopeLaneScheduler(envelopeHandler, 4, false);
+        Envelope envelope = envelope(null, null, EXCEPTION);
+        AtomicReference<String> handlingThread = recordHandlingThread();
+
+        // when
+        scheduler.handleEnvelope(envelope, 0);
+
+        // then
+        assertThat(handlingThread.get()).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    void should_handle_envelopes_for_the_same_case_in_the_same_lane() {
+        // given
+        scheduler = new EnvelopeLaneScheduler(envelopeHandler, 4, false);
+        AtomicReference<String> handlingThread = recordHandlingThread();
+
+        // when
+        scheduler.handleEnvelope(envelope(CASE_REF, null, SUPPLEMENTARY_EVIDENCE), 0);
+        String firstLane = handlingThread.get();
+        scheduler.handleEnvelope(envelope(CASE_REF, null, SUPPLEMENTARY_EVIDENCE), 0);
+
+        // then
+        assertThat(firstLane).startsWith("envelope-lane-");
+        assertThat(handlingThread.get()).isEqualTo(firstLane);
+    }
+
+    @Test
+    void should_handle_envelopes_on_virtual_threads_when_enabled() {
+        // given
+        scheduler = new EnvelopeLaneScheduler(envelopeHandler, 4, true);
+        AtomicReference<Boolean> virtualThread = new AtomicReference<>();
+        given(envelopeHandler.handleEnvelope(any(), anyLong())).willAnswer(invocation -> {
+            virtualThread.set(Thread.currentThread().isVirtual());
+            return new EnvelopeProcessingResult(1L, EXCEPTION_RECORD);
+        });
+
+        // when
+        scheduler.handleEnvelope(envelope(CASE_REF, null, SUPPLEMENTARY_EVIDENCE), 0);
+
+        // then
+        assertThat(virtualThread.get()).isTrue();
+    }
+
+    @Test
+    void should_rethrow_exception_thrown_by_handler_in_lane() {
+        // given
+        scheduler = new EnvelopeLaneScheduler(envelopeHandler, 2, false);
+        IllegalStateException handlerException = new IllegalStateException("test");
+        given(envelopeHandler.handleEnvelope(any(), anyLong())).willThrow(handlerException);
+
+        // when
+        Throwable exc = catchThrowable(
+            () -> scheduler.handleEnvelope(envelope(CASE_REF, null, SUPPLEMENTARY_EVIDENCE), 0)
+        );
+
+        // then
+        assertThat(exc).isSameAs(handlerException);
+    }
+
+    @Test
+    void should_use_legacy_case_reference_as_case_key_when_case_reference_is_missing() {
+        assertThat(EnvelopeLaneScheduler.getCaseKey(envelope(CASE_REF, CASE_LEGACY_ID, SUPPLEMENTARY_EVIDENCE)))
+            .isEqualTo(CONTAINER + ":" + CASE_REF);
+        assertThat(EnvelopeLaneScheduler.getCaseKey(envelope(null, CASE_LEGACY_ID, SUPPLEMENTARY_EVIDENCE)))
+            .isEqualTo(CONTAINER + ":" + CASE_LEGACY_ID);
+        assertThat(EnvelopeLaneScheduler.getCaseKey(envelope("", null, EXCEPTION)))
+            .isNull();
+    }
+
+    private AtomicReference<String> recordHandlingThread() {
+        AtomicReference<String> handlingThread = new AtomicReference<>();
+        given(envelopeHandler.handleEnvelope(any(), anyLong())).willAnswer(invocation -> {
+            handlingThread.set(Thread.currentThread().getName());
+            return new EnvelopeProcessingResult(1L, EXCEPTION_RECORD);
+        });
+        return handlingThread;
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes;
+
+import com.azure.core.util.BinaryData;
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes.EnvelopeRescheduler.RETRY_ATTEMPT_PROPERTY;
+
+@ExtendWith(MockitoExtension.class)
+class EnvelopeReschedulerTest {
+
+    @Mock
+    private ObjectProvider<ServiceBusSenderClient> senderProvider;
+
+    @Mock
+    private ServiceBusSenderClient sender;
+
+    @Mock
+    private ServiceBusReceivedMessage message;
+
+    private EnvelopeRescheduler rescheduler;
+
+    @BeforeEach
+    void setUp() {
+        rescheduler = new EnvelopeRescheduler(senderProvider);
+        given(senderProvider.getObject()).willReturn(sender);
+    }
+
+    @Test
+    void should_schedule_copy_of_the_message_with_retry_attempt() {
+        // given
+        Instant retryAt = Instant.parse("2024-01-01T10:00:00Z");
+        given(message.getBody()).willReturn(BinaryData.fromString("{}"));
+        given(message.getMessageId()).willReturn("msg-id");
+        given(message.getContentType()).willReturn("application/json");
+        given(message.getApplicationProperties()).willReturn(Map.of("prop", "value"));
+
+        // when
+        rescheduler.reschedule(message, 2, retryAt);
+
+        // then
+        ArgumentCaptor<ServiceBusMessage> messageCaptor = ArgumentCaptor.forClass(ServiceBusMessage.class);
+        verify(sender).scheduleMessage(messageCaptor.capture(), eq(retryAt.atOffset(ZoneOffset.UTC)));
+
+        ServiceBusMessage copy = messageCaptor.getValue();
+        assertThat(copy.getBody().toString()).isEqualTo("{}");
+        assertThat(copy.getMessageId()).isEqualTo("msg-id-retry-2");
+        assertThat(copy.getContentType()).isEqualTo("application/json");
+        assertThat(copy.getApplicationProperties())
+            .containsEntry("prop", "value")
+            .containsEntry(RETRY_ATTEMPT_PROPERTY, 2);
+    }
+
+    @Test
+    void should_not_chain_retry_suffixes_in_message_id() {
+        // given
+        given(message.getBody()).willReturn(BinaryData.fromString("{}"));
+        given(message.getMessageId()).willReturn("msg-id-retry-2");
+        given(message.getApplicationProperties()).willReturn(Map.of(RETRY_ATTEMPT_PROPERTY, 2));
+
+        // when
+        rescheduler.reschedule(message, 3, Instant.now());
+
+        // then
+        ArgumentCaptor<ServiceBusMessage> messageCaptor = ArgumentCaptor.forClass(ServiceBusMessage.class);
+        verify(sender).scheduleMessage(messageCaptor.capture(), any(OffsetDateTime.class));
+        assertThat(messageCaptor.getValue().getMessageId()).isEqualTo("msg-id-retry-3");
+        assertThat(messageCaptor.getValue().getApplicationProperties()).containsEntry(RETRY_ATTEMPT_PROPERTY, 3);
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.bulkscan.orchestrator.services.servicebus.domains.envelopes;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnvelopeRetryBackoffTest {
+
+    private final EnvelopeRetryBackoff backoff =
+        new EnvelopeRetryBackoff(true, Duration.ofSeconds(30), Duration.ofMinutes(30));
+
+    @Test
+    void should_double_the_delay_with_every_attempt() {
+        assertThat(backoff.getDelay(1)).isBetween(Duration.ofSeconds(15), Duration.ofSeconds(30));
+        assertThat(backoff.getDelay(2)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(60));
+        assertThat(backoff.getDelay(4)).isBetween(Duration.ofMinutes(2), Duration.ofMinutes(4));
+    }
+
+    @Test
+    void should_not_exceed_max_delay() {
+        assertThat(backoff.getDelay(10)).isBetween(Duration.ofMinutes(15), Duration.ofMinutes(30));
+        assertThat(backoff.getDelay(Integer.MAX_VALUE)).isBetween(Duration.ofMinutes(15), Duration.ofMinutes(30));
+    }
+}
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.bulkscan.orchestrator.tasks;
 
-import com.azure.core.util.BinaryData;
 import com.azure.core.util.IterableStream;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
 import com.azure.messaging.servicebus.ServiceBusReceiverClient;
@@ -11,22 +10,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import uk.gov.hmcts.reform.bulkscan.orchestrator.SampleData;
 import uk.gov.hmcts.reform.bulkscan.orchestrator.errorhandling.exceptions.ConnectionException;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.TimeZone;
-import java.util.UUID;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.ThrowableAssert.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,17 +35,14 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 @ExtendWith(MockitoExtension.class)
 class CleanupEnvelopesDlqTaskTest {
 
+    private static final int PEEK_BATCH_SIZE = 2;
+    private static final int RECEIVE_BATCH_SIZE = 10;
+
     private CleanupEnvelopesDlqTask cleanupDlqTask;
 
     @Mock
     private ServiceBusReceiverClient messageReceiver;
 
-    @Mock
-    private ServiceBusReceivedMessage message;
-
-    @Mock
-    private IterableStream<ServiceBusReceivedMessage> iterableStream;
-
     @Mock
     private Supplier<ServiceBusReceiverClient> receiverProvider;
 
@@ -58,111 +55,159 @@ class CleanupEnvelopesDlqTaskTest {
 
     @BeforeEach
     void setUp() {
-        cleanupDlqTask = new CleanupEnvelopesDlqTask(() -> messageReceiver, ttl);
+        cleanupDlqTask = new CleanupEnvelopesDlqTask(
+            () -> messageReceiver,
+            ttl,
+            PEEK_BATCH_SIZE,
+            RECEIVE_BATCH_SIZE,
+            2
+        );
     }
 
     @Test
     void should_delete_messages_from_dlq() throws Exception {
         //given
-        UUID uuid = UUID.randomUUID();
-        given(message.getBody())
-            .willReturn(BinaryData.fromBytes(SampleData.envelopeJson()));
-        given(message.getApplicationProperties())
-            .willReturn(
-                ImmutableMap.of(
-                    "deadLetteredAt",
-                    LocalDateTime.now().minus(ttl.plusSeconds(10)).toInstant(UTC).toString()
-                )
-            );
-
+        ServiceBusReceivedMessage message = message(1L, ttl.plusSeconds(10));
 
-        given(messageReceiver.receiveMessages(1, Duration.ofSeconds(1)))
-            .willReturn(iterableStream);
-
-        given(iterableStream.stream()).willReturn(Stream.of(message)).willReturn(Stream.empty());
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 0L)).willReturn(stream(message));
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 2L)).willReturn(stream());
+        given(messageReceiver.receiveMessages(RECEIVE_BATCH_SIZE, Duration.ofSeconds(1)))
+            .willReturn(stream(message));
 
         //when
         cleanupDlqTask.deleteMessagesInEnvelopesDlq();
 
         //then
-        verify(messageReceiver).renewMessageLock(message);
         verify(messageReceiver).complete(message);
 
-        verify(messageReceiver, times(1)).complete(any());
-        verify(messageReceiver, times(2)).receiveMessages(1, Duration.ofSeconds(1));
+        verify(messageReceiver, times(2)).peekMessages(anyInt(), anyLong());
+        verify(messageReceiver, times(1)).receiveMessages(RECEIVE_BATCH_SIZE, Duration.ofSeconds(1));
         verify(messageReceiver, times(1)).close();
         verifyNoMoreInteractions(messageReceiver);
     }
 
     @Test
-    void should_not_delete_messages_from_dlq_when_deadLetteredTime_is_not_set()
-        throws Exception {
+    void should_peek_in_batches_and_only_complete_messages_past_ttl() throws Exception {
+        //given
+        ServiceBusReceivedMessage oldMessage1 = message(1L, ttl.plusSeconds(10));
+        ServiceBusReceivedMessage oldMessage2 = message(2L, ttl.plusSeconds(10));
+        ServiceBusReceivedMessage newMessage = message(3L, ttl.minusSeconds(5));
+
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 0L)).willReturn(stream(oldMessage1, oldMessage2));
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 3L)).willReturn(stream(newMessage));
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 4L)).willReturn(stream());
+        given(messageReceiver.receiveMessages(RECEIVE_BATCH_SIZE, Duration.ofSeconds(1)))
+            .willReturn(stream(oldMessage1, oldMessage2, newMessage));
+
+        //when
+        cleanupDlqTask.deleteMessagesInEnvelopesDlq();
+
+        //then
+        verify(messageReceiver).complete(oldMessage1);
+        verify(messageReceiver).complete(oldMessage2);
+        verify(messageReceiver, never()).complete(newMessage);
+        verify(messageReceiver, times(1)).receiveMessages(RECEIVE_BATCH_SIZE, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void should_stop_receiving_when_messages_to_complete_are_no_longer_in_dlq() throws Exception {
         //given
-        given(messageReceiver.receiveMessages(1, Duration.ofSeconds(1)))
-            .willReturn(iterableStream);
-        given(iterableStream.stream()).willReturn(Stream.of(message)).willReturn(Stream.empty());
+        ServiceBusReceivedMessage oldMessage = message(1L, ttl.plusSeconds(10));
+        ServiceBusReceivedMessage newMessage = message(2L, ttl.minusSeconds(5));
+
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 0L)).willReturn(stream(oldMessage, newMessage));
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 3L)).willReturn(stream());
+        // old message has been removed in the meantime, new one keeps coming back
+        given(messageReceiver.receiveMessages(RECEIVE_BATCH_SIZE, Duration.ofSeconds(1)))
+            .willReturn(stream(newMessage), stream(newMessage));
 
         //when
         cleanupDlqTask.deleteMessagesInEnvelopesDlq();
 
         //then
-        verify(messageReceiver).renewMessageLock(message);
-        verify(messageReceiver, times(2)).receiveMessages(1, Duration.ofSeconds(1));
+        verify(messageReceiver, times(2)).receiveMessages(RECEIVE_BATCH_SIZE, Duration.ofSeconds(1));
+        verify(messageReceiver, never()).complete(any());
+    }
+
+    @Test
+    void should_not_receive_messages_when_deadLetteredTime_is_not_set() throws Exception {
+        //given
+        ServiceBusReceivedMessage message = mock(ServiceBusReceivedMessage.class);
+        given(message.getSequenceNumber()).willReturn(1L);
+
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 0L)).willReturn(stream(message));
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 2L)).willReturn(stream());
+
+        //when
+        cleanupDlqTask.deleteMessagesInEnvelopesDlq();
+
+        //then
+        verify(messageReceiver, times(2)).peekMessages(anyInt(), anyLong());
+        verify(messageReceiver, never()).receiveMessages(anyInt(), any(Duration.class));
         verify(messageReceiver, never()).complete(any());
         verify(messageReceiver, times(1)).close();
         verifyNoMoreInteractions(messageReceiver);
     }
 
     @Test
-    void should_leave_message_on_dlq_when_the_ttl_is_less_than_duration() throws Exception {
+    void should_not_receive_messages_when_the_ttl_is_less_than_duration() throws Exception {
         //given
-        given(message.getApplicationProperties())
-            .willReturn(
-                ImmutableMap.of(
-                    "deadLetteredAt",
-                    LocalDateTime.now().minus(ttl.minusSeconds(5)).toInstant(UTC).toString()
-                )
-            );
-        given(messageReceiver.receiveMessages(1, Duration.ofSeconds(1)))
-            .willReturn(iterableStream);
+        ServiceBusReceivedMessage message = message(1L, ttl.minusSeconds(5));
 
-        given(iterableStream.stream()).willReturn(Stream.of(message)).willReturn(Stream.empty());
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 0L)).willReturn(stream(message));
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 2L)).willReturn(stream());
 
         //when
         cleanupDlqTask.deleteMessagesInEnvelopesDlq();
 
         //then
-        verify(messageReceiver).renewMessageLock(message);
-        verify(messageReceiver, times(2)).receiveMessages(1, Duration.ofSeconds(1));
+        verify(messageReceiver, never()).receiveMessages(anyInt(), any(Duration.class));
         verify(messageReceiver, never()).complete(any());
         verify(messageReceiver, times(1)).close();
-        verifyNoMoreInteractions(messageReceiver);
     }
 
     @Test
     void should_not_complete_when_no_message_exists_in_dlq() throws Exception {
         //given
-        given(messageReceiver.receiveMessages(1, Duration.ofSeconds(1)))
-            .willReturn(iterableStream);
-
-        given(iterableStream.stream()).willReturn(Stream.empty());
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 0L)).willReturn(stream());
 
         //when
         cleanupDlqTask.deleteMessagesInEnvelopesDlq();
 
         //then
-        verify(messageReceiver,never()).renewMessageLock(any());
-        verify(messageReceiver, times(1)).receiveMessages(1, Duration.ofSeconds(1));
+        verify(messageReceiver, times(1)).peekMessages(PEEK_BATCH_SIZE, 0L);
+        verify(messageReceiver, never()).receiveMessages(anyInt(), any(Duration.class));
         verify(messageReceiver, never()).complete(any());
         verify(messageReceiver, never()).abandon(any());
         verify(messageReceiver, times(1)).close();
         verifyNoMoreInteractions(messageReceiver);
     }
 
+    @Test
+    void should_carry_on_completing_when_completing_a_message_fails() throws Exception {
+        //given
+        ServiceBusReceivedMessage message1 = message(1L, ttl.plusSeconds(10));
+        ServiceBusReceivedMessage message2 = message(2L, ttl.plusSeconds(10));
+
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 0L)).willReturn(stream(message1, message2));
+        given(messageReceiver.peekMessages(PEEK_BATCH_SIZE, 3L)).willReturn(stream());
+        given(messageReceiver.receiveMessages(RECEIVE_BATCH_SIZE, Duration.ofSeconds(1)))
+            .willReturn(stream(message1, message2));
+        doThrow(new IllegalStateException("test")).when(messageReceiver).complete(message1);
+
+        //when
+        cleanupDlqTask.deleteMessagesInEnvelopesDlq();
+
+        //then
+        verify(messageReceiver).complete(message1);
+        verify(messageReceiver).complete(message2);
+        verify(messageReceiver, times(1)).close();
+    }
+
     @Test
     void should_not_process_messages_when_exception_is_thrown() {
         //given
-        cleanupDlqTask = new CleanupEnvelopesDlqTask(receiverProvider, Duration.ZERO);
+        cleanupDlqTask = new CleanupEnvelopesDlqTask(receiverProvider, Duration.ZERO, 1, 1, 1);
 
         doThrow(ConnectionException.class).when(receiverProvider).get();
 
@@ -173,4 +218,20 @@ class CleanupEnvelopesDlqTaskTest {
         assertThat(exception).isNull();
     }
 
+    private static ServiceBusReceivedMessage message(long sequenceNumber, Duration deadLetteredAgo) {
+        ServiceBusReceivedMessage message = mock(ServiceBusReceivedMessage.class);
+        given(message.getSequenceNumber()).willReturn(sequenceNumber);
+        given(message.getApplicationProperties())
+            .willReturn(
+                ImmutableMap.of(
+                    "deadLetteredAt",
+                    LocalDateTime.now().minus(deadLetteredAgo).toInstant(UTC).toString()
+                )
+            );
+        return message;
+    }
+
+    private static IterableStream<ServiceBusReceivedMessage> stream(ServiceBusReceivedMessage... messages) {
+        return new IterableStream<>(List.of(messages));
+    }
 }